@@ -0,0 +1,43 @@
+plugins {
+    `java-library`
+    jacoco
+    id("me.champeau.jmh") version "0.7.3"
+}
+
+repositories {
+    mavenCentral()
+}
+
+// The engine core: stepping, history, events and layout math.
+// Depends on nothing but the JDK so it can run and be load-tested without a server.
+dependencies {
+    // JUnit 5 (Jupiter)
+    testImplementation(platform("org.junit:junit-bom:5.10.0"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    // Annotations only, nothing at runtime
+    compileOnly("org.jspecify:jspecify:1.0.0")
+    compileOnly("org.jetbrains:annotations:26.0.2")
+}
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(25)
+    }
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
+
+jacoco {
+    toolVersion = "0.8.14"
+}
+
+// Run with ./gradlew :core:jmh
+jmh {
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+}
@@ -0,0 +1,69 @@
+package io.github.mcalgovisualizations.visualization.engine;
+
+import io.github.mcalgovisualizations.visualization.Snapshot;
+import io.github.mcalgovisualizations.visualization.algorithms.sorting.AlgorithmStepper;
+import io.github.mcalgovisualizations.visualization.models.IntList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs many sessions in one JVM with no server, each playing one step per
+ * tick, to find how many concurrent sessions the engine sustains per tick.
+ * The renderer only consumes the snapshots, so the numbers are the engine's
+ * share of a tick.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SessionSimulationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int sessions;
+
+    @Param({"16", "128"})
+    public int size;
+
+    private Playback[] playbacks;
+    private Blackhole blackhole;
+
+    private final class HeadlessRenderer implements PlaybackRenderer {
+        @Override public void onStart() {}
+        @Override public void render(Snapshot snapshot) { blackhole.consume(snapshot); }
+        @Override public void rewind(Snapshot undone) { blackhole.consume(undone); }
+        @Override public void jumpTo(Snapshot snapshot) { blackhole.consume(snapshot); }
+        @Override public void hardReset(Snapshot snapshot) { blackhole.consume(snapshot); }
+        @Override public void onCleanup() {}
+    }
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        playbacks = new Playback[sessions];
+        for (int i = 0; i < sessions; i++) {
+            int[] values = new int[size];
+            for (int v = 0; v < size; v++) values[v] = v;
+
+            playbacks[i] = new Playback(new AlgorithmStepper(new IntList(values)), new HeadlessRenderer());
+            playbacks[i].onStart();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (var playback : playbacks) playback.close();
+    }
+
+    /** One server tick: every session advances one step, finished ones restart. */
+    @Benchmark
+    public void tick() {
+        for (var playback : playbacks) {
+            if (playback.isDone()) {
+                playback.randomize();
+            } else {
+                playback.step();
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.mcalgovisualizations.visualization.history;
+
+import io.github.mcalgovisualizations.visualization.HistorySnapshot;
+import io.github.mcalgovisualizations.visualization.algorithms.events.AlgorithmEvent;
+import io.github.mcalgovisualizations.visualization.algorithms.events.Compare;
+import io.github.mcalgovisualizations.visualization.algorithms.events.Message;
+import io.github.mcalgovisualizations.visualization.algorithms.events.Swap;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link SnapshotCodec} against the {@link ObjectOutputStream} path
+ * SnapshotManager used before.
+ * <p>
+ * The serialization baseline only writes the values, highlights and indices
+ * (events are not {@link Serializable}), so it is a lower bound for the old path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SnapshotCodecBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int size;
+
+    private HistorySnapshot previous;
+    private HistorySnapshot current;
+    private byte[] encodedKeyframe;
+    private byte[] encodedDelta;
+    private byte[] serialized;
+
+    private record LegacyState(
+            int[] values,
+            int[] highlights,
+            int currentIndex,
+            int compareIndex,
+            boolean completed
+    ) implements Serializable {}
+
+    @Setup
+    public void setup() throws IOException {
+        var random = new Random(1L);
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) values[i] = random.nextInt(size);
+
+        int[] next = values.clone();
+        int j = size / 2;
+        int tmp = next[j];
+        next[j] = next[j - 1];
+        next[j - 1] = tmp;
+
+        List<AlgorithmEvent> events = List.of(
+                new Compare(j, j - 1),
+                new Swap(j - 1, j),
+                new Message("Swapped " + j + " and " + (j - 1), Message.MessageType.INFO)
+        );
+
+        previous = new HistorySnapshot(values, new int[0], List.of(), j, j, false);
+        current = new HistorySnapshot(next, new int[]{j - 1, j}, events, j, j - 1, false);
+
+        encodedKeyframe = SnapshotCodec.encode(current, null);
+        encodedDelta = SnapshotCodec.encode(current, previous);
+        serialized = serialize();
+    }
+
+    @Benchmark
+    public byte[] codecEncodeKeyframe() {
+        return SnapshotCodec.encode(current, null);
+    }
+
+    @Benchmark
+    public byte[] codecEncodeDelta() {
+        return SnapshotCodec.encode(current, previous);
+    }
+
+    @Benchmark
+    public HistorySnapshot codecDecodeKeyframe() {
+        return SnapshotCodec.decode(encodedKeyframe, null);
+    }
+
+    @Benchmark
+    public HistorySnapshot codecDecodeDelta() {
+        return SnapshotCodec.decode(encodedDelta, previous);
+    }
+
+    @Benchmark
+    public byte[] serializationEncode() throws IOException {
+        return serialize();
+    }
+
+    @Benchmark
+    public Object serializationDecode() throws IOException, ClassNotFoundException {
+        try (var ois = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return ois.readObject();
+        }
+    }
+
+    private byte[] serialize() throws IOException {
+        try (var baos = new ByteArrayOutputStream();
+             var oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(new LegacyState(
+                    current.values(),
+                    current.highlights(),
+                    current.currentIndex(),
+                    current.compareIndex(),
+                    current.completed()
+            ));
+            oos.flush();
+            return baos.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.mcalgovisualizations.visualization.models.generators;
+
+import io.github.mcalgovisualizations.visualization.models.CsrGraph;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to generate each kind of graph at demo scale, from thousands up to a
+ * million vertices with an average degree of about four.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class GraphGeneratorsBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int vertices;
+
+    @Benchmark
+    public CsrGraph erdosRenyi() {
+        return GraphGenerators.erdosRenyi(vertices, 2 * vertices, 1);
+    }
+
+    @Benchmark
+    public CsrGraph grid() {
+        final int side = (int) Math.sqrt(vertices);
+        return GraphGenerators.grid(side, side);
+    }
+
+    @Benchmark
+    public CsrGraph barabasiAlbert() {
+        return GraphGenerators.barabasiAlbert(vertices, 2, 1);
+    }
+
+    @Benchmark
+    public CsrGraph randomGeometric() {
+        // Expected degree n * pi * r^2 = 4
+        return GraphGenerators.randomGeometric(vertices, Math.sqrt(4 / (Math.PI * vertices)), 1);
+    }
+}
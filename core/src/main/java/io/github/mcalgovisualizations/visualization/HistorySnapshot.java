@@ -0,0 +1,32 @@
+package io.github.mcalgovisualizations.visualization;
+
+import io.github.mcalgovisualizations.visualization.algorithms.OperationCounts;
+import io.github.mcalgovisualizations.visualization.algorithms.events.AlgorithmEvent;
+
+import java.util.List;
+
+/**
+ * @param counts operations the algorithm has done from the start of the run up to this step
+ */
+public record HistorySnapshot(
+        int[] values,
+        int[] highlights,
+        List<AlgorithmEvent> events,
+        int currentIndex,
+        int compareIndex,
+        boolean completed,
+        OperationCounts counts
+) implements Snapshot {
+
+    /** A snapshot without operation counts. */
+    public HistorySnapshot(
+            int[] values,
+            int[] highlights,
+            List<AlgorithmEvent> events,
+            int currentIndex,
+            int compareIndex,
+            boolean completed
+    ) {
+        this(values, highlights, events, currentIndex, compareIndex, completed, OperationCounts.ZERO);
+    }
+}
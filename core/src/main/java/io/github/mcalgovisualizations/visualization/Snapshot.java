@@ -1,5 +1,6 @@
 package io.github.mcalgovisualizations.visualization;
 
+import io.github.mcalgovisualizations.visualization.algorithms.OperationCounts;
 import io.github.mcalgovisualizations.visualization.algorithms.events.AlgorithmEvent;
 
 import java.util.List;
@@ -8,4 +9,9 @@ public interface Snapshot {
     int[] values();
     int[] highlights();
     List<AlgorithmEvent> events();
+
+    /** Operations the algorithm has done up to this state. */
+    default OperationCounts counts() {
+        return OperationCounts.ZERO;
+    }
 }
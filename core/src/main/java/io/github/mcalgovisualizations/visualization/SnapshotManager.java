@@ -0,0 +1,147 @@
+package io.github.mcalgovisualizations.visualization;
+
+import io.github.mcalgovisualizations.visualization.engine.Playback;
+import io.github.mcalgovisualizations.visualization.history.SessionHistory;
+import io.github.mcalgovisualizations.visualization.history.SpillFile;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps a bounded, encoded history per session.
+ * <p>
+ * Safe to use from player event threads and scheduler threads at the same time.
+ * Each session keeps at most {@code depth} snapshots, and all sessions together
+ * at most {@code maxBytes}. When the budget is exceeded, the oldest snapshots of
+ * the least recently used sessions are evicted first.
+ * <p>
+ * Snapshots evicted from the heap are spilled to a per-session file under
+ * {@link SpillFile#DEFAULT_DIRECTORY}, so scrubbing far back still works.
+ * <p>
+ * Defaults can be overridden with the {@code visualization.history.depth},
+ * {@code visualization.history.maxBytes} and {@code visualization.history.spill}
+ * system properties.
+ */
+public class SnapshotManager {
+    private static final SnapshotManager INSTANCE = new SnapshotManager(
+            Integer.getInteger("visualization.history.depth", 1024),
+            Long.getLong("visualization.history.maxBytes", 64L * 1024 * 1024),
+            Boolean.parseBoolean(System.getProperty("visualization.history.spill", "true"))
+                    ? SpillFile.DEFAULT_DIRECTORY
+                    : null
+    );
+
+    // Every KEYFRAME_INTERVAL-th saved snapshot is encoded in full, the rest as deltas
+    private static final int KEYFRAME_INTERVAL = 32;
+
+    // Maps a Player/Session UUID to its encoded historical states
+    private final Map<UUID, SessionHistory> history = new ConcurrentHashMap<>();
+    // Current active visualizations
+    private final Map<UUID, Playback> activeVis = new ConcurrentHashMap<>();
+
+    private final int depth;
+    private final long maxBytes;
+    private final @Nullable Path spillDirectory;
+    private final AtomicLong retainedBytes = new AtomicLong();
+
+    SnapshotManager(int depth, long maxBytes, @Nullable Path spillDirectory) {
+        if (depth <= 0) throw new IllegalArgumentException("depth must be > 0");
+        if (maxBytes <= 0) throw new IllegalArgumentException("maxBytes must be > 0");
+
+        this.depth = depth;
+        this.maxBytes = maxBytes;
+        this.spillDirectory = spillDirectory;
+    }
+
+    public static SnapshotManager getInstance() {
+        return INSTANCE;
+    }
+
+    public void assignVisualization(UUID uuid, Playback vis) {
+        this.activeVis.put(uuid, vis);
+        var previous = this.history.put(uuid, new SessionHistory(depth, KEYFRAME_INTERVAL, openSpill(uuid)));
+        if (previous != null) retainedBytes.addAndGet(-previous.clear());
+    }
+
+    /**
+     * Captures the current state of the visualization and adds it to the history.
+     */
+    public void saveSnapshot(UUID uuid) {
+        Playback current = activeVis.get(uuid);
+        SessionHistory session = history.get(uuid);
+        if (current == null || session == null) return;
+
+        HistorySnapshot snapshot = current.currentSnapshot();
+        if (snapshot == null) return;
+
+        retainedBytes.addAndGet(session.append(snapshot));
+        enforceBudget();
+    }
+
+    /**
+     * Decodes the state saved at {@code index}. Never blocks on concurrent saves.
+     *
+     * @return the snapshot, or {@code null} if it was never saved or has been evicted
+     */
+    public @Nullable HistorySnapshot loadSnapshot(UUID uuid, int index) {
+        SessionHistory session = history.get(uuid);
+        if (session == null || index < 0) return null;
+
+        return session.get(index);
+    }
+
+    public @Nullable HistorySnapshot loadLatestSnapshot(UUID uuid) {
+        SessionHistory session = history.get(uuid);
+        if (session == null) return null;
+
+        return session.get(session.nextIndex() - 1);
+    }
+
+    /**
+     * Total encoded bytes held on the heap across all sessions.
+     */
+    public long retainedBytes() {
+        return retainedBytes.get();
+    }
+
+    public void remove(UUID uuid) {
+        activeVis.remove(uuid);
+        SessionHistory session = history.remove(uuid);
+        if (session != null) retainedBytes.addAndGet(-session.clear());
+    }
+
+    private @Nullable SpillFile openSpill(UUID uuid) {
+        if (spillDirectory == null) return null;
+
+        try {
+            return SpillFile.open(spillDirectory, uuid.toString());
+        } catch (IOException e) {
+            System.err.println("History spill unavailable for " + uuid + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Evicts the oldest snapshot of the least recently used session until the
+     * global budget is met or every session is down to its latest snapshot.
+     */
+    private void enforceBudget() {
+        while (retainedBytes.get() > maxBytes) {
+            SessionHistory victim = null;
+            for (SessionHistory session : history.values()) {
+                if (session.frames() <= 1) continue;
+                if (victim == null || session.lastAccessNanos() - victim.lastAccessNanos() < 0) {
+                    victim = session;
+                }
+            }
+            if (victim == null) return;
+
+            retainedBytes.addAndGet(-victim.evictOldest());
+        }
+    }
+}
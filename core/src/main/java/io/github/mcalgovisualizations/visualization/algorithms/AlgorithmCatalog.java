@@ -0,0 +1,121 @@
+package io.github.mcalgovisualizations.visualization.algorithms;
+
+import io.github.mcalgovisualizations.visualization.models.DataModel;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.function.Function;
+
+/**
+ * Every algorithm that can be visualized, with its metadata.
+ * <p>
+ * Algorithms come from the {@link AlgorithmProvider}s on the class path, found
+ * with {@link ServiceLoader} the first time the catalog is used, plus any
+ * added with {@link #register}. Only the providers and their descriptors are
+ * loaded up front; a stepper class is loaded when its algorithm is first
+ * created, so startup does not grow with the number of algorithms.
+ * Adding an algorithm means writing its stepper and describing it in a provider.
+ */
+public final class AlgorithmCatalog {
+    private AlgorithmCatalog() {}
+
+    private record Entry(AlgorithmDescriptor descriptor, AlgorithmProvider provider) {}
+
+    // Keyed by lower-case key, in listing order; null until first used
+    private static @Nullable Map<String, Entry> entries = null;
+
+    /** Every algorithm, in the order the providers list them. */
+    public static synchronized List<AlgorithmDescriptor> all() {
+        final var out = new ArrayList<AlgorithmDescriptor>(entries().size());
+        for (var entry : entries().values()) out.add(entry.descriptor());
+        return out;
+    }
+
+    /** The algorithm registered under {@code key}, or {@code null}. */
+    public static synchronized @Nullable AlgorithmDescriptor find(String key) {
+        final var entry = entries().get(key.toLowerCase(Locale.ROOT));
+        return entry == null ? null : entry.descriptor();
+    }
+
+    public static boolean isRegistered(String key) {
+        return find(key) != null;
+    }
+
+    /**
+     * Creates a stepper for the algorithm {@code key} on {@code model}.
+     *
+     * @throws IllegalArgumentException if no algorithm is registered for {@code key}
+     *                                  or it works on another kind of model
+     */
+    public static IAlgorithmStepper create(String key, DataModel model) {
+        final Entry entry;
+        synchronized (AlgorithmCatalog.class) {
+            entry = entries().get(key.toLowerCase(Locale.ROOT));
+        }
+        if (entry == null) throw new IllegalArgumentException("No stepper registered for key: " + key);
+
+        final var modelType = entry.descriptor().modelType();
+        if (!modelType.isInstance(model)) {
+            throw new IllegalArgumentException(
+                    "Stepper '" + key + "' expects model " + modelType.getSimpleName()
+                            + " but got " + model.getClass().getSimpleName()
+            );
+        }
+
+        return entry.provider().create(entry.descriptor().key(), model);
+    }
+
+    /**
+     * Adds or replaces every algorithm of {@code provider}, for providers that
+     * are not on the class path as a service.
+     */
+    public static synchronized void register(AlgorithmProvider provider) {
+        add(entries(), provider);
+    }
+
+    /**
+     * Adds or replaces a single algorithm built by {@code ctor}.
+     */
+    public static synchronized <M extends DataModel> void register(
+            AlgorithmDescriptor descriptor,
+            Class<M> modelType,
+            Function<? super M, ? extends IAlgorithmStepper> ctor
+    ) {
+        if (descriptor.modelType() != modelType)
+            throw new IllegalArgumentException("modelType must match the descriptor's");
+
+        register(new AlgorithmProvider() {
+            @Override
+            public List<AlgorithmDescriptor> algorithms() {
+                return List.of(descriptor);
+            }
+
+            @Override
+            public IAlgorithmStepper create(String key, DataModel model) {
+                return ctor.apply(modelType.cast(model));
+            }
+        });
+    }
+
+    private static Map<String, Entry> entries() {
+        if (entries == null) {
+            final var found = new LinkedHashMap<String, Entry>();
+            for (var provider : ServiceLoader.load(AlgorithmProvider.class, AlgorithmCatalog.class.getClassLoader())) {
+                add(found, provider);
+            }
+            entries = found;
+        }
+        return entries;
+    }
+
+    private static void add(Map<String, Entry> into, AlgorithmProvider provider) {
+        for (var descriptor : provider.algorithms()) {
+            into.put(descriptor.key(), new Entry(descriptor, provider));
+        }
+    }
+}
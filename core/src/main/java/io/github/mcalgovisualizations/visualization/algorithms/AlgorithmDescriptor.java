@@ -0,0 +1,35 @@
+package io.github.mcalgovisualizations.visualization.algorithms;
+
+import io.github.mcalgovisualizations.visualization.models.DataModel;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * What the {@link AlgorithmCatalog} knows about an algorithm without loading its stepper.
+ *
+ * @param key         id used by commands, saved sessions and traces, e.g. {@code "mergesort"}; stored lower-case
+ * @param displayName name shown to players
+ * @param icon        item key of its icon in the selector, e.g. {@code "minecraft:diamond_sword"}
+ * @param description short lines explaining how it works
+ * @param complexity  e.g. {@code "Time: O(n log n) | Space: O(n)"}
+ * @param modelType   model the stepper works on
+ */
+public record AlgorithmDescriptor(
+        String key,
+        String displayName,
+        String icon,
+        List<String> description,
+        String complexity,
+        Class<? extends DataModel> modelType
+) {
+    public AlgorithmDescriptor {
+        key = Objects.requireNonNull(key, "key").toLowerCase(Locale.ROOT);
+        Objects.requireNonNull(displayName, "displayName");
+        Objects.requireNonNull(icon, "icon");
+        description = List.copyOf(description);
+        Objects.requireNonNull(complexity, "complexity");
+        Objects.requireNonNull(modelType, "modelType");
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.mcalgovisualizations.visualization.algorithms;
+
+import io.github.mcalgovisualizations.visualization.models.DataModel;
+
+import java.util.List;
+
+/**
+ * A source of algorithms for the {@link AlgorithmCatalog}, discovered with
+ * {@link java.util.ServiceLoader}. Implementations have a public no-argument
+ * constructor and are listed in
+ * {@code META-INF/services/io.github.mcalgovisualizations.visualization.algorithms.AlgorithmProvider}.
+ * <p>
+ * {@link #algorithms()} must only describe the algorithms, without touching
+ * their stepper classes, so that a stepper class is loaded the first time
+ * {@link #create(String, DataModel)} builds one.
+ */
+public interface AlgorithmProvider {
+
+    /** The algorithms this provider can create, in the order they should be listed. */
+    List<AlgorithmDescriptor> algorithms();
+
+    /**
+     * Creates the stepper of one of {@link #algorithms()}.
+     *
+     * @param key   the algorithm's {@link AlgorithmDescriptor#key()}
+     * @param model a model of the algorithm's {@link AlgorithmDescriptor#modelType()}
+     */
+    IAlgorithmStepper create(String key, DataModel model);
+}
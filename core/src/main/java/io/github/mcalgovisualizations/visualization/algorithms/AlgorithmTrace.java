@@ -0,0 +1,157 @@
+package io.github.mcalgovisualizations.visualization.algorithms;
+
+import io.github.mcalgovisualizations.visualization.HistorySnapshot;
+import io.github.mcalgovisualizations.visualization.history.StepHistory;
+import io.github.mcalgovisualizations.visualization.models.IntList;
+import org.jspecify.annotations.Nullable;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+
+/**
+ * The complete run of an algorithm on one input, recorded up front.
+ * <p>
+ * A trace is produced by driving a fresh stepper to completion, usually on a
+ * virtual thread via {@link #recordAsync(String, int[])}, and is never modified
+ * afterwards. Players then move a cursor over it instead of running algorithm
+ * logic on the tick thread, and the total step count is known before playback.
+ */
+public final class AlgorithmTrace implements AutoCloseable {
+
+    /**
+     * Upper bound on recorded steps, guards against steppers that never finish.
+     * Quadratic sorts pass it from a few thousand values; {@link TraceStepper}
+     * plays such runs live instead.
+     */
+    static final int MAX_STEPS = 1 << 22;
+
+    private static final ExecutorService RECORDER = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final String key;
+    private final int[] input;
+    private final StepHistory history;
+
+    private AlgorithmTrace(String key, int[] input, StepHistory history) {
+        this.key = key;
+        this.input = input;
+        this.history = history;
+    }
+
+    /**
+     * Runs the stepper registered under {@code key} on a copy of {@code input}
+     * until it is done, on the calling thread.
+     *
+     * @throws IllegalStateException if the stepper does not finish within {@link #MAX_STEPS}
+     */
+    public static AlgorithmTrace record(String key, int[] input) {
+        return record(key, input, () -> false);
+    }
+
+    /**
+     * Records the trace on a virtual thread. Cancelling the returned future
+     * stops the recording at the next step.
+     */
+    public static CompletableFuture<AlgorithmTrace> recordAsync(String key, int[] input) {
+        final var future = new CompletableFuture<AlgorithmTrace>();
+        final int[] copy = input.clone();
+
+        RECORDER.execute(() -> {
+            try {
+                final var trace = record(key, copy, future::isCancelled);
+                // Cancelled after the last check, nobody will close it
+                if (!future.complete(trace)) trace.close();
+            } catch (CancellationException ignored) {
+                // future already cancelled by the caller
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    private static AlgorithmTrace record(String key, int[] input, BooleanSupplier cancelled) {
+        final var stepper = AlgorithmCatalog.create(key, new IntList(input.clone()));
+
+        try {
+            // The stepper records every step into its own history, which the trace takes over
+            stepper.onStart();
+            while (stepper.advance()) {
+                if (cancelled.getAsBoolean()) throw new CancellationException("Recording of " + key + " cancelled");
+                if (stepper.stepCount() >= MAX_STEPS)
+                    throw new IllegalStateException("Stepper '" + key + "' did not finish within " + MAX_STEPS + " steps");
+            }
+            return new AlgorithmTrace(key, input, stepper.takeHistory());
+        } finally {
+            stepper.close();
+        }
+    }
+
+    public String key() { return key; }
+
+    /**
+     * A copy of the values the trace was recorded from.
+     */
+    public int[] input() { return input.clone(); }
+
+    /**
+     * Total number of steps, including the initial state.
+     */
+    public int size() { return history.size(); }
+
+    /**
+     * Estimated heap footprint of the trace.
+     */
+    public long heapBytes() { return history.heapBytes() + 4L * input.length; }
+
+    /**
+     * Rebuilds the state after {@code step} from the nearest keyframe.
+     */
+    public HistorySnapshot get(int step) {
+        return history.get(step);
+    }
+
+    /**
+     * Moves {@code values} from the state after {@code step - 1} to the state after {@code step}.
+     */
+    public void applyStep(int step, int[] values) {
+        history.applyStep(step, values);
+    }
+
+    /**
+     * Moves {@code values} from the state after {@code from} to the state after {@code to}.
+     */
+    public void applySteps(int from, int to, int[] values) {
+        history.applySteps(from, to, values);
+    }
+
+    /**
+     * Moves {@code values} from the state after {@code step} back to the state after {@code step - 1}.
+     */
+    public void revertStep(int step, int[] values) {
+        history.revertStep(step, values);
+    }
+
+    /**
+     * Wraps {@code values}, which must hold the state after {@code step}, into its snapshot.
+     */
+    public HistorySnapshot snapshotWith(int step, int[] values) {
+        return history.snapshotWith(step, values);
+    }
+
+    @Override
+    public void close() {
+        history.close();
+    }
+
+    /**
+     * The trace of a completed future, or {@code null} while it is still
+     * recording or if it was cancelled or failed.
+     */
+    static @Nullable AlgorithmTrace now(CompletableFuture<AlgorithmTrace> future) {
+        if (!future.isDone() || future.isCompletedExceptionally()) return null;
+        return future.join();
+    }
+}
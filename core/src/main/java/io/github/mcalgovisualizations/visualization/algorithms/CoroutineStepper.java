@@ -0,0 +1,416 @@
+package io.github.mcalgovisualizations.visualization.algorithms;
+
+import io.github.mcalgovisualizations.visualization.HistorySnapshot;
+import io.github.mcalgovisualizations.visualization.Snapshot;
+import io.github.mcalgovisualizations.visualization.algorithms.events.AlgorithmEvent;
+import io.github.mcalgovisualizations.visualization.algorithms.events.EventBuffer;
+import io.github.mcalgovisualizations.visualization.algorithms.events.Message;
+import io.github.mcalgovisualizations.visualization.algorithms.events.MessageTemplate;
+import io.github.mcalgovisualizations.visualization.history.SpillFile;
+import io.github.mcalgovisualizations.visualization.history.StepHistory;
+import io.github.mcalgovisualizations.visualization.models.IntList;
+import org.jspecify.annotations.Nullable;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base for steppers written as a plain loop instead of a state machine.
+ * <p>
+ * {@link #run()} is the whole algorithm: it works on {@link #data()}, reports
+ * what it does through {@link #emit(AlgorithmEvent)} and the helpers built on
+ * it, and calls {@link #yieldStep()} wherever a step should end. It runs on its
+ * own virtual thread that stays parked between steps, so a paused algorithm
+ * costs a parked thread and nothing on the tick thread.
+ * <p>
+ * Moving forward hands control to the algorithm until its next
+ * {@link #yieldStep()} and records the events of that step. Steps already
+ * taken are replayed from the history, as with any other stepper.
+ * {@link #close()} cancels the algorithm wherever it is parked.
+ * <p>
+ * A step that does not yield in time fails the run. The algorithm may still
+ * be working on {@link #data()} then, so the stepper stops moving forward and
+ * refuses to start over until its thread has ended.
+ * <p>
+ * {@link #greater(int, int)}, {@link #swap(int, int)} and
+ * {@link #arrange(int, int[], int)} count their own operations; work done
+ * directly on {@link #data()} is reported through {@link #counter()}.
+ */
+public abstract class CoroutineStepper implements IAlgorithmStepper {
+
+    /**
+     * How long one step may run before the algorithm is considered stuck, 0 to
+     * wait as long as it takes. Steps run on the caller's thread, usually the tick.
+     */
+    static final long STEP_TIMEOUT_MILLIS = Long.getLong("visualization.stepper.stepTimeoutMillis", 1000L);
+
+    private static final int[] NO_HIGHLIGHTS = new int[0];
+
+    private final IntList model;
+    private final long stepTimeoutMillis;
+    private StepHistory history = new StepHistory(StepHistory.DEFAULT_KEYFRAME_INTERVAL, SpillFile.DEFAULT_DIRECTORY);
+    private int historyPointer = 0;
+    private final EventBuffer events = new EventBuffer();
+    private final OperationCounter counter = new OperationCounter();
+    private @Nullable Run run = null;
+    // A run whose step timed out, possibly still writing to the model
+    private @Nullable Run stuck = null;
+    private boolean complete = false;
+
+    /**
+     * One execution of {@link #run()} on its own virtual thread. The caller and
+     * the algorithm take turns through the two semaphores, so only one of them
+     * runs at a time and each sees the other's writes.
+     */
+    private final class Run {
+        final Semaphore resume = new Semaphore(0);
+        final Semaphore yielded = new Semaphore(0);
+        final Thread thread;
+        volatile boolean finished = false;
+        // Whether the algorithm is waiting in yieldStep, where cancelling ends it cleanly
+        boolean parked = true;
+        volatile @Nullable Throwable failure = null;
+
+        Run(String threadName) {
+            this.thread = Thread.ofVirtual().name(threadName).unstarted(this::body);
+        }
+
+        private void body() {
+            try {
+                resume.acquire();
+                CoroutineStepper.this.run();
+                events.complete();
+            } catch (InterruptedException | Cancelled e) {
+                return;
+            } catch (Throwable t) {
+                failure = t;
+            } finally {
+                finished = true;
+                yielded.release();
+            }
+        }
+    }
+
+    /** Unwinds an algorithm whose run was cancelled while it was running. */
+    private static final class Cancelled extends RuntimeException {
+        Cancelled() {
+            super(null, null, false, false);
+        }
+    }
+
+    protected CoroutineStepper(IntList model) {
+        this(model, STEP_TIMEOUT_MILLIS);
+    }
+
+    CoroutineStepper(IntList model, long stepTimeoutMillis) {
+        if (stepTimeoutMillis < 0) throw new IllegalArgumentException("stepTimeoutMillis must be >= 0");
+        this.model = model;
+        this.stepTimeoutMillis = stepTimeoutMillis;
+    }
+
+    /**
+     * The algorithm. Runs on its own virtual thread, one step at a time.
+     *
+     * @throws InterruptedException if the stepper is closed while the algorithm is parked
+     */
+    protected abstract void run() throws InterruptedException;
+
+    /** Name shown when the algorithm starts. */
+    protected abstract String name();
+
+    // ---- algorithm side ----
+
+    /** The values the algorithm sorts in place. */
+    protected final int[] data() { return model.data(); }
+
+    /** Adds {@code event} to the current step. */
+    protected final void emit(AlgorithmEvent event) { events.add(event); }
+
+    /** Allocation-free access to the current step's events. */
+    protected final EventBuffer events() { return events; }
+
+    /** Operation counts of the run, for work the helpers below do not see. */
+    protected final OperationCounter counter() { return counter; }
+
+    /**
+     * Emits a comparison of slots {@code i} and {@code j}.
+     *
+     * @return whether the value at {@code i} is greater than the one at {@code j}
+     */
+    protected final boolean greater(int i, int j) {
+        events.compare(i, j);
+        events.message(MessageTemplate.COMPARING, Message.MessageType.INFO, i, j);
+        counter.compare(1);
+        counter.read(2);
+        return data()[i] > data()[j];
+    }
+
+    /** Swaps slots {@code i} and {@code j} and emits the swap. */
+    protected final void swap(int i, int j) {
+        model.swap(i, j);
+        countSwap();
+        events.swap(i, j);
+        events.message(MessageTemplate.SWAPPED, Message.MessageType.INFO, i, j);
+    }
+
+    /**
+     * Rearranges slots {@code [from, from + count)} so that slot {@code from + k}
+     * receives the value currently at slot {@code order[k]}, emitting one swap per
+     * value moved. For algorithms that work out where values go before moving
+     * them, such as merges and distribution passes.
+     *
+     * @param order absolute slots within the range, each exactly once
+     */
+    protected final void arrange(int from, int[] order, int count) {
+        // Where each value that started at relative slot k is now, and the inverse
+        final int[] slotOf = new int[count];
+        final int[] startedAt = new int[count];
+        for (int k = 0; k < count; k++) {
+            slotOf[k] = k;
+            startedAt[k] = k;
+        }
+
+        for (int k = 0; k < count; k++) {
+            final int wanted = order[k] - from;
+            final int current = slotOf[wanted];
+            if (current == k) continue;
+
+            model.swap(from + k, from + current);
+            countSwap();
+            events.swap(from + k, from + current);
+
+            final int displaced = startedAt[k];
+            startedAt[current] = displaced;
+            slotOf[displaced] = current;
+            startedAt[k] = wanted;
+            slotOf[wanted] = k;
+        }
+    }
+
+    private void countSwap() {
+        counter.swap(1);
+        counter.read(2);
+        counter.write(2);
+    }
+
+    /**
+     * Ends the current step and parks until the next one is requested.
+     *
+     * @throws InterruptedException if the stepper is closed while parked
+     */
+    protected final void yieldStep() throws InterruptedException {
+        final var current = run;
+        if (current == null || current.thread != Thread.currentThread()) throw new Cancelled();
+
+        current.yielded.release();
+        current.resume.acquire();
+    }
+
+    // ---- stepper side ----
+
+    @Override
+    public Snapshot onStart() {
+        cancel();
+        requireStopped();
+        complete = false;
+        history.clear();
+        events.clear();
+        counter.reset();
+        events.text("Starting " + name(), Message.MessageType.INFO);
+        record();
+        return snapshot(historyPointer);
+    }
+
+    @Override
+    public Snapshot step() {
+        advance();
+        return snapshot(historyPointer);
+    }
+
+    /**
+     * Advances up to {@code n} steps without building their snapshots, then
+     * folds their swaps into one permutation straight from the history.
+     */
+    @Override
+    public Snapshot step(int n) {
+        if (n <= 0) throw new IllegalArgumentException("n must be > 0");
+
+        final int from = historyPointer;
+        for (int i = 0; i < n && advance(); i++) {
+            // only the last step needs a snapshot
+        }
+        if (historyPointer == from) return snapshot(from);
+
+        final int[] sources = StepBatch.identity(model.size());
+        history.applySteps(from, historyPointer, sources);
+        return StepBatch.coalesce(snapshot(historyPointer), sources);
+    }
+
+    @Override
+    public boolean advance() {
+        if ((historyPointer + 1) < history.size()) {
+            historyPointer++;
+            return true;
+        }
+        if (complete || stuck != null) return false;
+        if (history.isEmpty()) throw new IllegalStateException("Stepper not started");
+
+        var current = run;
+        if (current == null) {
+            current = new Run("stepper-" + name());
+            run = current;
+            current.thread.start();
+        }
+
+        events.clear();
+        current.parked = false;
+        current.resume.release();
+        awaitStep(current);
+        current.parked = true;
+
+        if (current.failure != null) {
+            cancel();
+            throw new IllegalStateException(name() + " failed", current.failure);
+        }
+        if (current.finished) {
+            complete = true;
+            run = null;
+        }
+
+        record();
+        return true;
+    }
+
+    @Override
+    public @Nullable Snapshot back() {
+        if ((historyPointer - 1) < 0) return null;
+        historyPointer--;
+        return history.get(historyPointer);
+    }
+
+    @Override
+    public Snapshot seek(int step) {
+        if (step < 0) throw new IllegalArgumentException("step must be >= 0");
+
+        if (step < history.size()) {
+            historyPointer = step;
+            return history.get(historyPointer);
+        }
+
+        historyPointer = history.size() - 1;
+        while (historyPointer < step && advance()) {
+            // only the target step needs a snapshot
+        }
+        return snapshot(historyPointer);
+    }
+
+    @Override
+    public int position() { return historyPointer; }
+
+    @Override
+    public int stepCount() { return history.size(); }
+
+    @Override
+    public Snapshot randomize() {
+        cancel();
+        requireStopped();
+
+        // Fisher–Yates shuffle
+        int[] data = model.data();
+
+        for (int i = data.length - 1; i > 0; i--) {
+            int j = (int) (Math.random() * (i + 1));
+
+            int temp = data[i];
+            data[i] = data[j];
+            data[j] = temp;
+        }
+
+        return onStart();
+    }
+
+    @Override
+    public int[] input() {
+        return history.isEmpty() ? model.toArray() : history.get(0).values();
+    }
+
+    @Override
+    public Snapshot restore(int[] input, int step, @Nullable Snapshot at) {
+        if (input.length != model.size())
+            throw new IllegalArgumentException("input must have " + model.size() + " values");
+
+        cancel();
+        requireStopped();
+        System.arraycopy(input, 0, model.data(), 0, input.length);
+        onStart();
+        return seek(step);
+    }
+
+    @Override
+    public StepHistory takeHistory() {
+        final var taken = history;
+        history = new StepHistory(taken.keyframeInterval(), SpillFile.DEFAULT_DIRECTORY);
+        historyPointer = 0;
+        return taken;
+    }
+
+    @Override
+    public boolean isDone() { return complete; }
+
+    /**
+     * Cancels the algorithm wherever it is parked and releases the history.
+     */
+    @Override
+    public void close() {
+        cancel();
+        history.close();
+    }
+
+    private void cancel() {
+        final var current = run;
+        run = null;
+        if (current == null) return;
+
+        // A parked algorithm ends at once. One still inside a step only notices
+        // at its next yieldStep, and until then it may write to the model.
+        current.thread.interrupt();
+        if (!current.parked) stuck = current;
+    }
+
+    /**
+     * @throws IllegalStateException while the thread of a timed-out step is still running
+     */
+    private void requireStopped() {
+        final var old = stuck;
+        if (old == null) return;
+        if (old.thread.isAlive()) {
+            throw new IllegalStateException(name() + " is still running a step that timed out");
+        }
+        stuck = null;
+    }
+
+    private void awaitStep(Run current) {
+        try {
+            if (stepTimeoutMillis == 0) {
+                current.yielded.acquire();
+            } else if (!current.yielded.tryAcquire(stepTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                cancel();
+                throw new IllegalStateException(name() + " did not yield within " + stepTimeoutMillis + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel();
+            throw new IllegalStateException("Interrupted while waiting for " + name(), e);
+        }
+    }
+
+    private void record() {
+        historyPointer = history.append(model.data(), events, NO_HIGHLIGHTS, 0, 0, -1, complete, counter);
+    }
+
+    private HistorySnapshot snapshot(int step) {
+        // A stuck run may still be changing the model, the history has the last step too
+        if (step == history.size() - 1 && stuck == null) return history.snapshotWith(step, model.toArray());
+        return history.get(step);
+    }
+}
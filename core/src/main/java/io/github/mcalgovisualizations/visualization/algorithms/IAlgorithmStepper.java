@@ -0,0 +1,115 @@
+package io.github.mcalgovisualizations.visualization.algorithms;
+
+import io.github.mcalgovisualizations.visualization.HistorySnapshot;
+import io.github.mcalgovisualizations.visualization.Snapshot;
+import io.github.mcalgovisualizations.visualization.history.StepHistory;
+import org.jspecify.annotations.Nullable;
+
+public interface IAlgorithmStepper {
+
+    /**
+     * Execute one step forward in the algorithm.
+     */
+    Snapshot step();
+
+    /**
+     * Moves up to {@code n} steps forward at once, stopping at the final step.
+     * The swaps of all those steps are merged into one
+     * {@link io.github.mcalgovisualizations.visualization.algorithms.events.Permute},
+     * so the renderer applies the net change instead of every intermediate one.
+     *
+     * @return the state after the last step taken
+     * @throws IllegalArgumentException if {@code n <= 0}
+     */
+    default Snapshot step(int n) {
+        if (n <= 0) throw new IllegalArgumentException("n must be > 0");
+
+        var last = (HistorySnapshot) step();
+        final int[] sources = StepBatch.identity(last.values().length);
+        StepBatch.collect(last.events(), sources);
+        for (int i = 1; i < n && !(isDone() && position() == stepCount() - 1); i++) {
+            last = (HistorySnapshot) step();
+            StepBatch.collect(last.events(), sources);
+        }
+        return StepBatch.coalesce(last, sources);
+    }
+
+    /**
+     * Moves one step forward like {@link #step()} without building a snapshot,
+     * for callers that only need the step recorded.
+     *
+     * @return whether the stepper moved, {@code false} once it is at the final step
+     */
+    default boolean advance() {
+        if (isDone() && position() == stepCount() - 1) return false;
+        step();
+        return true;
+    }
+
+    /**
+     * Hands over the history recorded so far and starts an empty one, so a
+     * finished run can be kept without copying it.
+     *
+     * @throws UnsupportedOperationException if the stepper keeps no history of its own
+     */
+    default StepHistory takeHistory() {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " keeps no history");
+    }
+
+    /**
+     * Go back one step in the algorithm history.
+     */
+    Snapshot back();
+
+    /**
+     * Jump straight to {@code step}, computing forward if it has not been reached yet.
+     * Seeking past the end stops at the final step.
+     *
+     * @return the state after that step
+     */
+    Snapshot seek(int step);
+
+    /**
+     * Index of the step the stepper is currently at.
+     */
+    int position();
+
+    /**
+     * Number of steps computed so far; the total once {@link #isDone()}.
+     */
+    int stepCount();
+
+    /**
+     * Whether {@link #stepCount()} already is the length of the whole run, so
+     * positions relative to the end can be found without computing the rest.
+     */
+    default boolean isLengthKnown() {
+        return isDone();
+    }
+
+    Snapshot randomize();
+
+    /**
+     * The values the current run started from.
+     */
+    int[] input();
+
+    /**
+     * Puts the stepper at {@code step} of a run on {@code input}, as saved by an
+     * earlier session. {@code at}, the saved state after that step, may be shown
+     * while the stepper catches up.
+     *
+     * @return the state after {@code step}
+     * @throws IllegalArgumentException if {@code input} does not fit the stepper's model
+     */
+    Snapshot restore(int[] input, int step, @Nullable Snapshot at);
+
+    boolean isDone();
+
+    Snapshot onStart();
+
+    /**
+     * Releases resources held by the stepper, such as spilled history.
+     */
+    default void close() {}
+}
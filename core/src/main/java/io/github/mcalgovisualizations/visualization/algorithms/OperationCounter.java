@@ -0,0 +1,72 @@
+package io.github.mcalgovisualizations.visualization.algorithms;
+
+/**
+ * Running {@link OperationCounts} of one stepper.
+ * <p>
+ * A stepper is driven by one thread at a time, so the counts are plain
+ * {@code long} fields that cost an add each. Work that really runs on several
+ * threads, such as {@link io.github.mcalgovisualizations.visualization.algorithms.sorting.ParallelMergeSortStepper},
+ * collects its counts in {@link java.util.concurrent.atomic.LongAdder}s and adds
+ * the sums here afterwards.
+ * <p>
+ * Counting is on by default and switched off with
+ * {@code -Dvisualization.metrics=false}. {@link #ENABLED} is a constant, so the
+ * JIT drops the disabled adds entirely and every count stays {@code 0}.
+ */
+public final class OperationCounter {
+
+    public static final boolean ENABLED =
+            Boolean.parseBoolean(System.getProperty("visualization.metrics", "true"));
+
+    private long comparisons;
+    private long swaps;
+    private long reads;
+    private long writes;
+    private long queueOps;
+
+    public void compare(long n) {
+        if (ENABLED) comparisons += n;
+    }
+
+    public void swap(long n) {
+        if (ENABLED) swaps += n;
+    }
+
+    public void read(long n) {
+        if (ENABLED) reads += n;
+    }
+
+    public void write(long n) {
+        if (ENABLED) writes += n;
+    }
+
+    public void queue(long n) {
+        if (ENABLED) queueOps += n;
+    }
+
+    public long comparisons() { return comparisons; }
+
+    public long swaps() { return swaps; }
+
+    public long reads() { return reads; }
+
+    public long writes() { return writes; }
+
+    public long queueOps() { return queueOps; }
+
+    public boolean isZero() {
+        return comparisons == 0 && swaps == 0 && reads == 0 && writes == 0 && queueOps == 0;
+    }
+
+    public OperationCounts snapshot() {
+        return new OperationCounts(comparisons, swaps, reads, writes, queueOps);
+    }
+
+    public void reset() {
+        comparisons = 0;
+        swaps = 0;
+        reads = 0;
+        writes = 0;
+        queueOps = 0;
+    }
+}
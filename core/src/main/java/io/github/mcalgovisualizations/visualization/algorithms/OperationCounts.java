@@ -0,0 +1,41 @@
+package io.github.mcalgovisualizations.visualization.algorithms;
+
+/**
+ * Operations an algorithm has done since its run started, as of one step.
+ *
+ * @param comparisons comparisons between two values
+ * @param swaps       exchanges of two slots
+ * @param reads       reads of a value from the array
+ * @param writes      writes of a value to the array
+ * @param queueOps    pushes and pops on a work queue, such as a BFS frontier
+ */
+public record OperationCounts(long comparisons, long swaps, long reads, long writes, long queueOps) {
+
+    public static final OperationCounts ZERO = new OperationCounts(0, 0, 0, 0, 0);
+
+    public boolean isZero() {
+        return comparisons == 0 && swaps == 0 && reads == 0 && writes == 0 && queueOps == 0;
+    }
+
+    /** The operations done between {@code earlier} and this. */
+    public OperationCounts minus(OperationCounts earlier) {
+        return new OperationCounts(
+                comparisons - earlier.comparisons,
+                swaps - earlier.swaps,
+                reads - earlier.reads,
+                writes - earlier.writes,
+                queueOps - earlier.queueOps
+        );
+    }
+
+    /** One line for chat and logs, e.g. {@code 12 comparisons, 5 swaps, 34 reads, 10 writes}. */
+    public String summary() {
+        final var text = new StringBuilder()
+                .append(comparisons).append(" comparisons, ")
+                .append(swaps).append(" swaps, ")
+                .append(reads).append(" reads, ")
+                .append(writes).append(" writes");
+        if (queueOps > 0) text.append(", ").append(queueOps).append(" queue ops");
+        return text.toString();
+    }
+}
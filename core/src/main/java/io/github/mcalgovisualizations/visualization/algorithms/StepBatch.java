@@ -0,0 +1,61 @@
+package io.github.mcalgovisualizations.visualization.algorithms;
+
+import io.github.mcalgovisualizations.visualization.HistorySnapshot;
+import io.github.mcalgovisualizations.visualization.algorithms.events.AlgorithmEvent;
+import io.github.mcalgovisualizations.visualization.algorithms.events.Permute;
+import io.github.mcalgovisualizations.visualization.algorithms.events.Swap;
+
+import java.util.ArrayList;
+
+/**
+ * Helpers for {@link IAlgorithmStepper#step(int)}: folds the swaps of many
+ * steps into one {@link Permute}, so skipping ahead renders once.
+ * <p>
+ * The permutation is tracked as an array of slot indices that starts as the
+ * identity and receives every swap, exactly like the values do; afterwards
+ * slot {@code i} holds the index of the slot its content came from.
+ */
+public final class StepBatch {
+    private StepBatch() {}
+
+    public static int[] identity(int size) {
+        final int[] sources = new int[size];
+        for (int i = 0; i < size; i++) sources[i] = i;
+        return sources;
+    }
+
+    /** Applies the swaps among {@code events} to {@code sources}. */
+    public static void collect(Iterable<AlgorithmEvent> events, int[] sources) {
+        for (var event : events) {
+            if (event instanceof Swap swap) {
+                int tmp = sources[swap.x()];
+                sources[swap.x()] = sources[swap.y()];
+                sources[swap.y()] = tmp;
+            }
+        }
+    }
+
+    /**
+     * The snapshot of the last step of a batch, with its swaps replaced by the
+     * net permutation of the whole batch. The other events of the last step,
+     * such as its messages, are kept; its highlights are the batch's final ones.
+     */
+    public static HistorySnapshot coalesce(HistorySnapshot last, int[] sources) {
+        final var events = new ArrayList<AlgorithmEvent>(last.events().size() + 1);
+        final var permute = new Permute(sources);
+        if (permute.moved() > 0) events.add(permute);
+        for (var event : last.events()) {
+            if (!(event instanceof Swap)) events.add(event);
+        }
+
+        return new HistorySnapshot(
+                last.values(),
+                last.highlights(),
+                events,
+                last.currentIndex(),
+                last.compareIndex(),
+                last.completed(),
+                last.counts()
+        );
+    }
+}
@@ -0,0 +1,181 @@
+package io.github.mcalgovisualizations.visualization.algorithms;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Shares recorded {@link AlgorithmTrace}s between sessions.
+ * <p>
+ * Traces are keyed by stepper key, input hash and input size; a hit is only
+ * served when the inputs are actually equal. Sessions running the same
+ * algorithm on the same input share one recording and one copy of its history
+ * and keep only their own cursor.
+ * <p>
+ * Finished traces are kept until their estimated size pushes the cache over
+ * {@code maxBytes}, then the least recently acquired ones are dropped. A
+ * dropped trace stays valid for sessions still holding a {@link Lease} and is
+ * closed once the last one is released.
+ * <p>
+ * The budget can be overridden with the {@code visualization.trace.cacheBytes}
+ * system property.
+ */
+public final class TraceCache {
+    public static final TraceCache INSTANCE =
+            new TraceCache(Long.getLong("visualization.trace.cacheBytes", 32L * 1024 * 1024));
+
+    private record Key(String stepper, int inputHash, int size) {}
+
+    private static final class Entry {
+        final Key key;
+        final int[] input;
+        final CompletableFuture<AlgorithmTrace> trace;
+        int leases = 0;
+        long bytes = 0;
+        boolean retired = false;
+
+        Entry(Key key, int[] input, CompletableFuture<AlgorithmTrace> trace) {
+            this.key = key;
+            this.input = input;
+            this.trace = trace;
+        }
+    }
+
+    private final long maxBytes;
+    // Access-ordered, so iteration starts at the least recently acquired trace
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long retainedBytes = 0;
+
+    TraceCache(long maxBytes) {
+        if (maxBytes <= 0) throw new IllegalArgumentException("maxBytes must be > 0");
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the trace of {@code key} on {@code input}, recording it on a
+     * virtual thread unless it is cached or already being recorded.
+     * The caller must {@link Lease#close() close} the lease when done with the trace.
+     */
+    public synchronized Lease acquire(String key, int[] input) {
+        final var cacheKey = new Key(key.toLowerCase(), Arrays.hashCode(input), input.length);
+
+        var entry = entries.get(cacheKey);
+        if (entry != null && !Arrays.equals(entry.input, input)) {
+            // Hash collision: the newer input takes over the slot
+            retire(entry);
+            entry = null;
+        }
+
+        if (entry == null) {
+            final var recorded = new Entry(cacheKey, input.clone(), AlgorithmTrace.recordAsync(key, input));
+            entries.put(cacheKey, recorded);
+            // Lease before listening, a fast recording must not be evicted unused
+            recorded.leases++;
+            recorded.trace.whenComplete((trace, error) -> completed(recorded, error == null));
+            return new Lease(recorded);
+        }
+
+        entry.leases++;
+        return new Lease(entry);
+    }
+
+    /** Number of traces currently cached, including ones still recording. */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /** Estimated heap footprint of the finished traces in the cache. */
+    public synchronized long retainedBytes() {
+        return retainedBytes;
+    }
+
+    private synchronized void completed(Entry entry, boolean success) {
+        if (entry.retired) {
+            closeIfUnused(entry);
+            return;
+        }
+
+        if (!success) {
+            // Let the next acquire record it again
+            entries.remove(entry.key, entry);
+            entry.retired = true;
+            return;
+        }
+
+        entry.bytes = entry.trace.join().heapBytes();
+        retainedBytes += entry.bytes;
+        evict();
+    }
+
+    private synchronized void release(Entry entry) {
+        entry.leases--;
+        if (entry.leases > 0) return;
+
+        if (!entry.trace.isDone()) {
+            // Nobody is waiting for it anymore
+            retire(entry);
+        } else if (entry.retired) {
+            closeIfUnused(entry);
+        }
+    }
+
+    /**
+     * Drops least recently acquired finished traces until the cache fits its budget.
+     */
+    private void evict() {
+        final Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+        while (retainedBytes > maxBytes && it.hasNext()) {
+            final var entry = it.next().getValue();
+            if (!entry.trace.isDone()) continue;
+
+            it.remove();
+            retainedBytes -= entry.bytes;
+            entry.retired = true;
+            closeIfUnused(entry);
+        }
+    }
+
+    private void retire(Entry entry) {
+        if (entries.remove(entry.key, entry)) retainedBytes -= entry.bytes;
+        entry.retired = true;
+        closeIfUnused(entry);
+    }
+
+    private static void closeIfUnused(Entry entry) {
+        if (entry.leases > 0) return;
+
+        if (!entry.trace.isDone()) {
+            entry.trace.cancel(false);
+            return;
+        }
+
+        final var trace = AlgorithmTrace.now(entry.trace);
+        if (trace != null) trace.close();
+    }
+
+    /**
+     * A session's hold on a shared trace. Closing it more than once has no effect.
+     */
+    public final class Lease implements AutoCloseable {
+        private final Entry entry;
+        private boolean closed = false;
+
+        private Lease(Entry entry) {
+            this.entry = entry;
+        }
+
+        /** The shared trace; completes once recording finishes. Must not be closed by the holder. */
+        public CompletableFuture<AlgorithmTrace> trace() {
+            return entry.trace;
+        }
+
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+            release(entry);
+        }
+    }
+}
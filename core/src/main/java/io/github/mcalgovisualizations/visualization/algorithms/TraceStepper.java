@@ -0,0 +1,291 @@
+package io.github.mcalgovisualizations.visualization.algorithms;
+
+import io.github.mcalgovisualizations.visualization.HistorySnapshot;
+import io.github.mcalgovisualizations.visualization.Snapshot;
+import io.github.mcalgovisualizations.visualization.algorithms.events.Message;
+import io.github.mcalgovisualizations.visualization.models.IntList;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Plays back a precomputed {@link AlgorithmTrace}.
+ * <p>
+ * Starting or randomizing records the whole run on a virtual thread, or reuses
+ * another session's recording of the same input from the {@link TraceCache}; stepping,
+ * stepping back and seeking only move a cursor over the finished trace and
+ * never run algorithm logic. Until the recording is done every move returns
+ * the current snapshot unchanged.
+ * <p>
+ * If the recording fails, for instance because the run is longer than
+ * {@link AlgorithmTrace#MAX_STEPS}, the session plays on with a live stepper
+ * for the same key and input instead, see {@link #recordingFailed()}.
+ */
+public class TraceStepper implements IAlgorithmStepper {
+    private static final int[] NO_HIGHLIGHTS = new int[0];
+
+    private final String key;
+    private final IntList model;
+    private final TraceCache cache;
+
+    private TraceCache.@Nullable Lease lease = null;
+    private @Nullable CompletableFuture<AlgorithmTrace> pending = null;
+    private @Nullable AlgorithmTrace trace = null;
+    // Takes over when the trace could not be recorded
+    private @Nullable IAlgorithmStepper live = null;
+    private int cursor = 0;
+    // Step to move to once the trace is ready, set when restoring a session
+    private int resumeAt = 0;
+    private int[] input;
+    // Values after step `cursor`, kept in sync as the cursor moves
+    private int[] values;
+    private HistorySnapshot current;
+
+    /**
+     * @throws IllegalArgumentException if no stepper is registered for {@code key}
+     */
+    public TraceStepper(String key, IntList model) {
+        this(key, model, TraceCache.INSTANCE);
+    }
+
+    TraceStepper(String key, IntList model, TraceCache cache) {
+        if (!AlgorithmCatalog.isRegistered(key))
+            throw new IllegalArgumentException("No stepper registered for key: " + key);
+
+        this.key = key;
+        this.model = model;
+        this.cache = cache;
+        this.values = model.toArray();
+        this.input = values.clone();
+        this.current = recording(values);
+    }
+
+    @Override
+    public Snapshot onStart() {
+        record();
+        return current;
+    }
+
+    @Override
+    public Snapshot step() {
+        if (playingLive()) return live.step();
+        if (!ready() || cursor + 1 >= trace.size()) return current;
+
+        cursor++;
+        trace.applyStep(cursor, values);
+        return moved();
+    }
+
+    /**
+     * Moves the cursor up to {@code n} steps at once; the snapshot carries the
+     * net permutation of those steps instead of their swaps.
+     */
+    @Override
+    public Snapshot step(int n) {
+        if (n <= 0) throw new IllegalArgumentException("n must be > 0");
+        if (playingLive()) return live.step(n);
+        if (!ready() || cursor + 1 >= trace.size()) return current;
+
+        final int from = cursor;
+        cursor += Math.min(n, trace.size() - 1 - cursor);
+
+        final int[] sources = StepBatch.identity(values.length);
+        trace.applySteps(from, cursor, sources);
+        trace.applySteps(from, cursor, values);
+        current = StepBatch.coalesce(trace.snapshotWith(cursor, values.clone()), sources);
+        return current;
+    }
+
+    @Override
+    public @Nullable Snapshot back() {
+        if (playingLive()) return live.back();
+        if (!ready() || cursor == 0) return null;
+
+        trace.revertStep(cursor, values);
+        cursor--;
+        return moved();
+    }
+
+    @Override
+    public Snapshot seek(int step) {
+        if (step < 0) throw new IllegalArgumentException("step must be >= 0");
+        if (playingLive()) return live.seek(step);
+        if (!ready()) return current;
+
+        cursor = Math.min(step, trace.size() - 1);
+        current = trace.get(cursor);
+        values = current.values().clone();
+        return current;
+    }
+
+    @Override
+    public int position() {
+        if (playingLive()) return live.position();
+        return ready() ? cursor : resumeAt;
+    }
+
+    /**
+     * The total number of steps once the trace is recorded, {@code 0} before.
+     */
+    @Override
+    public int stepCount() {
+        if (playingLive()) return live.stepCount();
+        return ready() ? trace.size() : 0;
+    }
+
+    /**
+     * Whether playback can move: the trace has finished recording, or failed
+     * to and the run plays live.
+     */
+    public boolean isReady() {
+        return ready() || playingLive();
+    }
+
+    /**
+     * Whether the trace could not be recorded, so the run is computed step by
+     * step by a live stepper like with tracing turned off.
+     */
+    public boolean recordingFailed() {
+        return playingLive();
+    }
+
+    /** Known as soon as the trace is recorded, wherever the cursor is. */
+    @Override
+    public boolean isLengthKnown() {
+        if (playingLive()) return live.isLengthKnown();
+        return ready();
+    }
+
+    @Override
+    public Snapshot randomize() {
+        // Fisher–Yates shuffle
+        int[] data = model.data();
+
+        for (int i = data.length - 1; i > 0; i--) {
+            int j = (int) (Math.random() * (i + 1));
+
+            int temp = data[i];
+            data[i] = data[j];
+            data[j] = temp;
+        }
+
+        record();
+        return current;
+    }
+
+    @Override
+    public int[] input() {
+        return input.clone();
+    }
+
+    /**
+     * Acquires the trace for {@code input} and moves to {@code step} as soon as
+     * it is ready. Until then {@code at} is shown, so the player sees where they
+     * left off right away while the trace is recorded, or found in the cache,
+     * off the tick thread.
+     */
+    @Override
+    public Snapshot restore(int[] input, int step, @Nullable Snapshot at) {
+        if (step < 0) throw new IllegalArgumentException("step must be >= 0");
+        if (input.length != model.size())
+            throw new IllegalArgumentException("input must have " + model.size() + " values");
+
+        System.arraycopy(input, 0, model.data(), 0, input.length);
+        record();
+        resumeAt = step;
+        if (at instanceof HistorySnapshot snapshot) current = snapshot;
+        return current;
+    }
+
+    @Override
+    public boolean isDone() {
+        if (playingLive()) return live.isDone();
+        return ready() && cursor == trace.size() - 1;
+    }
+
+    @Override
+    public void close() {
+        discard();
+    }
+
+    /**
+     * Lets go of the current trace and acquires the one for the model's values.
+     */
+    private void record() {
+        discard();
+        values = model.toArray();
+        input = values.clone();
+        current = recording(values.clone());
+        lease = cache.acquire(key, values);
+        pending = lease.trace();
+    }
+
+    private void discard() {
+        // The trace is shared, the cache closes it once no session holds it
+        if (lease != null) lease.close();
+        if (live != null) live.close();
+        lease = null;
+        live = null;
+        pending = null;
+        trace = null;
+        cursor = 0;
+        resumeAt = 0;
+    }
+
+    private boolean ready() {
+        if (trace != null) return true;
+        if (pending == null || !pending.isDone()) return false;
+
+        trace = AlgorithmTrace.now(pending);
+        if (trace == null) {
+            pending.exceptionally(t -> {
+                System.err.println("Failed to record trace for " + key + ", playing it live: " + t.getMessage());
+                return null;
+            });
+            pending = null;
+            goLive();
+            return false;
+        }
+
+        pending = null;
+        cursor = Math.min(resumeAt, trace.size() - 1);
+        resumeAt = 0;
+        current = trace.get(cursor);
+        values = current.values().clone();
+        return true;
+    }
+
+    /** Whether a live stepper has taken over, checking on the recording first. */
+    private boolean playingLive() {
+        if (live == null) ready();
+        return live != null;
+    }
+
+    /**
+     * Hands the run to a live stepper on the same input, at the step a
+     * restored session was waiting for.
+     */
+    private void goLive() {
+        final var stepper = AlgorithmCatalog.create(key, new IntList(input.clone()));
+        current = (HistorySnapshot) stepper.restore(input.clone(), resumeAt, null);
+        resumeAt = 0;
+        live = stepper;
+    }
+
+    private HistorySnapshot moved() {
+        current = trace.snapshotWith(cursor, values.clone());
+        return current;
+    }
+
+    private static HistorySnapshot recording(int[] values) {
+        return new HistorySnapshot(
+                values,
+                NO_HIGHLIGHTS,
+                List.of(new Message("Computing steps...", Message.MessageType.INFO)),
+                0,
+                -1,
+                false
+        );
+    }
+}
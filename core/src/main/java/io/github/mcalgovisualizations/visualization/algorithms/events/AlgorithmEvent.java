@@ -0,0 +1,24 @@
+package io.github.mcalgovisualizations.visualization.algorithms.events;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public interface AlgorithmEvent {
+
+    /**
+     * The event that undoes this one on the scene, used to play a step backwards.
+     * Events without a visible effect to undo return themselves.
+     */
+    AlgorithmEvent inverse();
+
+    /**
+     * The events that undo a whole step: each event inverted, last one first.
+     */
+    static List<AlgorithmEvent> inverseOf(List<AlgorithmEvent> events) {
+        final var inverse = new ArrayList<AlgorithmEvent>(events.size());
+        for (int i = events.size() - 1; i >= 0; i--) {
+            inverse.add(events.get(i).inverse());
+        }
+        return inverse;
+    }
+}
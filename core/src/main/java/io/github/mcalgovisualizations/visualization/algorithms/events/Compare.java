@@ -3,6 +3,12 @@ package io.github.mcalgovisualizations.visualization.algorithms.events;
 import org.jetbrains.annotations.NotNull;
 
 public record Compare(int x, int y) implements AlgorithmEvent {
+    /** Comparing changes nothing, so going back shows the same comparison. */
+    @Override
+    public Compare inverse() {
+        return this;
+    }
+
     @Override
     public @NotNull String toString() {
         return "Swap(" + x + "," + y + ")";
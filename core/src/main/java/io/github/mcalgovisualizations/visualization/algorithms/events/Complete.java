@@ -1,4 +1,8 @@
 package io.github.mcalgovisualizations.visualization.algorithms.events;
 
 public record Complete() implements AlgorithmEvent {
+    @Override
+    public Complete inverse() {
+        return this;
+    }
 }
@@ -0,0 +1,244 @@
+package io.github.mcalgovisualizations.visualization.algorithms.events;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The events of a step as opcodes and operands in a reusable {@code int[]}.
+ * <p>
+ * Steppers write into one buffer and clear it every step, so emitting events
+ * allocates nothing once the buffer has grown to fit a step. The
+ * {@link AlgorithmEvent} records are only built by {@link #toEvents()} when a
+ * step is actually shown.
+ * <pre>
+ * COMPARE x y | SWAP x y | HIGHLIGHT x | UNHIGHLIGHT x | COMPLETE | VALIDATE
+ * WORKER  worker from to
+ * MESSAGE template type a b    (formatted lazily)
+ * TEXT    textIndex type       (pre-formatted text, see {@link #text(int)})
+ * </pre>
+ */
+public final class EventBuffer {
+
+    public static final int OP_COMPARE = 1;
+    public static final int OP_SWAP = 2;
+    public static final int OP_HIGHLIGHT = 3;
+    public static final int OP_UNHIGHLIGHT = 4;
+    public static final int OP_MESSAGE = 5;
+    public static final int OP_TEXT = 6;
+    public static final int OP_COMPLETE = 7;
+    public static final int OP_VALIDATE = 8;
+    public static final int OP_WORKER = 9;
+
+    private static final MessageTemplate[] TEMPLATES = MessageTemplate.values();
+    private static final Message.MessageType[] MESSAGE_TYPES = Message.MessageType.values();
+
+    private int[] ops;
+    private int size = 0;
+    // Texts of OP_TEXT events, only used for messages that have no template
+    private final List<String> texts = new ArrayList<>();
+
+    public EventBuffer() {
+        this(32);
+    }
+
+    public EventBuffer(int initialCapacity) {
+        if (initialCapacity <= 0) throw new IllegalArgumentException("initialCapacity must be > 0");
+        this.ops = new int[initialCapacity];
+    }
+
+    public void compare(int x, int y) { put(OP_COMPARE, x, y); }
+
+    public void swap(int x, int y) { put(OP_SWAP, x, y); }
+
+    public void highlight(int x) { put(OP_HIGHLIGHT, x); }
+
+    public void unhighlight(int x) { put(OP_UNHIGHLIGHT, x); }
+
+    public void complete() { put(OP_COMPLETE); }
+
+    public void validate() { put(OP_VALIDATE); }
+
+    public void worker(int worker, int from, int to) {
+        ensureCapacity(4);
+        ops[size++] = OP_WORKER;
+        ops[size++] = worker;
+        ops[size++] = from;
+        ops[size++] = to;
+    }
+
+    public void message(MessageTemplate template, Message.MessageType type) {
+        message(template, type, 0, 0);
+    }
+
+    public void message(MessageTemplate template, Message.MessageType type, int a, int b) {
+        ensureCapacity(5);
+        ops[size++] = OP_MESSAGE;
+        ops[size++] = template.ordinal();
+        ops[size++] = type.ordinal();
+        ops[size++] = a;
+        ops[size++] = b;
+    }
+
+    /**
+     * Appends a message whose text is already known. Prefer a
+     * {@link MessageTemplate}, which defers formatting.
+     */
+    public void text(String text, Message.MessageType type) {
+        put(OP_TEXT, texts.size(), type.ordinal());
+        texts.add(text);
+    }
+
+    /**
+     * Appends an event record, for callers that already have one.
+     */
+    public void add(AlgorithmEvent event) {
+        if (event instanceof Compare c) {
+            compare(c.x(), c.y());
+        } else if (event instanceof Swap s) {
+            swap(s.x(), s.y());
+        } else if (event instanceof Highlight h) {
+            highlight(h.x());
+        } else if (event instanceof Unhighlight u) {
+            unhighlight(u.x());
+        } else if (event instanceof Message m) {
+            text(m.message(), m.type());
+        } else if (event instanceof Complete) {
+            complete();
+        } else if (event instanceof Validate) {
+            validate();
+        } else if (event instanceof WorkerTask w) {
+            worker(w.worker(), w.from(), w.to());
+        } else {
+            throw new IllegalArgumentException("Unsupported event: " + event.getClass().getSimpleName());
+        }
+    }
+
+    public void clear() {
+        size = 0;
+        texts.clear();
+    }
+
+    public boolean isEmpty() { return size == 0; }
+
+    /** Number of ints in use; opcodes and operands together. */
+    public int size() { return size; }
+
+    /** The backing array; only the first {@link #size()} ints are meaningful. */
+    public int[] ops() { return ops; }
+
+    /** Text of an {@code OP_TEXT} event. */
+    public String text(int index) { return texts.get(index); }
+
+    public int textCount() { return texts.size(); }
+
+    public List<AlgorithmEvent> toEvents() {
+        return decode(ops, 0, size, texts);
+    }
+
+    @Override
+    public String toString() {
+        return "EventBuffer" + toEvents();
+    }
+
+    /**
+     * Number of ints the event starting with {@code op} takes, opcode included.
+     */
+    public static int width(int op) {
+        return switch (op) {
+            case OP_COMPARE, OP_SWAP, OP_TEXT -> 3;
+            case OP_HIGHLIGHT, OP_UNHIGHLIGHT -> 2;
+            case OP_WORKER -> 4;
+            case OP_MESSAGE -> 5;
+            case OP_COMPLETE, OP_VALIDATE -> 1;
+            default -> throw new IllegalArgumentException("Unknown opcode: " + op);
+        };
+    }
+
+    /**
+     * Builds the event records encoded in {@code ops[from, to)}, formatting
+     * message templates. {@code texts} resolves {@code OP_TEXT} operands.
+     */
+    public static List<AlgorithmEvent> decode(int[] ops, int from, int to, List<String> texts) {
+        if (from == to) return List.of();
+
+        final var events = new ArrayList<AlgorithmEvent>();
+        for (int i = from; i < to; i += width(ops[i])) {
+            events.add(switch (ops[i]) {
+                case OP_COMPARE -> new Compare(ops[i + 1], ops[i + 2]);
+                case OP_SWAP -> new Swap(ops[i + 1], ops[i + 2]);
+                case OP_HIGHLIGHT -> new Highlight(ops[i + 1]);
+                case OP_UNHIGHLIGHT -> new Unhighlight(ops[i + 1]);
+                case OP_MESSAGE -> new Message(
+                        TEMPLATES[ops[i + 1]].format(ops[i + 3], ops[i + 4]),
+                        MESSAGE_TYPES[ops[i + 2]]
+                );
+                case OP_TEXT -> new Message(texts.get(ops[i + 1]), MESSAGE_TYPES[ops[i + 2]]);
+                case OP_COMPLETE -> new Complete();
+                case OP_VALIDATE -> new Validate();
+                case OP_WORKER -> new WorkerTask(ops[i + 1], ops[i + 2], ops[i + 3]);
+                default -> throw new IllegalArgumentException("Unknown opcode: " + ops[i]);
+            });
+        }
+        return List.copyOf(events);
+    }
+
+    /**
+     * Swaps {@code values} as the {@code SWAP} events in {@code ops[from, to)} do,
+     * last one first when {@code reverse} is set.
+     */
+    public static void applySwaps(int[] ops, int from, int to, int[] values, boolean reverse) {
+        if (!reverse) {
+            for (int i = from; i < to; i += width(ops[i])) {
+                if (ops[i] == OP_SWAP) swap(values, ops[i + 1], ops[i + 2]);
+            }
+            return;
+        }
+
+        // Variable width: collect swap offsets forward, then undo back to front
+        int count = 0;
+        for (int i = from; i < to; i += width(ops[i])) {
+            if (ops[i] == OP_SWAP) count++;
+        }
+        if (count == 0) return;
+
+        final int[] offsets = new int[count];
+        count = 0;
+        for (int i = from; i < to; i += width(ops[i])) {
+            if (ops[i] == OP_SWAP) offsets[count++] = i;
+        }
+        for (int n = count - 1; n >= 0; n--) {
+            swap(values, ops[offsets[n] + 1], ops[offsets[n] + 2]);
+        }
+    }
+
+    private static void swap(int[] values, int x, int y) {
+        int tmp = values[x];
+        values[x] = values[y];
+        values[y] = tmp;
+    }
+
+    private void put(int op) {
+        ensureCapacity(1);
+        ops[size++] = op;
+    }
+
+    private void put(int op, int a) {
+        ensureCapacity(2);
+        ops[size++] = op;
+        ops[size++] = a;
+    }
+
+    private void put(int op, int a, int b) {
+        ensureCapacity(3);
+        ops[size++] = op;
+        ops[size++] = a;
+        ops[size++] = b;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > ops.length) {
+            ops = Arrays.copyOf(ops, Math.max(ops.length * 2, size + extra));
+        }
+    }
+}
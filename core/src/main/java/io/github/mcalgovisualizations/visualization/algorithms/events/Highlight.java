@@ -1,4 +1,8 @@
 package io.github.mcalgovisualizations.visualization.algorithms.events;
 
 public record Highlight(int x) implements AlgorithmEvent {
+    @Override
+    public Unhighlight inverse() {
+        return new Unhighlight(x);
+    }
 }
@@ -1,6 +1,12 @@
 package io.github.mcalgovisualizations.visualization.algorithms.events;
 
 public record Message(String message, MessageType type) implements AlgorithmEvent {
+    /** Chat cannot be taken back, stepping back repeats the narration of the step. */
+    @Override
+    public Message inverse() {
+        return this;
+    }
+
     public enum MessageType {
         INFO,
         ERROR,
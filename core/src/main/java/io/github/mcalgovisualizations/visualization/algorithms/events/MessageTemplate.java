@@ -0,0 +1,34 @@
+package io.github.mcalgovisualizations.visualization.algorithms.events;
+
+/**
+ * Message texts steppers emit, with up to two integer arguments.
+ * <p>
+ * An {@link EventBuffer} only stores the template and its arguments; the text
+ * is formatted when the event is turned into a {@link Message}, which happens
+ * when the step is shown to a player.
+ */
+public enum MessageTemplate {
+    STARTING_INSERTION_SORT("Starting Insertion Sort"),
+    COMPARING("Comparing indices %d and %d"),
+    SWAPPED("Swapped %d and %d"),
+    IN_POSITION("Element in correct position"),
+    MERGED("Merged slots %d to %d"),
+    PIVOT_CHOSEN("Pivot is index %d"),
+    PIVOT_PLACED("Pivot in position at index %d"),
+    HEAP_BUILT("Heap built"),
+    EXTRACTED_MAX("Moved largest to index %d"),
+    DIGIT_PASS("Ordered by digit %d"),
+    SORTING_COMPLETE("Sorting complete!");
+
+    private final String pattern;
+
+    MessageTemplate(String pattern) {
+        this.pattern = pattern;
+    }
+
+    public String pattern() { return pattern; }
+
+    public String format(int a, int b) {
+        return String.format(pattern, a, b);
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.mcalgovisualizations.visualization.algorithms.events;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * The net rearrangement of several steps at once: slot {@code i} receives what
+ * was in slot {@code sources[i]}. Emitted instead of the individual swaps when
+ * steps are skipped in a batch.
+ */
+public record Permute(int[] sources) implements AlgorithmEvent {
+
+    public Permute {
+        sources = sources.clone();
+    }
+
+    @Override
+    public int[] sources() {
+        return sources.clone();
+    }
+
+    /** Number of slots whose content changes. */
+    public int moved() {
+        int moved = 0;
+        for (int i = 0; i < sources.length; i++) {
+            if (sources[i] != i) moved++;
+        }
+        return moved;
+    }
+
+    /** The permutation that moves every slot's content back where it came from. */
+    @Override
+    public Permute inverse() {
+        final int[] inverse = new int[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            inverse[sources[i]] = i;
+        }
+        return new Permute(inverse);
+    }
+
+    /** Rearranges {@code values} in place as this permutation does. */
+    public void applyTo(int[] values) {
+        final int[] before = values.clone();
+        for (int i = 0; i < sources.length; i++) {
+            values[i] = before[sources[i]];
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Permute other && Arrays.equals(sources, other.sources);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(sources);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "Permute(" + Arrays.toString(sources) + ")";
+    }
+}
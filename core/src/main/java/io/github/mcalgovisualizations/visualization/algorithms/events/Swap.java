@@ -3,6 +3,12 @@ package io.github.mcalgovisualizations.visualization.algorithms.events;
 import org.jetbrains.annotations.NotNull;
 
 public record Swap(int x, int y) implements AlgorithmEvent {
+    /** Swapping the same two slots again restores them. */
+    @Override
+    public Swap inverse() {
+        return this;
+    }
+
     @Override
     public @NotNull String toString() {
         return "Swap(" + x + "," + y + ")";
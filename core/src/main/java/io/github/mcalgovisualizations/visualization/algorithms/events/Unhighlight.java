@@ -0,0 +1,8 @@
+package io.github.mcalgovisualizations.visualization.algorithms.events;
+
+public record Unhighlight(int x) implements AlgorithmEvent {
+    @Override
+    public Highlight inverse() {
+        return new Highlight(x);
+    }
+}
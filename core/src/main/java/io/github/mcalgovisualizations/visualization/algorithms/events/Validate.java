@@ -3,6 +3,11 @@ package io.github.mcalgovisualizations.visualization.algorithms.events;
 import org.jetbrains.annotations.NotNull;
 
 public record Validate() implements AlgorithmEvent {
+    @Override
+    public Validate inverse() {
+        return this;
+    }
+
     @Override
     public @NotNull String toString() {
         return "Validate()";
@@ -0,0 +1,13 @@
+package io.github.mcalgovisualizations.visualization.algorithms.events;
+
+/**
+ * Tags the events that follow it in a step as work done by one worker thread:
+ * {@code worker} handled slots {@code [from, to)}. Emitted by parallel
+ * steppers, so the scene can tell which part of the array each worker sorted.
+ */
+public record WorkerTask(int worker, int from, int to) implements AlgorithmEvent {
+    @Override
+    public WorkerTask inverse() {
+        return this;
+    }
+}
@@ -0,0 +1,244 @@
+package io.github.mcalgovisualizations.visualization.algorithms.sorting;
+
+import io.github.mcalgovisualizations.visualization.HistorySnapshot;
+import io.github.mcalgovisualizations.visualization.Snapshot;
+import io.github.mcalgovisualizations.visualization.algorithms.IAlgorithmStepper;
+import io.github.mcalgovisualizations.visualization.algorithms.OperationCounter;
+import io.github.mcalgovisualizations.visualization.algorithms.StepBatch;
+import io.github.mcalgovisualizations.visualization.algorithms.events.MessageTemplate;
+import io.github.mcalgovisualizations.visualization.history.SpillFile;
+import io.github.mcalgovisualizations.visualization.history.StepHistory;
+import io.github.mcalgovisualizations.visualization.models.IntList;
+import org.jspecify.annotations.Nullable;
+
+import static io.github.mcalgovisualizations.visualization.algorithms.events.Message.MessageType.INFO;
+import static io.github.mcalgovisualizations.visualization.algorithms.events.Message.MessageType.SUCCESS;
+
+
+// TODO: remove insertion sort from AlgorithmStepper
+public class AlgorithmStepper implements IAlgorithmStepper {
+    private StepHistory history = new StepHistory(StepHistory.DEFAULT_KEYFRAME_INTERVAL, SpillFile.DEFAULT_DIRECTORY);
+    private int historyPointer = 0;
+    private final IntList model;
+    private final SortingState state = new SortingState();
+    private final OperationCounter counter = new OperationCounter();
+    private boolean ALGORITHM_COMPLETE = false;
+
+    public AlgorithmStepper(IntList model) {
+        this.model = model;
+    }
+
+    public Snapshot onStart() {
+        state.events().message(MessageTemplate.STARTING_INSERTION_SORT, INFO);
+        record();
+        return snapshot(historyPointer);
+    }
+
+    @Override
+    public Snapshot step() {
+        if (!advance()) System.out.println("Done");
+        return snapshot(historyPointer);
+    }
+
+    /**
+     * Advances up to {@code n} steps without building their snapshots, then
+     * folds their swaps into one permutation straight from the history.
+     */
+    @Override
+    public Snapshot step(int n) {
+        if (n <= 0) throw new IllegalArgumentException("n must be > 0");
+
+        final int from = historyPointer;
+        for (int i = 0; i < n && advance(); i++) {
+            // only the last step needs a snapshot
+        }
+        if (historyPointer == from) return snapshot(from);
+
+        final int[] sources = StepBatch.identity(model.size());
+        history.applySteps(from, historyPointer, sources);
+        return StepBatch.coalesce(snapshot(historyPointer), sources);
+    }
+
+    /**
+     * Moves one step forward like {@link #step()} but only records the step,
+     * without building a snapshot of it. Allocates nothing per step once the
+     * history's arrays have grown, apart from a keyframe every
+     * {@link StepHistory#keyframeInterval()} steps.
+     */
+    @Override
+    public boolean advance() {
+        // Check if step is old
+        if ((historyPointer + 1) < history.size()) {
+            historyPointer++;
+            return true;
+        }
+
+        // Check if done
+        if (ALGORITHM_COMPLETE) return false;
+
+        // calc next step
+        final var events = state.events();
+        state.beginStep();
+        if (state.currentIndex() >= model.size()) {
+            ALGORITHM_COMPLETE = true;
+            events.message(MessageTemplate.SORTING_COMPLETE, SUCCESS);
+            events.complete();
+            record();
+            return true;
+        }
+
+        if (state.compareIndex() == -1) {
+            state.setCompareIndex(state.currentIndex());
+        }
+
+        int j = state.compareIndex();
+        if (j > 0) {
+            events.compare(j, j - 1);
+            events.message(MessageTemplate.COMPARING, INFO, j, j - 1);
+            counter.compare(1);
+            counter.read(2);
+
+            if (model.data()[j - 1] > model.data()[j]) {
+                model.swap(j, j - 1);
+                counter.swap(1);
+                counter.read(2);
+                counter.write(2);
+                events.swap(j - 1, j);
+                events.message(MessageTemplate.SWAPPED, INFO, j, j - 1);
+                state.setCompareIndex(j - 1);
+            } else {
+                events.message(MessageTemplate.IN_POSITION, SUCCESS);
+                state.incrementCurrentIndex();
+                state.setCompareIndex(-1);
+            }
+        } else {
+            state.incrementCurrentIndex();
+            state.setCompareIndex(-1);
+        }
+
+        record();
+        return true;
+    }
+
+    @Override
+    public @Nullable Snapshot back() {
+        if ((historyPointer - 1) < 0) return null;
+        historyPointer--;
+        return history.get(historyPointer);
+    }
+
+    @Override
+    public Snapshot seek(int step) {
+        if (step < 0) throw new IllegalArgumentException("step must be >= 0");
+
+        // Already computed: rebuild from the nearest keyframe
+        if (step < history.size()) {
+            historyPointer = step;
+            return history.get(historyPointer);
+        }
+
+        if (history.isEmpty()) throw new IllegalStateException("Stepper not started");
+
+        // Not reached yet: compute forward from the newest step
+        historyPointer = history.size() - 1;
+        if (ALGORITHM_COMPLETE) return history.get(historyPointer);
+
+        while (historyPointer < step && advance()) {
+            // only the target step needs a snapshot
+        }
+        return snapshot(historyPointer);
+    }
+
+    @Override
+    public int position() { return historyPointer; }
+
+    @Override
+    public int stepCount() { return history.size(); }
+
+    /**
+     * Appends the current state to the history and moves the pointer onto it.
+     */
+    private void record() {
+        historyPointer = history.append(
+                model.data(),
+                state.events(),
+                state.highlightBuffer(),
+                state.highlightCount(),
+                state.currentIndex(),
+                state.compareIndex(),
+                ALGORITHM_COMPLETE,
+                counter
+        );
+    }
+
+    /**
+     * Builds the snapshot of {@code step}. The newest step is built from the
+     * live model, older ones are rebuilt from the history.
+     */
+    private HistorySnapshot snapshot(int step) {
+        if (step == history.size() - 1) return history.snapshotWith(step, model.toArray());
+        return history.get(step);
+    }
+
+    @Override
+    public Snapshot randomize() {
+        // Fisher–Yates shuffle
+        int[] data = model.data();
+
+        for (int i = data.length - 1; i > 0; i--) {
+            int j = (int) (Math.random() * (i + 1));
+
+            int temp = data[i];
+            data[i] = data[j];
+            data[j] = temp;
+        }
+
+        state.reset();
+        counter.reset();
+        ALGORITHM_COMPLETE = false;
+
+        history.clear();
+        record();
+        return snapshot(historyPointer);
+    }
+
+
+    @Override
+    public StepHistory takeHistory() {
+        final var taken = history;
+        history = new StepHistory(taken.keyframeInterval(), SpillFile.DEFAULT_DIRECTORY);
+        historyPointer = 0;
+        return taken;
+    }
+
+    @Override
+    public int[] input() {
+        return history.isEmpty() ? model.toArray() : history.get(0).values();
+    }
+
+    /**
+     * Runs the algorithm from {@code input} up to {@code step} on the calling
+     * thread; the live stepper has no way to skip ahead. {@code at} is unused.
+     */
+    @Override
+    public Snapshot restore(int[] input, int step, @Nullable Snapshot at) {
+        if (input.length != model.size())
+            throw new IllegalArgumentException("input must have " + model.size() + " values");
+
+        System.arraycopy(input, 0, model.data(), 0, input.length);
+        state.reset();
+        counter.reset();
+        ALGORITHM_COMPLETE = false;
+
+        history.clear();
+        onStart();
+        return seek(step);
+    }
+
+    public boolean isDone() { return ALGORITHM_COMPLETE; }
+
+    @Override
+    public void close() {
+        history.close();
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.mcalgovisualizations.visualization.algorithms.sorting;
+
+import io.github.mcalgovisualizations.visualization.algorithms.CoroutineStepper;
+import io.github.mcalgovisualizations.visualization.algorithms.events.Message;
+import io.github.mcalgovisualizations.visualization.algorithms.events.MessageTemplate;
+import io.github.mcalgovisualizations.visualization.models.IntList;
+
+/**
+ * Bubble sort, written as the plain loop it is. Every comparison is a step.
+ */
+public class BubbleSortStepper extends CoroutineStepper {
+
+    public BubbleSortStepper(IntList model) {
+        super(model);
+    }
+
+    @Override
+    protected String name() {
+        return "Bubble Sort";
+    }
+
+    @Override
+    protected void run() throws InterruptedException {
+        final int[] a = data();
+
+        for (int end = a.length - 1; end > 0; end--) {
+            boolean swapped = false;
+            for (int i = 0; i < end; i++) {
+                if (greater(i, i + 1)) {
+                    swap(i, i + 1);
+                    swapped = true;
+                }
+                yieldStep();
+            }
+            // No swaps in a full pass: the rest is already in order
+            if (!swapped) break;
+        }
+
+        events().message(MessageTemplate.SORTING_COMPLETE, Message.MessageType.SUCCESS);
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.mcalgovisualizations.visualization.algorithms.sorting;
+
+import io.github.mcalgovisualizations.visualization.algorithms.CoroutineStepper;
+import io.github.mcalgovisualizations.visualization.algorithms.events.Message;
+import io.github.mcalgovisualizations.visualization.algorithms.events.MessageTemplate;
+import io.github.mcalgovisualizations.visualization.models.IntList;
+
+/**
+ * Heapsort on a max-heap built in place. Every comparison while sifting down
+ * is a step.
+ */
+public class HeapSortStepper extends CoroutineStepper {
+
+    public HeapSortStepper(IntList model) {
+        super(model);
+    }
+
+    @Override
+    protected String name() {
+        return "Heap Sort";
+    }
+
+    @Override
+    protected void run() throws InterruptedException {
+        final int n = data().length;
+
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(i, n);
+        }
+        events().message(MessageTemplate.HEAP_BUILT, Message.MessageType.INFO);
+        yieldStep();
+
+        for (int end = n - 1; end > 0; end--) {
+            swap(0, end);
+            events().message(MessageTemplate.EXTRACTED_MAX, Message.MessageType.INFO, end, 0);
+            yieldStep();
+            siftDown(0, end);
+        }
+
+        events().message(MessageTemplate.SORTING_COMPLETE, Message.MessageType.SUCCESS);
+    }
+
+    /** Sinks the value at {@code root} into the heap occupying {@code [0, size)}. */
+    private void siftDown(int root, int size) throws InterruptedException {
+        while (2 * root + 1 < size) {
+            int child = 2 * root + 1;
+            if (child + 1 < size) {
+                if (greater(child + 1, child)) child++;
+                yieldStep();
+            }
+
+            final boolean sinks = greater(child, root);
+            if (sinks) swap(root, child);
+            yieldStep();
+            if (!sinks) return;
+
+            root = child;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.mcalgovisualizations.visualization.algorithms.sorting;
+
+import io.github.mcalgovisualizations.visualization.algorithms.CoroutineStepper;
+import io.github.mcalgovisualizations.visualization.algorithms.events.Message;
+import io.github.mcalgovisualizations.visualization.algorithms.events.MessageTemplate;
+import io.github.mcalgovisualizations.visualization.models.IntList;
+
+/**
+ * Top-down merge sort. Every comparison of a merge is a step, then the merged
+ * run is moved into place in one step.
+ * <p>
+ * Values only ever move by swaps, so the merge first works out the merged
+ * order and then applies it with {@link #arrange(int, int[], int)}, at most
+ * one swap per value.
+ */
+public class MergeSortStepper extends CoroutineStepper {
+
+    public MergeSortStepper(IntList model) {
+        super(model);
+    }
+
+    @Override
+    protected String name() {
+        return "Merge Sort";
+    }
+
+    @Override
+    protected void run() throws InterruptedException {
+        final int n = data().length;
+        sort(0, n, new int[n]);
+
+        events().message(MessageTemplate.SORTING_COMPLETE, Message.MessageType.SUCCESS);
+    }
+
+    private void sort(int lo, int hi, int[] order) throws InterruptedException {
+        if (hi - lo < 2) return;
+
+        final int mid = (lo + hi) >>> 1;
+        sort(lo, mid, order);
+        sort(mid, hi, order);
+        merge(lo, mid, hi, order);
+    }
+
+    private void merge(int lo, int mid, int hi, int[] order) throws InterruptedException {
+        int i = lo;
+        int j = mid;
+        int k = 0;
+        while (i < mid && j < hi) {
+            // Ties take the left value, which keeps the sort stable
+            order[k++] = greater(i, j) ? j++ : i++;
+            yieldStep();
+        }
+        while (i < mid) order[k++] = i++;
+        while (j < hi) order[k++] = j++;
+
+        arrange(lo, order, k);
+        events().message(MessageTemplate.MERGED, Message.MessageType.INFO, lo, hi - 1);
+        yieldStep();
+    }
+}
@@ -0,0 +1,164 @@
+package io.github.mcalgovisualizations.visualization.algorithms.sorting;
+
+import io.github.mcalgovisualizations.visualization.algorithms.CoroutineStepper;
+import io.github.mcalgovisualizations.visualization.algorithms.events.Message;
+import io.github.mcalgovisualizations.visualization.algorithms.events.MessageTemplate;
+import io.github.mcalgovisualizations.visualization.algorithms.events.WorkerTask;
+import io.github.mcalgovisualizations.visualization.models.IntList;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Merge sort whose halves really run in parallel on a {@link ForkJoinPool}.
+ * <p>
+ * The first step sorts a copy of the values with fork/join tasks and reports
+ * how long that took. Every task logs the merge it did, tagged with the pool
+ * index of the worker that ran it. The following steps replay those merges on
+ * the model in the order they finished, one merge per step, each introduced
+ * by a {@link WorkerTask} event. A merge only starts once both of its halves
+ * have finished, so that order is always a valid one to apply them in.
+ * <p>
+ * Which worker does which merge, and the order in which independent merges
+ * finish, differ between runs. The final values do not.
+ * The workers count their comparisons in a shared {@link LongAdder}, which
+ * stays cheap under contention; the first step reports the total.
+ * The pool size can be set with the {@code visualization.sort.parallelism}
+ * system property.
+ */
+public class ParallelMergeSortStepper extends CoroutineStepper {
+
+    static final ForkJoinPool POOL = new ForkJoinPool(
+            Integer.getInteger("visualization.sort.parallelism", Runtime.getRuntime().availableProcessors())
+    );
+
+    /** Runs up to this long are sorted by the worker that owns them, without forking. */
+    static final int SEQUENTIAL_CUTOFF = 8;
+
+    /** Slot {@code from + k} receives the value that was at {@code order[k]}. */
+    private record Merge(int worker, int from, int[] order) {}
+
+    public ParallelMergeSortStepper(IntList model) {
+        super(model);
+    }
+
+    @Override
+    protected String name() {
+        return "Parallel Merge Sort";
+    }
+
+    @Override
+    protected void run() throws InterruptedException {
+        final int[] values = data().clone();
+        final Queue<Merge> merges = new ConcurrentLinkedQueue<>();
+        final var comparisons = new LongAdder();
+
+        final long start = System.nanoTime();
+        POOL.invoke(new SortTask(values, new int[values.length], 0, values.length, merges, comparisons));
+        final long micros = (System.nanoTime() - start) / 1_000;
+        counter().compare(comparisons.sum());
+        counter().read(2 * comparisons.sum());
+
+        events().text(
+                "Sorted " + values.length + " values on " + POOL.getParallelism() + " workers in " + micros + " µs",
+                Message.MessageType.INFO
+        );
+        yieldStep();
+
+        for (Merge merge = merges.poll(); merge != null; merge = merges.poll()) {
+            final int to = merge.from() + merge.order().length;
+            events().worker(merge.worker(), merge.from(), to);
+            arrange(merge.from(), merge.order(), merge.order().length);
+            events().message(MessageTemplate.MERGED, Message.MessageType.INFO, merge.from(), to - 1);
+            yieldStep();
+        }
+
+        events().message(MessageTemplate.SORTING_COMPLETE, Message.MessageType.SUCCESS);
+    }
+
+    private static int currentWorker() {
+        return Thread.currentThread() instanceof ForkJoinWorkerThread worker ? worker.getPoolIndex() : -1;
+    }
+
+    /** Sorts {@code values[lo, hi)}, forking the halves of longer runs. */
+    private static final class SortTask extends RecursiveAction {
+        private final int[] values;
+        private final int[] scratch;
+        private final int lo;
+        private final int hi;
+        private final Queue<Merge> merges;
+        private final LongAdder comparisons;
+
+        SortTask(int[] values, int[] scratch, int lo, int hi, Queue<Merge> merges, LongAdder comparisons) {
+            this.values = values;
+            this.scratch = scratch;
+            this.lo = lo;
+            this.hi = hi;
+            this.merges = merges;
+            this.comparisons = comparisons;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo < 2) return;
+
+            if (hi - lo <= SEQUENTIAL_CUTOFF) {
+                insertionSort();
+                return;
+            }
+
+            final int mid = (lo + hi) >>> 1;
+            invokeAll(
+                    new SortTask(values, scratch, lo, mid, merges, comparisons),
+                    new SortTask(values, scratch, mid, hi, merges, comparisons)
+            );
+            merge(mid);
+        }
+
+        private void merge(int mid) {
+            final int[] order = new int[hi - lo];
+            int i = lo;
+            int j = mid;
+            int k = 0;
+            while (i < mid && j < hi) {
+                order[k++] = values[i] > values[j] ? j++ : i++;
+            }
+            // One comparison per value placed before either half ran out
+            comparisons.add(k);
+            while (i < mid) order[k++] = i++;
+            while (j < hi) order[k++] = j++;
+
+            apply(order);
+        }
+
+        /** Sorts the run by slot, stable, so it can be logged like a merge. */
+        private void insertionSort() {
+            final int[] order = new int[hi - lo];
+            long compared = 0;
+            for (int k = 0; k < order.length; k++) {
+                final int slot = lo + k;
+                int at = k;
+                while (at > 0) {
+                    compared++;
+                    if (values[order[at - 1]] <= values[slot]) break;
+                    order[at] = order[at - 1];
+                    at--;
+                }
+                order[at] = slot;
+            }
+            comparisons.add(compared);
+
+            apply(order);
+        }
+
+        private void apply(int[] order) {
+            for (int k = 0; k < order.length; k++) scratch[lo + k] = values[order[k]];
+            System.arraycopy(scratch, lo, values, lo, order.length);
+            merges.add(new Merge(currentWorker(), lo, order));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.mcalgovisualizations.visualization.algorithms.sorting;
+
+import io.github.mcalgovisualizations.visualization.algorithms.CoroutineStepper;
+import io.github.mcalgovisualizations.visualization.algorithms.events.Message;
+import io.github.mcalgovisualizations.visualization.algorithms.events.MessageTemplate;
+import io.github.mcalgovisualizations.visualization.models.IntList;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Quicksort with a Lomuto partition and a choice of {@link PivotStrategy}.
+ * Every comparison against the pivot is a step.
+ * <p>
+ * The smaller side is sorted recursively and the larger one in the loop, so
+ * the recursion stays O(log n) deep even when the pivots are poor.
+ */
+public class QuickSortStepper extends CoroutineStepper {
+
+    public enum PivotStrategy {
+        FIRST,
+        LAST,
+        MIDDLE,
+        MEDIAN_OF_THREE,
+        /** Seeded from the input, so a replay of the same input picks the same pivots. */
+        RANDOM
+    }
+
+    private final PivotStrategy strategy;
+    private Random random;
+
+    public QuickSortStepper(IntList model) {
+        this(model, PivotStrategy.MEDIAN_OF_THREE);
+    }
+
+    public QuickSortStepper(IntList model, PivotStrategy strategy) {
+        super(model);
+        this.strategy = strategy;
+    }
+
+    @Override
+    protected String name() {
+        return "Quick Sort";
+    }
+
+    @Override
+    protected void run() throws InterruptedException {
+        random = new Random(Arrays.hashCode(data()));
+        sort(0, data().length - 1);
+
+        events().message(MessageTemplate.SORTING_COMPLETE, Message.MessageType.SUCCESS);
+    }
+
+    private void sort(int lo, int hi) throws InterruptedException {
+        while (lo < hi) {
+            final int p = partition(lo, hi);
+            if (p - lo < hi - p) {
+                sort(lo, p - 1);
+                lo = p + 1;
+            } else {
+                sort(p + 1, hi);
+                hi = p - 1;
+            }
+        }
+    }
+
+    private int partition(int lo, int hi) throws InterruptedException {
+        final int pivot = choosePivot(lo, hi);
+        events().highlight(pivot);
+        events().message(MessageTemplate.PIVOT_CHOSEN, Message.MessageType.INFO, pivot, 0);
+        // Park the pivot at the end, where Lomuto expects it
+        if (pivot != hi) swap(pivot, hi);
+        yieldStep();
+
+        int store = lo;
+        for (int i = lo; i < hi; i++) {
+            if (!greater(i, hi)) {
+                if (i != store) swap(i, store);
+                store++;
+            }
+            yieldStep();
+        }
+
+        if (store != hi) swap(store, hi);
+        events().message(MessageTemplate.PIVOT_PLACED, Message.MessageType.INFO, store, 0);
+        yieldStep();
+        return store;
+    }
+
+    private int choosePivot(int lo, int hi) {
+        return switch (strategy) {
+            case FIRST -> lo;
+            case LAST -> hi;
+            case MIDDLE -> (lo + hi) >>> 1;
+            case RANDOM -> lo + random.nextInt(hi - lo + 1);
+            case MEDIAN_OF_THREE -> medianOfThree(lo, (lo + hi) >>> 1, hi);
+        };
+    }
+
+    private int medianOfThree(int a, int b, int c) {
+        final int[] v = data();
+        counter().read(3);
+        if (less(v[a], v[b])) {
+            if (less(v[b], v[c])) return b;
+            return less(v[a], v[c]) ? c : a;
+        }
+        if (less(v[a], v[c])) return a;
+        return less(v[b], v[c]) ? c : b;
+    }
+
+    private boolean less(int x, int y) {
+        counter().compare(1);
+        return x < y;
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.mcalgovisualizations.visualization.algorithms.sorting;
+
+import io.github.mcalgovisualizations.visualization.algorithms.CoroutineStepper;
+import io.github.mcalgovisualizations.visualization.algorithms.events.Message;
+import io.github.mcalgovisualizations.visualization.algorithms.events.MessageTemplate;
+import io.github.mcalgovisualizations.visualization.models.IntList;
+
+import java.util.Arrays;
+
+/**
+ * LSD radix sort in base 10, one stable counting pass per digit. Reading a
+ * value's digit is a step (shown by highlighting it), then the pass moves
+ * every value into place in one step.
+ * <p>
+ * Values are offset by the minimum first, so negative values sort too.
+ */
+public class RadixSortStepper extends CoroutineStepper {
+
+    private static final int RADIX = 10;
+
+    public RadixSortStepper(IntList model) {
+        super(model);
+    }
+
+    @Override
+    protected String name() {
+        return "Radix Sort";
+    }
+
+    @Override
+    protected void run() throws InterruptedException {
+        final int[] a = data();
+        final int n = a.length;
+
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int v : a) {
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+        counter().read(n);
+
+        final int[] order = new int[n];
+        final int[] counts = new int[RADIX + 1];
+        int digit = 0;
+        for (long place = 1; n > 1 && (max - min) / place > 0; place *= RADIX, digit++) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < n; i++) {
+                counts[digitOf(a[i], min, place) + 1]++;
+                counter().read(1);
+                events().highlight(i);
+                yieldStep();
+            }
+            for (int d = 0; d < RADIX; d++) counts[d + 1] += counts[d];
+
+            // Stable: equal digits keep their current order
+            for (int i = 0; i < n; i++) {
+                order[counts[digitOf(a[i], min, place)]++] = i;
+            }
+            counter().read(n);
+            arrange(0, order, n);
+            events().message(MessageTemplate.DIGIT_PASS, Message.MessageType.INFO, digit + 1, 0);
+            yieldStep();
+        }
+
+        events().message(MessageTemplate.SORTING_COMPLETE, Message.MessageType.SUCCESS);
+    }
+
+    private static int digitOf(int value, long min, long place) {
+        return (int) (((value - min) / place) % RADIX);
+    }
+}
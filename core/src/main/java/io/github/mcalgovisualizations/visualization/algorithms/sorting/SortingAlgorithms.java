@@ -0,0 +1,80 @@
+package io.github.mcalgovisualizations.visualization.algorithms.sorting;
+
+import io.github.mcalgovisualizations.visualization.algorithms.AlgorithmDescriptor;
+import io.github.mcalgovisualizations.visualization.algorithms.AlgorithmProvider;
+import io.github.mcalgovisualizations.visualization.algorithms.IAlgorithmStepper;
+import io.github.mcalgovisualizations.visualization.algorithms.sorting.QuickSortStepper.PivotStrategy;
+import io.github.mcalgovisualizations.visualization.models.DataModel;
+import io.github.mcalgovisualizations.visualization.models.IntList;
+
+import java.util.List;
+
+/**
+ * The built-in sorting algorithms. Each stepper class is only referenced from
+ * its own branch of {@link #create(String, DataModel)}, so it loads when the
+ * algorithm is first selected.
+ */
+public final class SortingAlgorithms implements AlgorithmProvider {
+
+    private static AlgorithmDescriptor sort(String key, String name, String icon, String complexity, String... description) {
+        return new AlgorithmDescriptor(key, name, icon, List.of(description), complexity, IntList.class);
+    }
+
+    @Override
+    public List<AlgorithmDescriptor> algorithms() {
+        return List.of(
+                sort("insertionsort", "Insertion Sort", "minecraft:iron_sword", "Time: O(n²) | Space: O(1)",
+                        "A simple sorting algorithm that builds",
+                        "the final sorted array one item at a time."),
+                sort("bubblesort", "Bubble Sort", "minecraft:golden_sword", "Time: O(n²) | Space: O(1)",
+                        "Repeatedly swaps neighbours that are out",
+                        "of order until a pass makes no swaps."),
+                sort("mergesort", "Merge Sort", "minecraft:diamond_sword", "Time: O(n log n) | Space: O(n)",
+                        "Sorts both halves, then merges",
+                        "the two sorted runs into one."),
+                sort("parallelmergesort", "Parallel Merge Sort", "minecraft:netherite_sword", "Time: O(n log n) | Space: O(n)",
+                        "Merge sort whose halves run on",
+                        "several worker threads at once."),
+                sort("quicksort", "Quick Sort", "minecraft:stone_sword", "Time: O(n log n) avg | Space: O(log n)",
+                        "Partitions around a median-of-three",
+                        "pivot, then sorts both sides."),
+                sort("quicksort-first", "Quick Sort (first pivot)", "minecraft:stone_axe", "Time: O(n²) on sorted input",
+                        "Quick sort that always pivots on",
+                        "the first value of the range."),
+                sort("quicksort-last", "Quick Sort (last pivot)", "minecraft:stone_pickaxe", "Time: O(n²) on sorted input",
+                        "Quick sort that always pivots on",
+                        "the last value of the range."),
+                sort("quicksort-middle", "Quick Sort (middle pivot)", "minecraft:stone_shovel", "Time: O(n log n) avg | Space: O(log n)",
+                        "Quick sort that always pivots on",
+                        "the middle value of the range."),
+                sort("quicksort-random", "Quick Sort (random pivot)", "minecraft:stone_hoe", "Time: O(n log n) expected",
+                        "Quick sort that pivots on a",
+                        "randomly chosen value."),
+                sort("heapsort", "Heap Sort", "minecraft:wooden_sword", "Time: O(n log n) | Space: O(1)",
+                        "Builds a max-heap, then moves the",
+                        "largest value to the end each round."),
+                sort("radixsort", "Radix Sort", "minecraft:trident", "Time: O(d·n) | Space: O(n)",
+                        "Orders the values digit by digit,",
+                        "least significant digit first.")
+        );
+    }
+
+    @Override
+    public IAlgorithmStepper create(String key, DataModel model) {
+        final var list = (IntList) model;
+        return switch (key) {
+            case "insertionsort" -> new AlgorithmStepper(list);
+            case "bubblesort" -> new BubbleSortStepper(list);
+            case "mergesort" -> new MergeSortStepper(list);
+            case "parallelmergesort" -> new ParallelMergeSortStepper(list);
+            case "quicksort" -> new QuickSortStepper(list);
+            case "quicksort-first" -> new QuickSortStepper(list, PivotStrategy.FIRST);
+            case "quicksort-last" -> new QuickSortStepper(list, PivotStrategy.LAST);
+            case "quicksort-middle" -> new QuickSortStepper(list, PivotStrategy.MIDDLE);
+            case "quicksort-random" -> new QuickSortStepper(list, PivotStrategy.RANDOM);
+            case "heapsort" -> new HeapSortStepper(list);
+            case "radixsort" -> new RadixSortStepper(list);
+            default -> throw new IllegalArgumentException("No sorting algorithm for key: " + key);
+        };
+    }
+}
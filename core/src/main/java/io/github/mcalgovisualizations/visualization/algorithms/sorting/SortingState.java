@@ -0,0 +1,60 @@
+package io.github.mcalgovisualizations.visualization.algorithms.sorting;
+
+import io.github.mcalgovisualizations.visualization.algorithms.events.EventBuffer;
+
+import java.util.Arrays;
+
+public final class SortingState {
+    private int historyIndex = -1;
+    private int currentIndex = 1;
+    private int compareIndex = -1;
+
+    // Reused every step, so emitting a step allocates nothing once they have grown
+    private int[] highlights = new int[8];
+    private int highlightCount = 0;
+    private final EventBuffer events = new EventBuffer();
+
+    public void beginStep() {
+        highlightCount = 0;
+        events.clear();
+    }
+
+    @Override
+    public String toString() {
+        return historyIndex + " " + currentIndex + " " + compareIndex + " " + highlightCount + " " + events.size();
+    }
+
+    public void reset() {
+        currentIndex = 0;
+        compareIndex = -1;
+        highlightCount = 0;
+        events.clear();
+    }
+
+
+    public int historyIndex() { return historyIndex; }
+    public int currentIndex() { return currentIndex; }
+    public int compareIndex() { return compareIndex; }
+
+    public void setCompareIndex(int i) { compareIndex = i; }
+    public void incrementCurrentIndex() { currentIndex++; }
+    public void decrementHistoryIndex() { historyIndex--; }
+    public void setHistoryIndex(int i) { historyIndex = i; }
+
+    public void highlightIndex(int index) {
+        if (highlightCount == highlights.length) highlights = Arrays.copyOf(highlights, highlightCount * 2);
+        highlights[highlightCount++] = index;
+    }
+
+    /** A copy of the highlighted slots of this step. */
+    public int[] highlights() { return Arrays.copyOf(highlights, highlightCount); }
+
+    /** The backing array of the highlights; only the first {@link #highlightCount()} are set. */
+    public int[] highlightBuffer() { return highlights; }
+    public int highlightCount() { return highlightCount; }
+
+    /** The events of the current step, written in place by the stepper. */
+    public EventBuffer events() { return events; }
+
+
+}
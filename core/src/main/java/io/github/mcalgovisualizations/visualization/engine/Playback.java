@@ -0,0 +1,181 @@
+package io.github.mcalgovisualizations.visualization.engine;
+
+import io.github.mcalgovisualizations.visualization.HistorySnapshot;
+import io.github.mcalgovisualizations.visualization.Snapshot;
+import io.github.mcalgovisualizations.visualization.algorithms.IAlgorithmStepper;
+import io.github.mcalgovisualizations.visualization.session.SessionState;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * One session's position in a run and what has been shown of it, without any
+ * notion of ticks, players or worlds.
+ * <p>
+ * Every move asks the stepper for the target state and hands it to the
+ * {@link PlaybackRenderer} the way that state should be shown. Scheduling and
+ * chat feedback are left to the caller, so the whole engine runs in a plain
+ * JVM, e.g. to simulate thousands of sessions against a headless renderer.
+ */
+public final class Playback implements AutoCloseable {
+
+    private final IAlgorithmStepper stepper;
+    private final PlaybackRenderer renderer;
+    private @Nullable HistorySnapshot current = null;
+    // Whether current folds several steps into one, see skip(int)
+    private boolean batched = false;
+    // Stepper position current was shown at
+    private int shownAt = -1;
+
+    public Playback(IAlgorithmStepper stepper, PlaybackRenderer renderer) {
+        this.stepper = stepper;
+        this.renderer = renderer;
+    }
+
+    public void onStart() {
+        renderer.onStart();
+        var snapshot = (HistorySnapshot) stepper.randomize();
+        setCurrent(snapshot, false);
+        renderer.render(snapshot);
+    }
+
+    /**
+     * Starts a fresh run on {@code input} instead of random values, so several
+     * playbacks can run on the same values.
+     *
+     * @throws IllegalArgumentException if {@code input} does not fit the stepper's model
+     */
+    public void start(int[] input) {
+        renderer.onStart();
+        final var snapshot = (HistorySnapshot) stepper.restore(input, 0, null);
+        setCurrent(snapshot, false);
+        renderer.hardReset(snapshot);
+    }
+
+    /**
+     * Starts from a session saved before a restart instead of a fresh run.
+     * The scene is built straight at the saved step.
+     */
+    public void resume(SessionState state) {
+        renderer.onStart();
+        final var snapshot = (HistorySnapshot) stepper.restore(state.input(), state.step(), state.snapshot());
+        setCurrent(snapshot, false);
+        renderer.hardReset(snapshot);
+    }
+
+    /**
+     * Captures what {@link #resume(SessionState)} needs to continue this session later.
+     */
+    public SessionState saveState(String key, int ticksPerStep, String layout) {
+        return new SessionState(key, stepper.input(), stepper.position(), ticksPerStep, layout, current);
+    }
+
+    /**
+     * Moves one step forward.
+     *
+     * @return whether anything was rendered; not the case at the end of the run
+     *         or while a trace is still recording
+     */
+    public boolean step() {
+        return show(stepper.step(), false);
+    }
+
+    /**
+     * Moves {@code n} steps forward with a single render. The swaps of the
+     * skipped steps arrive folded into one permutation, so the scene moves
+     * every display once no matter how many steps were skipped.
+     *
+     * @return whether anything was rendered
+     */
+    public boolean skip(int n) {
+        return show(stepper.step(Math.max(1, n)), true);
+    }
+
+    /**
+     * Jumps straight to {@code stepIndex}, computing forward if it has not been
+     * reached yet. The scene skips to the target arrangement without animating
+     * the steps in between.
+     */
+    public void seek(int stepIndex) {
+        final var snapshot = (HistorySnapshot) stepper.seek(Math.max(0, stepIndex));
+        setCurrent(snapshot, false);
+        renderer.jumpTo(snapshot);
+    }
+
+    /**
+     * Jumps to {@code percent} of the whole run (0 = start, 100 = final step).
+     * Only possible once the length of the run is known: a live stepper has to
+     * have run to the end and a trace has to be recorded. The rest of a run is
+     * never computed here, as this runs on the caller's thread.
+     *
+     * @return whether the playback moved, {@code false} while the length is not known
+     * @throws IllegalArgumentException if {@code percent} is outside [0, 100]
+     */
+    public boolean seekPercent(double percent) {
+        if (percent < 0 || percent > 100) throw new IllegalArgumentException("percent must be within [0, 100]");
+        if (!stepper.isLengthKnown()) return false;
+
+        final int last = stepper.stepCount() - 1;
+        seek((int) Math.round(last * percent / 100.0));
+        return true;
+    }
+
+    /**
+     * Steps back one step, animating the inverse of the events of the step
+     * being undone on the scene as it is. Right after {@link #skip(int)} the
+     * shown events cover the whole batch rather than the last step, so the
+     * scene jumps to the previous step instead.
+     */
+    public void back() {
+        final var undone = current;
+        final var snapshot = (HistorySnapshot) stepper.back();
+        if (snapshot == null || undone == null) return;
+        final boolean wasBatch = batched;
+        setCurrent(snapshot, false);
+
+        if (wasBatch) renderer.jumpTo(snapshot);
+        else renderer.rewind(undone);
+    }
+
+    public void randomize() {
+        final var snapshot = (HistorySnapshot) stepper.randomize();
+        setCurrent(snapshot, false);
+        renderer.hardReset(snapshot);
+    }
+
+    public int position() {
+        return stepper.position();
+    }
+
+    public boolean isDone() {
+        return stepper.isDone();
+    }
+
+    /**
+     * The state most recently handed to the renderer, or {@code null} before {@link #onStart()}.
+     */
+    public @Nullable HistorySnapshot currentSnapshot() {
+        return current;
+    }
+
+    @Override
+    public void close() {
+        renderer.onCleanup();
+        stepper.close();
+    }
+
+    private boolean show(Snapshot next, boolean batch) {
+        final var snapshot = (HistorySnapshot) next;
+        // Nothing moved, e.g. a trace still recording. At the end of the run a
+        // live stepper hands out a new snapshot of the last step on every call.
+        if (snapshot == current || (stepper.isDone() && stepper.position() == shownAt)) return false;
+        setCurrent(snapshot, batch);
+
+        renderer.render(snapshot);
+        return true;
+    }
+
+    private void setCurrent(HistorySnapshot snapshot, boolean batch) {
+        current = snapshot;
+        batched = batch;
+        shownAt = stepper.position();
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.mcalgovisualizations.visualization.engine;
+
+import io.github.mcalgovisualizations.visualization.Snapshot;
+
+/**
+ * What a {@link Playback} draws on. The Minestom renderer is one
+ * implementation; a headless one can count or discard frames, which is how
+ * sessions are simulated without a server.
+ */
+public interface PlaybackRenderer {
+
+    void onStart();
+
+    /** Animates the events of the step that produced {@code snapshot}. */
+    void render(Snapshot snapshot);
+
+    /** Animates the step that produced {@code undone} backwards. */
+    void rewind(Snapshot undone);
+
+    /** Shows {@code snapshot} straight away, without animating the steps in between. */
+    void jumpTo(Snapshot snapshot);
+
+    /** Rebuilds the scene from scratch around {@code snapshot}. */
+    void hardReset(Snapshot snapshot);
+
+    /**
+     * Full teardown. Not resumable.
+     */
+    void onCleanup();
+}
@@ -0,0 +1,163 @@
+package io.github.mcalgovisualizations.visualization.engine;
+
+import io.github.mcalgovisualizations.visualization.algorithms.OperationCounts;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Two to four algorithms racing side by side on copies of the same input.
+ * <p>
+ * Every lane is a {@link Playback} of its own, with its own stepper and
+ * renderer. One {@link #tick()} moves every lane that has not finished by one
+ * step, so the lanes never drift apart and a single scheduler task drives the
+ * whole race. The tick on which a lane reaches its final step is its finish
+ * time, so fewer steps means an earlier finish.
+ * <p>
+ * Lanes should use live steppers: a {@link io.github.mcalgovisualizations.visualization.algorithms.TraceStepper}
+ * does not move while its trace is still recording, which would hand the other
+ * lanes a head start.
+ */
+public final class Race implements AutoCloseable {
+
+    public static final int MIN_LANES = 2;
+    public static final int MAX_LANES = 4;
+
+    /**
+     * One algorithm in the race.
+     *
+     * @param name     shown when the lane finishes
+     * @param playback the lane's run, started by the race
+     */
+    public record Lane(String name, Playback playback) {
+        public Lane {
+            Objects.requireNonNull(name, "name");
+            Objects.requireNonNull(playback, "playback");
+        }
+    }
+
+    private final List<Lane> lanes;
+    // Tick each lane finished on, -1 while it is still running
+    private final int[] finishTicks;
+    private int ticks = 0;
+    private int[] input = new int[0];
+
+    /**
+     * @throws IllegalArgumentException if there are fewer than {@link #MIN_LANES}
+     *                                  or more than {@link #MAX_LANES} lanes
+     */
+    public Race(List<Lane> lanes) {
+        if (lanes.size() < MIN_LANES || lanes.size() > MAX_LANES)
+            throw new IllegalArgumentException("a race needs " + MIN_LANES + " to " + MAX_LANES + " lanes");
+
+        this.lanes = List.copyOf(lanes);
+        this.finishTicks = new int[lanes.size()];
+        Arrays.fill(finishTicks, -1);
+    }
+
+    /**
+     * Starts every lane from the beginning on its own copy of {@code input}.
+     *
+     * @throws IllegalArgumentException if {@code input} does not fit a lane's model
+     */
+    public void start(int[] input) {
+        this.input = input.clone();
+        ticks = 0;
+        for (int i = 0; i < lanes.size(); i++) {
+            final var playback = lanes.get(i).playback();
+            playback.start(input.clone());
+            // Already sorted input: nothing to race
+            finishTicks[i] = playback.isDone() ? 0 : -1;
+        }
+    }
+
+    /** Restarts the race on a shuffle of the current input. */
+    public void randomize(Random random) {
+        start(shuffled(input, random));
+    }
+
+    /** A shuffled copy of {@code values}. */
+    public static int[] shuffled(int[] values, Random random) {
+        final int[] out = values.clone();
+        // Fisher–Yates shuffle
+        for (int i = out.length - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int tmp = out[i];
+            out[i] = out[j];
+            out[j] = tmp;
+        }
+        return out;
+    }
+
+    /**
+     * Moves every lane that has not finished one step forward.
+     *
+     * @return whether any lane is still running afterwards
+     */
+    public boolean tick() {
+        if (isFinished()) return false;
+
+        ticks++;
+        for (int i = 0; i < lanes.size(); i++) {
+            if (finishTicks[i] >= 0) continue;
+
+            final var playback = lanes.get(i).playback();
+            playback.step();
+            if (playback.isDone()) finishTicks[i] = ticks;
+        }
+        return !isFinished();
+    }
+
+    /** Ticks since the race started. */
+    public int ticks() {
+        return ticks;
+    }
+
+    public List<Lane> lanes() {
+        return lanes;
+    }
+
+    /** The values every lane started from. */
+    public int[] input() {
+        return input.clone();
+    }
+
+    /** The tick {@code lane} finished on, or {@code -1} while it is running. */
+    public int finishTick(int lane) {
+        return finishTicks[lane];
+    }
+
+    /**
+     * Finishing position of {@code lane}, {@code 1} for the winner; lanes that
+     * finished on the same tick share a place. {@code -1} while it is running.
+     */
+    public int place(int lane) {
+        if (finishTicks[lane] < 0) return -1;
+
+        int place = 1;
+        for (int tick : finishTicks) {
+            if (tick >= 0 && tick < finishTicks[lane]) place++;
+        }
+        return place;
+    }
+
+    /** Operations {@code lane} has done so far. */
+    public OperationCounts counts(int lane) {
+        final var snapshot = lanes.get(lane).playback().currentSnapshot();
+        return snapshot == null ? OperationCounts.ZERO : snapshot.counts();
+    }
+
+    public boolean isFinished() {
+        for (int tick : finishTicks) {
+            if (tick < 0) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        for (var lane : lanes) lane.playback().close();
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.mcalgovisualizations.visualization.engine;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Time that everything run from one {@link TimingWheel} tick may spend
+ * together, however many sessions share it. Each caller works until what is
+ * left of the tick's budget runs out; the budget is renewed once the wheel
+ * has moved on to the next tick.
+ * <p>
+ * Not thread-safe: meant for the single thread that advances the wheel.
+ */
+public final class TickBudget {
+
+    private final long nanosPerTick;
+    private final LongSupplier clock;
+    private long tick = Long.MIN_VALUE;
+    private long remaining;
+
+    /**
+     * @param nanosPerTick time shared by all callers within one tick
+     * @param clock        nanosecond clock, {@link System#nanoTime()} outside tests
+     */
+    public TickBudget(long nanosPerTick, LongSupplier clock) {
+        if (nanosPerTick <= 0) throw new IllegalArgumentException("nanosPerTick must be > 0");
+        this.nanosPerTick = nanosPerTick;
+        this.clock = clock;
+        this.remaining = nanosPerTick;
+    }
+
+    /**
+     * Starts using the budget of wheel tick {@code tick}, renewing it if that
+     * tick has not drawn from it yet.
+     *
+     * @return the start time to hand to {@link #exhausted(long)} and {@link #end(long)}
+     */
+    public long begin(long tick) {
+        if (tick != this.tick) {
+            this.tick = tick;
+            remaining = nanosPerTick;
+        }
+        return clock.getAsLong();
+    }
+
+    /** Whether the time since {@code start} has used up what was left of the tick. */
+    public boolean exhausted(long start) {
+        return clock.getAsLong() - start >= remaining;
+    }
+
+    /** Charges the time since {@code start} to the current tick. */
+    public void end(long start) {
+        remaining = Math.max(0, remaining - (clock.getAsLong() - start));
+    }
+
+    /** What is left of the current tick's budget. */
+    public long remainingNanos() {
+        return remaining;
+    }
+}
@@ -0,0 +1,290 @@
+package io.github.mcalgovisualizations.visualization.engine;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Runs the periodic timers of every session from one clock, so the server
+ * needs a single scheduler task instead of one per session.
+ * <p>
+ * Timers sit in a hashed wheel of {@link #SLOTS} buckets, one per tick: a
+ * timer due on tick {@code t} is linked into bucket {@code t % SLOTS}, and a
+ * tick only visits its own bucket. Scheduling, cancelling and changing a
+ * period are O(1), and a tick costs O(timers due that tick), plus any timer
+ * with a period longer than the wheel that is only passing through.
+ * <p>
+ * {@link #advance()} is called once per server tick and runs every wheel tick
+ * that is due by the clock. When the server lags, the missed ticks run back to
+ * back on the next call, at most {@code maxCatchUpTicks} of them. A timer
+ * scheduled with catch-up then fires once for each period it missed; one
+ * without fires once and carries on from there. Lag beyond
+ * {@code maxCatchUpTicks} is dropped, so a long stall slows sessions down
+ * instead of replaying it all at once. How far each firing is off its ideal
+ * time is kept as jitter, see {@link #stats()}.
+ */
+public final class TimingWheel {
+
+    /** Buckets in the wheel, one per tick; a power of two. */
+    public static final int SLOTS = 256;
+    private static final int MASK = SLOTS - 1;
+
+    /**
+     * How the wheel has been keeping time.
+     *
+     * @param timers            timers currently scheduled
+     * @param firings           timer runs so far
+     * @param droppedTicks      ticks skipped because the server was too far behind
+     * @param meanJitterMillis  mean distance of a firing from its ideal time
+     * @param maxJitterMillis   largest distance of a firing from its ideal time
+     */
+    public record Stats(int timers, long firings, long droppedTicks, double meanJitterMillis, double maxJitterMillis) {
+
+        /** One line for chat and logs. */
+        public String summary() {
+            return timers + " timers, " + firings + " firings, jitter "
+                    + String.format("%.1f", meanJitterMillis) + " ms mean / "
+                    + String.format("%.1f", maxJitterMillis) + " ms max, "
+                    + droppedTicks + " ticks dropped";
+        }
+    }
+
+    /**
+     * A periodic timer of the wheel. It keeps firing until {@link #cancel()}.
+     */
+    public final class Timer {
+        private final Runnable action;
+        private final boolean catchUp;
+        private int period;
+        private long lastFired;
+        private long due;
+        private boolean active = true;
+        // Bucket links, only meaningful while linked
+        private boolean linked = false;
+        private @Nullable Timer prev = null;
+        private @Nullable Timer next = null;
+
+        private Timer(Runnable action, int period, boolean catchUp) {
+            this.action = action;
+            this.period = period;
+            this.catchUp = catchUp;
+        }
+
+        /** Stops the timer; it does not fire again. Cancelling twice does nothing. */
+        public void cancel() {
+            synchronized (TimingWheel.this) {
+                if (!active) return;
+                active = false;
+                if (linked) unlink(this);
+                timers--;
+            }
+        }
+
+        /**
+         * Changes the period in place. The next firing moves to one new
+         * period after the last one, or the next tick if that has passed.
+         *
+         * @throws IllegalArgumentException if {@code period <= 0}
+         */
+        public void setPeriod(int period) {
+            requirePeriod(period);
+            synchronized (TimingWheel.this) {
+                this.period = period;
+                if (linked) {
+                    unlink(this);
+                    link(this, Math.max(lastFired + period, tick + 1));
+                }
+            }
+        }
+
+        public int period() {
+            return period;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+    }
+
+    private final long tickNanos;
+    private final int maxCatchUpTicks;
+    private final LongSupplier clock;
+    // Each bucket is a doubly linked list, appended at the tail so timers
+    // due on the same tick fire in the order they were scheduled
+    private final @Nullable Timer[] heads = new Timer[SLOTS];
+    private final @Nullable Timer[] tails = new Timer[SLOTS];
+    // Due timers of the tick being run, reused between ticks
+    private final List<Timer> firing = new ArrayList<>();
+
+    // Last wheel tick that ran; timers are always due after it
+    private long tick = 0;
+    // Clock time the next wheel tick is due at, set on the first advance
+    private long nextTickNanos;
+    private boolean anchored = false;
+    private int timers = 0;
+
+    private long firings = 0;
+    private long droppedTicks = 0;
+    private long jitterSumNanos = 0;
+    private long maxJitterNanos = 0;
+
+    /**
+     * @param tickNanos       length of a tick, 50 ms on a Minecraft server
+     * @param maxCatchUpTicks most ticks one {@link #advance()} runs to catch up
+     * @param clock           a monotonic clock in nanoseconds, such as {@link System#nanoTime()}
+     * @throws IllegalArgumentException if {@code tickNanos} or {@code maxCatchUpTicks} is not positive
+     */
+    public TimingWheel(long tickNanos, int maxCatchUpTicks, LongSupplier clock) {
+        if (tickNanos <= 0) throw new IllegalArgumentException("tickNanos must be > 0");
+        if (maxCatchUpTicks <= 0) throw new IllegalArgumentException("maxCatchUpTicks must be > 0");
+        this.tickNanos = tickNanos;
+        this.maxCatchUpTicks = maxCatchUpTicks;
+        this.clock = clock;
+    }
+
+    /**
+     * Runs {@code action} every {@code period} ticks, starting one period from now.
+     *
+     * @param catchUp whether to fire once per missed period after a lag, or just once
+     * @throws IllegalArgumentException if {@code period <= 0}
+     */
+    public Timer schedule(int period, boolean catchUp, Runnable action) {
+        return schedule(period, period, catchUp, action);
+    }
+
+    /**
+     * Runs {@code action} {@code firstDelay} ticks from now, then every
+     * {@code period} ticks. A delay of 1 is the next tick.
+     *
+     * @param catchUp whether to fire once per missed period after a lag, or just once
+     * @throws IllegalArgumentException if {@code firstDelay} or {@code period} is not positive
+     */
+    public synchronized Timer schedule(int firstDelay, int period, boolean catchUp, Runnable action) {
+        if (firstDelay <= 0) throw new IllegalArgumentException("firstDelay must be > 0");
+        requirePeriod(period);
+        final var timer = new Timer(action, period, catchUp);
+        timer.lastFired = tick + firstDelay - period;
+        link(timer, tick + firstDelay);
+        timers++;
+        return timer;
+    }
+
+    /**
+     * Runs every tick that is due by the clock, rounding to the nearest tick so
+     * a call that comes slightly early is not put off to the next one.
+     */
+    public synchronized void advance() {
+        final long now = clock.getAsLong();
+        if (!anchored) {
+            // The wheel's current tick is now
+            nextTickNanos = now + tickNanos;
+            anchored = true;
+            return;
+        }
+
+        final long behind = now - nextTickNanos + tickNanos / 2;
+        if (behind < 0) return;
+
+        long due = behind / tickNanos + 1;
+        if (due > maxCatchUpTicks) {
+            droppedTicks += due - maxCatchUpTicks;
+            nextTickNanos += (due - maxCatchUpTicks) * tickNanos;
+            due = maxCatchUpTicks;
+        }
+
+        final long last = tick + due;
+        while (tick < last) {
+            runTick(tick + 1, last, now);
+            nextTickNanos += tickNanos;
+        }
+    }
+
+    /** Wheel ticks run so far. */
+    public synchronized long ticks() {
+        return tick;
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(
+                timers,
+                firings,
+                droppedTicks,
+                firings == 0 ? 0 : jitterSumNanos / 1e6 / firings,
+                maxJitterNanos / 1e6
+        );
+    }
+
+    /** Starts the jitter and firing counts over, e.g. after a known stall. */
+    public synchronized void resetStats() {
+        firings = 0;
+        droppedTicks = 0;
+        jitterSumNanos = 0;
+        maxJitterNanos = 0;
+    }
+
+    private void runTick(long t, long last, long now) {
+        tick = t;
+
+        // Take the due timers out first, so their actions can freely cancel or
+        // schedule timers, including ones in this same bucket
+        for (var timer = heads[(int) (t & MASK)]; timer != null; ) {
+            final var next = timer.next;
+            if (timer.due == t) {
+                unlink(timer);
+                firing.add(timer);
+            }
+            timer = next;
+        }
+        if (firing.isEmpty()) return;
+
+        final long jitter = Math.abs(now - nextTickNanos);
+        for (var timer : firing) {
+            if (!timer.active) continue;
+
+            try {
+                timer.action.run();
+            } catch (RuntimeException e) {
+                System.err.println("Timer failed: " + e);
+            }
+            firings++;
+            jitterSumNanos += jitter;
+            maxJitterNanos = Math.max(maxJitterNanos, jitter);
+
+            if (timer.active && !timer.linked) {
+                timer.lastFired = t;
+                // Without catch-up, fire at most once per advance
+                final long next = t + timer.period;
+                link(timer, timer.catchUp ? next : Math.max(next, last + 1));
+            }
+        }
+        firing.clear();
+    }
+
+    private void link(Timer timer, long due) {
+        final int slot = (int) (due & MASK);
+        timer.due = due;
+        timer.prev = tails[slot];
+        timer.next = null;
+        if (timer.prev != null) timer.prev.next = timer;
+        else heads[slot] = timer;
+        tails[slot] = timer;
+        timer.linked = true;
+    }
+
+    private void unlink(Timer timer) {
+        final int slot = (int) (timer.due & MASK);
+        if (timer.prev != null) timer.prev.next = timer.next;
+        else heads[slot] = timer.next;
+        if (timer.next != null) timer.next.prev = timer.prev;
+        else tails[slot] = timer.prev;
+        timer.prev = null;
+        timer.next = null;
+        timer.linked = false;
+    }
+
+    private static void requirePeriod(int period) {
+        if (period <= 0) throw new IllegalArgumentException("period must be > 0");
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.mcalgovisualizations.visualization.history;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A small pool of heap {@link ByteBuffer}s so encoding a snapshot does not
+ * allocate a fresh scratch buffer every step.
+ */
+final class ByteBufferPool {
+
+    private final ConcurrentLinkedQueue<ByteBuffer> free = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+    private final int initialCapacity;
+    private final int maxPooled;
+
+    ByteBufferPool(int initialCapacity, int maxPooled) {
+        this.initialCapacity = initialCapacity;
+        this.maxPooled = maxPooled;
+    }
+
+    /**
+     * Returns a cleared buffer with at least {@code minCapacity} bytes of room.
+     */
+    ByteBuffer acquire(int minCapacity) {
+        final var buf = free.poll();
+        if (buf != null) {
+            pooled.decrementAndGet();
+            if (buf.capacity() >= minCapacity) return buf.clear();
+        }
+        return ByteBuffer.allocate(Math.max(minCapacity, initialCapacity));
+    }
+
+    void release(ByteBuffer buf) {
+        if (pooled.incrementAndGet() > maxPooled) {
+            pooled.decrementAndGet();
+            return;
+        }
+        free.offer(buf);
+    }
+}
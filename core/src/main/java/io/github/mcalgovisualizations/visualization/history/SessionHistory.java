@@ -0,0 +1,246 @@
+package io.github.mcalgovisualizations.visualization.history;
+
+import io.github.mcalgovisualizations.visualization.HistorySnapshot;
+import org.jspecify.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded history of encoded snapshots for one session.
+ * <p>
+ * Frames live in a ring buffer and are addressed by an absolute step index,
+ * so indices stay stable while old frames are evicted. Writers (append and
+ * eviction) synchronize on the instance; {@link #get(long)} never locks. It
+ * reads the frames it needs and then checks that none of them were evicted
+ * meanwhile, retrying if they were.
+ * <p>
+ * When the oldest frame is evicted and the next one is a delta, the next one
+ * is re-encoded as a keyframe first, so every retained frame stays decodable.
+ * <p>
+ * With a {@link SpillFile}, evicted frames are not dropped but appended to the
+ * file in their original encoding, and steps older than the heap ring are paged
+ * back in from there.
+ */
+public final class SessionHistory {
+
+    private final int keyframeInterval;
+    private final AtomicReferenceArray<byte[]> slots;
+    private volatile @Nullable SpillFile spill;
+
+    private volatile long first = 0;
+    private volatile long next = 0;
+    private volatile long lastAccessNanos = System.nanoTime();
+
+    // Writer-side state, guarded by this
+    private @Nullable HistorySnapshot lastAppended = null;
+    private long bytes = 0;
+    // Original delta of the oldest frame if it was re-encoded as a keyframe on eviction
+    private byte @Nullable [] oldestOriginal = null;
+
+    /**
+     * @param depth            maximum number of frames kept
+     * @param keyframeInterval every n-th frame is written as a keyframe
+     * @throws IllegalArgumentException if {@code depth <= 0} or {@code keyframeInterval <= 0}
+     */
+    public SessionHistory(int depth, int keyframeInterval) {
+        this(depth, keyframeInterval, null);
+    }
+
+    /**
+     * @param spill file evicted frames are written to, or {@code null} to drop them;
+     *              the history takes ownership and closes it on {@link #clear()}
+     */
+    public SessionHistory(int depth, int keyframeInterval, @Nullable SpillFile spill) {
+        if (depth <= 0) throw new IllegalArgumentException("depth must be > 0");
+        if (keyframeInterval <= 0) throw new IllegalArgumentException("keyframeInterval must be > 0");
+
+        this.slots = new AtomicReferenceArray<>(depth);
+        this.keyframeInterval = keyframeInterval;
+        this.spill = spill;
+    }
+
+    /**
+     * Encodes and appends a snapshot, evicting the oldest frame if the ring is full.
+     *
+     * @return the change in retained bytes caused by this call
+     */
+    public synchronized long append(HistorySnapshot snapshot) {
+        long delta = 0;
+        if (next - first == slots.length()) {
+            delta -= evictOldest();
+        }
+
+        final long seq = next;
+        final var base = seq % keyframeInterval == 0 || seq == first ? null : lastAppended;
+        final byte[] frame = SnapshotCodec.encode(snapshot, base);
+
+        slots.set(slot(seq), frame);
+        lastAppended = snapshot;
+        bytes += frame.length;
+        delta += frame.length;
+
+        next = seq + 1;
+        touch();
+        return delta;
+    }
+
+    /**
+     * Decodes the frame at the absolute step index {@code seq}.
+     *
+     * @return the snapshot, or {@code null} if it was never written or has been evicted
+     */
+    public @Nullable HistorySnapshot get(long seq) {
+        touch();
+        while (true) {
+            if (seq >= next) return null;
+            if (seq < first) return getSpilled(seq);
+
+            // Walk back to the nearest keyframe
+            long start = seq;
+            byte[] frame = slots.get(slot(start));
+            while (frame != null && !SnapshotCodec.isKeyframe(frame) && start > first) {
+                start--;
+                frame = slots.get(slot(start));
+            }
+
+            HistorySnapshot decoded = null;
+            try {
+                if (frame != null && SnapshotCodec.isKeyframe(frame)) {
+                    decoded = SnapshotCodec.decode(frame, null);
+                    for (long s = start + 1; s <= seq; s++) {
+                        decoded = SnapshotCodec.decode(slots.get(slot(s)), decoded);
+                    }
+                }
+            } catch (RuntimeException ignored) {
+                // A concurrent eviction recycled one of the slots, validated below
+                decoded = null;
+            }
+
+            // Slots are only recycled after first moved past them
+            if (decoded != null && start >= first) return decoded;
+        }
+    }
+
+    /**
+     * Moves the oldest frame off the heap unless it is the only one left.
+     * It is written to the spill file if there is one, otherwise dropped.
+     *
+     * @return the number of heap bytes freed
+     */
+    public synchronized long evictOldest() {
+        final long oldest = first;
+        if (next - oldest <= 1) return 0;
+
+        final byte[] removed = slots.get(slot(oldest));
+        spillFrame(oldestOriginal != null ? oldestOriginal : removed);
+        oldestOriginal = null;
+
+        long freed = 0;
+        final int nextSlot = slot(oldest + 1);
+        final byte[] successor = slots.get(nextSlot);
+        if (!SnapshotCodec.isKeyframe(successor)) {
+            final var decoded = get(oldest + 1);
+            final byte[] keyframe = SnapshotCodec.encode(decoded, null);
+            slots.set(nextSlot, keyframe);
+            oldestOriginal = successor;
+            freed -= keyframe.length - successor.length;
+        }
+
+        freed += removed.length;
+        first = oldest + 1;
+        slots.set(slot(oldest), null);
+
+        bytes -= freed;
+        return freed;
+    }
+
+    /**
+     * Drops every frame and deletes the spill file; step indices keep counting
+     * from where they were.
+     *
+     * @return the number of heap bytes freed
+     */
+    public synchronized long clear() {
+        final long freed = bytes;
+        first = next;
+        for (int i = 0; i < slots.length(); i++) slots.set(i, null);
+        lastAppended = null;
+        oldestOriginal = null;
+        bytes = 0;
+        closeSpill();
+        return freed;
+    }
+
+    /** Number of frames written to the spill file. */
+    public int spilledFrames() {
+        final var file = spill;
+        return file == null ? 0 : file.size();
+    }
+
+    /** Absolute index of the oldest retained frame. */
+    public long firstIndex() { return first; }
+
+    /** Absolute index the next appended frame will get. */
+    public long nextIndex() { return next; }
+
+    public int frames() { return (int) (next - first); }
+
+    public synchronized long bytes() { return bytes; }
+
+    public long lastAccessNanos() { return lastAccessNanos; }
+
+    /**
+     * Appends the frame being evicted to the spill file. Frames are evicted in
+     * order starting at step 0, so the n-th spilled frame is step n.
+     */
+    private void spillFrame(byte[] frame) {
+        final var file = spill;
+        if (file == null) return;
+
+        try {
+            file.append(frame);
+        } catch (RuntimeException e) {
+            // Disk full or unmappable; keep going heap-only
+            System.err.println("Disabling history spill: " + e.getMessage());
+            closeSpill();
+        }
+    }
+
+    private @Nullable HistorySnapshot getSpilled(long seq) {
+        final var file = spill;
+        if (file == null) return null;
+
+        try {
+            if (seq >= file.size()) return null;
+
+            int start = (int) seq;
+            byte[] frame = file.read(start);
+            while (!SnapshotCodec.isKeyframe(frame)) {
+                frame = file.read(--start);
+            }
+
+            HistorySnapshot decoded = SnapshotCodec.decode(frame, null);
+            for (int s = start + 1; s <= seq; s++) {
+                decoded = SnapshotCodec.decode(file.read(s), decoded);
+            }
+            return decoded;
+        } catch (IllegalStateException e) {
+            // Closed by a concurrent clear()
+            return null;
+        }
+    }
+
+    private void closeSpill() {
+        final var file = spill;
+        spill = null;
+        if (file != null) file.close();
+    }
+
+    private void touch() {
+        lastAccessNanos = System.nanoTime();
+    }
+
+    private int slot(long seq) {
+        return (int) (seq % slots.length());
+    }
+}
@@ -0,0 +1,261 @@
+package io.github.mcalgovisualizations.visualization.history;
+
+import io.github.mcalgovisualizations.visualization.HistorySnapshot;
+import io.github.mcalgovisualizations.visualization.algorithms.OperationCounts;
+import io.github.mcalgovisualizations.visualization.algorithms.events.*;
+import org.jspecify.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact binary format for {@link HistorySnapshot}s.
+ * <p>
+ * Integers are written as LEB128 varints, signed ones zig-zag encoded first.
+ * A frame is either a keyframe holding every value, or a delta that only holds
+ * the indices whose value changed since the previous snapshot. Decoding a delta
+ * therefore requires the snapshot it was encoded against.
+ * <pre>
+ * flags:u8 size:varint currentIndex:zz compareIndex:zz
+ * counts (if FLAG_COUNTS): comparisons swaps reads writes queueOps, varlong each
+ * keyframe: value:zz * size
+ * delta:    changes:varint (indexGap:varint value:zz) * changes
+ * highlights:varint highlight:zz * highlights
+ * events:varint (tag:u8 operands...) * events
+ * </pre>
+ */
+public final class SnapshotCodec {
+
+    private static final int FLAG_KEYFRAME = 1;
+    private static final int FLAG_COMPLETED = 1 << 1;
+    private static final int FLAG_COUNTS = 1 << 2;
+
+    private static final byte TAG_COMPARE = 1;
+    private static final byte TAG_SWAP = 2;
+    private static final byte TAG_HIGHLIGHT = 3;
+    private static final byte TAG_MESSAGE = 4;
+    private static final byte TAG_COMPLETE = 5;
+    private static final byte TAG_VALIDATE = 6;
+    private static final byte TAG_UNHIGHLIGHT = 7;
+    private static final byte TAG_PERMUTE = 8;
+    private static final byte TAG_WORKER = 9;
+
+    private static final Message.MessageType[] MESSAGE_TYPES = Message.MessageType.values();
+
+    private static final ByteBufferPool POOL = new ByteBufferPool(4096, 64);
+
+    private SnapshotCodec() {}
+
+    /**
+     * Encodes {@code snapshot}, as a delta against {@code previous} when one is
+     * given and has the same size, otherwise as a keyframe.
+     */
+    public static byte[] encode(HistorySnapshot snapshot, @Nullable HistorySnapshot previous) {
+        final int[] values = snapshot.values();
+        final boolean keyframe = previous == null || previous.values().length != values.length;
+
+        final var buf = POOL.acquire(maxEncodedSize(snapshot, keyframe));
+        try {
+            int flags = 0;
+            if (keyframe) flags |= FLAG_KEYFRAME;
+            if (snapshot.completed()) flags |= FLAG_COMPLETED;
+            final var counts = snapshot.counts();
+            if (!counts.isZero()) flags |= FLAG_COUNTS;
+
+            buf.put((byte) flags);
+            Varints.putVarInt(buf, values.length);
+            Varints.putZigZag(buf, snapshot.currentIndex());
+            Varints.putZigZag(buf, snapshot.compareIndex());
+            if (!counts.isZero()) {
+                Varints.putVarLong(buf, counts.comparisons());
+                Varints.putVarLong(buf, counts.swaps());
+                Varints.putVarLong(buf, counts.reads());
+                Varints.putVarLong(buf, counts.writes());
+                Varints.putVarLong(buf, counts.queueOps());
+            }
+
+            if (keyframe) {
+                for (int value : values) Varints.putZigZag(buf, value);
+            } else {
+                writeChanges(buf, previous.values(), values);
+            }
+
+            final int[] highlights = snapshot.highlights();
+            Varints.putVarInt(buf, highlights.length);
+            for (int h : highlights) Varints.putZigZag(buf, h);
+
+            final var events = snapshot.events();
+            Varints.putVarInt(buf, events.size());
+            for (var event : events) writeEvent(buf, event);
+
+            return Arrays.copyOf(buf.array(), buf.position());
+        } finally {
+            POOL.release(buf);
+        }
+    }
+
+    /**
+     * Decodes a frame produced by {@link #encode}.
+     *
+     * @param previous the snapshot the frame was encoded against; required for deltas
+     * @throws IllegalArgumentException if {@code data} is a delta and {@code previous} is missing
+     */
+    public static HistorySnapshot decode(byte[] data, @Nullable HistorySnapshot previous) {
+        final var buf = ByteBuffer.wrap(data);
+
+        final int flags = buf.get();
+        final int size = Varints.getVarInt(buf);
+        final int currentIndex = Varints.getZigZag(buf);
+        final int compareIndex = Varints.getZigZag(buf);
+        final var counts = (flags & FLAG_COUNTS) == 0 ? OperationCounts.ZERO : new OperationCounts(
+                Varints.getVarLong(buf),
+                Varints.getVarLong(buf),
+                Varints.getVarLong(buf),
+                Varints.getVarLong(buf),
+                Varints.getVarLong(buf)
+        );
+
+        final int[] values;
+        if ((flags & FLAG_KEYFRAME) != 0) {
+            values = new int[size];
+            for (int i = 0; i < size; i++) values[i] = Varints.getZigZag(buf);
+        } else {
+            if (previous == null || previous.values().length != size)
+                throw new IllegalArgumentException("delta frame requires the previous snapshot");
+
+            values = previous.values().clone();
+            final int changes = Varints.getVarInt(buf);
+            int index = -1;
+            for (int c = 0; c < changes; c++) {
+                index += Varints.getVarInt(buf);
+                values[index] = Varints.getZigZag(buf);
+            }
+        }
+
+        final int[] highlights = new int[Varints.getVarInt(buf)];
+        for (int i = 0; i < highlights.length; i++) highlights[i] = Varints.getZigZag(buf);
+
+        final int eventCount = Varints.getVarInt(buf);
+        final List<AlgorithmEvent> events = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) events.add(readEvent(buf));
+
+        return new HistorySnapshot(
+                values,
+                highlights,
+                List.copyOf(events),
+                currentIndex,
+                compareIndex,
+                (flags & FLAG_COMPLETED) != 0,
+                counts
+        );
+    }
+
+    public static boolean isKeyframe(byte[] data) {
+        return data.length > 0 && (data[0] & FLAG_KEYFRAME) != 0;
+    }
+
+    private static void writeChanges(ByteBuffer buf, int[] before, int[] after) {
+        int changes = 0;
+        for (int i = 0; i < after.length; i++) {
+            if (before[i] != after[i]) changes++;
+        }
+
+        Varints.putVarInt(buf, changes);
+        int last = -1;
+        for (int i = 0; i < after.length; i++) {
+            if (before[i] == after[i]) continue;
+            Varints.putVarInt(buf, i - last);
+            Varints.putZigZag(buf, after[i]);
+            last = i;
+        }
+    }
+
+    private static void writeEvent(ByteBuffer buf, AlgorithmEvent event) {
+        if (event instanceof Compare c) {
+            buf.put(TAG_COMPARE);
+            Varints.putZigZag(buf, c.x());
+            Varints.putZigZag(buf, c.y());
+        } else if (event instanceof Swap s) {
+            buf.put(TAG_SWAP);
+            Varints.putZigZag(buf, s.x());
+            Varints.putZigZag(buf, s.y());
+        } else if (event instanceof Highlight h) {
+            buf.put(TAG_HIGHLIGHT);
+            Varints.putZigZag(buf, h.x());
+        } else if (event instanceof Unhighlight u) {
+            buf.put(TAG_UNHIGHLIGHT);
+            Varints.putZigZag(buf, u.x());
+        } else if (event instanceof Permute p) {
+            buf.put(TAG_PERMUTE);
+            final int[] sources = p.sources();
+            Varints.putVarInt(buf, sources.length);
+            for (int source : sources) Varints.putVarInt(buf, source);
+        } else if (event instanceof Message m) {
+            buf.put(TAG_MESSAGE);
+            buf.put((byte) m.type().ordinal());
+            final byte[] text = m.message().getBytes(StandardCharsets.UTF_8);
+            Varints.putVarInt(buf, text.length);
+            buf.put(text);
+        } else if (event instanceof Complete) {
+            buf.put(TAG_COMPLETE);
+        } else if (event instanceof Validate) {
+            buf.put(TAG_VALIDATE);
+        } else if (event instanceof WorkerTask w) {
+            buf.put(TAG_WORKER);
+            Varints.putVarInt(buf, w.worker());
+            Varints.putZigZag(buf, w.from());
+            Varints.putZigZag(buf, w.to());
+        } else {
+            throw new IllegalArgumentException("Unsupported event: " + event.getClass().getSimpleName());
+        }
+    }
+
+    private static AlgorithmEvent readEvent(ByteBuffer buf) {
+        final byte tag = buf.get();
+        return switch (tag) {
+            case TAG_COMPARE -> new Compare(Varints.getZigZag(buf), Varints.getZigZag(buf));
+            case TAG_SWAP -> new Swap(Varints.getZigZag(buf), Varints.getZigZag(buf));
+            case TAG_HIGHLIGHT -> new Highlight(Varints.getZigZag(buf));
+            case TAG_MESSAGE -> {
+                final var type = MESSAGE_TYPES[buf.get()];
+                final byte[] text = new byte[Varints.getVarInt(buf)];
+                buf.get(text);
+                yield new Message(new String(text, StandardCharsets.UTF_8), type);
+            }
+            case TAG_COMPLETE -> new Complete();
+            case TAG_VALIDATE -> new Validate();
+            case TAG_UNHIGHLIGHT -> new Unhighlight(Varints.getZigZag(buf));
+            case TAG_PERMUTE -> {
+                final int[] sources = new int[Varints.getVarInt(buf)];
+                for (int i = 0; i < sources.length; i++) sources[i] = Varints.getVarInt(buf);
+                yield new Permute(sources);
+            }
+            case TAG_WORKER -> new WorkerTask(Varints.getVarInt(buf), Varints.getZigZag(buf), Varints.getZigZag(buf));
+            default -> throw new IllegalArgumentException("Unknown event tag: " + tag);
+        };
+    }
+
+    private static int maxEncodedSize(HistorySnapshot snapshot, boolean keyframe) {
+        final int perValue = keyframe ? Varints.MAX_VARINT_BYTES : 2 * Varints.MAX_VARINT_BYTES;
+        int size = 1 + 4 * Varints.MAX_VARINT_BYTES + 5 * Varints.MAX_VARLONG_BYTES
+                + snapshot.values().length * perValue
+                + snapshot.highlights().length * Varints.MAX_VARINT_BYTES
+                + Varints.MAX_VARINT_BYTES;
+
+        for (var event : snapshot.events()) {
+            size += 2 + 2 * Varints.MAX_VARINT_BYTES;
+            if (event instanceof Message m) {
+                // UTF-8 needs at most 3 bytes per UTF-16 char
+                size += 3 * m.message().length();
+            } else if (event instanceof Permute p) {
+                size += (1 + p.sources().length) * Varints.MAX_VARINT_BYTES;
+            } else if (event instanceof WorkerTask) {
+                size += Varints.MAX_VARINT_BYTES;
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,162 @@
+package io.github.mcalgovisualizations.visualization.history;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Append-only, memory-mapped file of encoded frames.
+ * <p>
+ * The file grows in mapped regions of {@link #REGION_SIZE} bytes; a frame never
+ * straddles two regions. An in-memory offset index maps the n-th appended frame
+ * to its region and offset, so any frame can be paged back in directly. The file
+ * is deleted on {@link #close()}, it only outlives the session by accident.
+ */
+public final class SpillFile implements AutoCloseable {
+
+    /**
+     * Directory spill files are created in, {@code world/history} by default so it
+     * lands on the mounted world volume. Override with {@code visualization.history.spillDir}.
+     */
+    public static final Path DEFAULT_DIRECTORY =
+            Path.of(System.getProperty("visualization.history.spillDir", "world/history"));
+
+    static final int REGION_SIZE = 4 * 1024 * 1024;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final List<MappedByteBuffer> regions = new ArrayList<>();
+
+    private long fileSize = 0;
+    private int regionPosition = 0;
+
+    // Offset index: region and offset packed into one long, plus the frame length
+    private long[] locations = new long[64];
+    private int[] lengths = new int[64];
+    private int count = 0;
+
+    private boolean closed = false;
+
+    private SpillFile(Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+        );
+    }
+
+    /**
+     * Opens a fresh spill file named after {@code name} in {@code directory},
+     * replacing any file left behind by an earlier run.
+     */
+    public static SpillFile open(Path directory, String name) throws IOException {
+        Files.createDirectories(directory);
+        return new SpillFile(directory.resolve(name + ".spill"));
+    }
+
+    /**
+     * Opens a spill file with a random name in {@code directory}.
+     */
+    public static SpillFile openAnonymous(Path directory) throws IOException {
+        return open(directory, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Appends a frame.
+     *
+     * @return the index of the frame, counting from 0
+     */
+    public synchronized int append(byte[] frame) {
+        requireOpen();
+
+        MappedByteBuffer region = regions.isEmpty() ? null : regions.get(regions.size() - 1);
+        if (region == null || region.capacity() - regionPosition < frame.length) {
+            region = mapNextRegion(Math.max(REGION_SIZE, frame.length));
+        }
+
+        region.put(regionPosition, frame);
+
+        if (count == locations.length) {
+            locations = Arrays.copyOf(locations, count * 2);
+            lengths = Arrays.copyOf(lengths, count * 2);
+        }
+        locations[count] = ((long) (regions.size() - 1) << 32) | regionPosition;
+        lengths[count] = frame.length;
+        regionPosition += frame.length;
+
+        return count++;
+    }
+
+    /**
+     * Pages frame {@code index} in through the mapping.
+     *
+     * @throws IndexOutOfBoundsException if no such frame was appended
+     */
+    public synchronized byte[] read(int index) {
+        requireOpen();
+        Objects.checkIndex(index, count);
+
+        final long location = locations[index];
+        final var region = regions.get((int) (location >>> 32));
+        final byte[] frame = new byte[lengths[index]];
+        region.get((int) location, frame);
+        return frame;
+    }
+
+    public synchronized int size() {
+        return count;
+    }
+
+    /** Bytes reserved on disk, including unused space in the last region. */
+    public synchronized long fileSize() {
+        return fileSize;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Closes the channel and deletes the file. Mapped regions are released once
+     * they are garbage collected.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        closed = true;
+        regions.clear();
+        try {
+            channel.close();
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            System.err.println("Failed to delete spill file " + path + ": " + e.getMessage());
+        }
+    }
+
+    private MappedByteBuffer mapNextRegion(int size) {
+        try {
+            final var region = channel.map(FileChannel.MapMode.READ_WRITE, fileSize, size);
+            regions.add(region);
+            fileSize += size;
+            regionPosition = 0;
+            return region;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map spill region in " + path, e);
+        }
+    }
+
+    private void requireOpen() {
+        if (closed) throw new IllegalStateException("Spill file " + path + " is closed");
+    }
+}
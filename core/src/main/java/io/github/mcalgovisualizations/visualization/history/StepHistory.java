@@ -0,0 +1,498 @@
+package io.github.mcalgovisualizations.visualization.history;
+
+import io.github.mcalgovisualizations.visualization.HistorySnapshot;
+import io.github.mcalgovisualizations.visualization.algorithms.OperationCounter;
+import io.github.mcalgovisualizations.visualization.algorithms.OperationCounts;
+import io.github.mcalgovisualizations.visualization.algorithms.events.EventBuffer;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Step history of a single stepper.
+ * <p>
+ * Instead of keeping a full copy of the values for every step, only every
+ * {@code keyframeInterval}-th step stores the values. Every step stores the
+ * events it emitted (which include its swaps) and is rebuilt by replaying the
+ * swaps from the nearest keyframe, so memory grows with
+ * {@code steps + (steps / K) * N} instead of {@code steps * N}.
+ * <p>
+ * Steps are kept in flat primitive arrays: the {@link EventBuffer} opcodes of
+ * all steps back to back, the highlights likewise, and one slot per step for
+ * the offsets and stepper indices. Appending copies into those arrays, so a
+ * stepper recording into a history allocates nothing per step apart from the
+ * occasional array growth and keyframe. Event records are only built by
+ * {@link #get(int)} and {@link #snapshotWith(int, int[])}.
+ * <p>
+ * The {@link OperationCounts} follow the same scheme: all five counts at each
+ * keyframe, and for every other step one byte marking which counts changed
+ * followed by those increments as varints, usually one byte each. A step is
+ * rebuilt by adding up the increments since its keyframe. Nothing is stored
+ * until a step has a non-zero count, so with metrics disabled it costs nothing.
+ * <p>
+ * Given a spill directory, once the keyframes on the heap exceed
+ * {@link #HOT_KEYFRAME_BYTES} the oldest ones are moved to a {@link SpillFile}
+ * and paged back in when an old step is requested.
+ */
+public final class StepHistory implements AutoCloseable {
+
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 32;
+
+    /** Heap budget for keyframes before older ones are spilled. */
+    static final long HOT_KEYFRAME_BYTES = 4L * 1024 * 1024;
+
+    private static final int[] NO_HIGHLIGHTS = new int[0];
+    private static final int ARRAY_OVERHEAD = 16;
+    private static final int COUNTERS = 5;
+
+    private final int keyframeInterval;
+    private final @Nullable Path spillDirectory;
+
+    // Keyframes [0, spilledKeyframes) live in the spill file and are null here
+    private final List<int @Nullable []> keyframes = new ArrayList<>();
+    private int spilledKeyframes = 0;
+    private @Nullable SpillFile spill = null;
+    private boolean spillFailed = false;
+    private long keyframeBytes = 0;
+
+    // Per step: end offsets into ops/highlights, indices and completion
+    private int size = 0;
+    private int[] eventEnd = new int[64];
+    private int[] highlightEnd = new int[64];
+    private int[] currentIndex = new int[64];
+    private int[] compareIndex = new int[64];
+    private boolean[] completed = new boolean[64];
+    // COUNTERS longs per keyframe, null until a step has a non-zero count
+    private long @Nullable [] keyframeCounts = null;
+    // Per keyframe, where the count increments of the steps after it start
+    private int[] countDeltaStart = new int[4];
+    // Per non-keyframe step: a mask of the changed counts, then their increments
+    private byte[] countDeltas = new byte[256];
+    private int countDeltasSize = 0;
+    private final long[] lastCounts = new long[COUNTERS];
+
+    private int[] ops = new int[256];
+    private int opsSize = 0;
+    private int[] highlights = new int[64];
+    private int highlightsSize = 0;
+    // Texts of OP_TEXT events, indexed by their operand
+    private final List<String> texts = new ArrayList<>();
+    private long textBytes = 0;
+
+    // Reused to encode the event records of snapshots appended directly
+    private final EventBuffer scratch = new EventBuffer();
+
+    public StepHistory() {
+        this(DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * @param keyframeInterval number of steps between two full copies of the values
+     * @throws IllegalArgumentException if {@code keyframeInterval <= 0}
+     */
+    public StepHistory(int keyframeInterval) {
+        this(keyframeInterval, null);
+    }
+
+    /**
+     * @param keyframeInterval number of steps between two full copies of the values
+     * @param spillDirectory   directory for spilled keyframes, or {@code null} to keep all on the heap
+     * @throws IllegalArgumentException if {@code keyframeInterval <= 0}
+     */
+    public StepHistory(int keyframeInterval, @Nullable Path spillDirectory) {
+        if (keyframeInterval <= 0)
+            throw new IllegalArgumentException("keyframeInterval must be > 0");
+
+        this.keyframeInterval = keyframeInterval;
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * Appends the state after a step to the history.
+     *
+     * @param snapshot the state after the step
+     * @return the index of the appended step
+     */
+    public int append(HistorySnapshot snapshot) {
+        Objects.requireNonNull(snapshot, "snapshot");
+
+        scratch.clear();
+        for (var event : snapshot.events()) scratch.add(event);
+        final int step = appendState(
+                snapshot.values(),
+                scratch,
+                snapshot.highlights(),
+                snapshot.highlights().length,
+                snapshot.currentIndex(),
+                snapshot.compareIndex(),
+                snapshot.completed()
+        );
+
+        final var c = snapshot.counts();
+        storeCounts(step, c.comparisons(), c.swaps(), c.reads(), c.writes(), c.queueOps());
+        return step;
+    }
+
+    /**
+     * Appends the state after a step, copying from the stepper's own buffers.
+     * Neither {@code values}, {@code events} nor {@code highlights} are retained.
+     *
+     * @param values         the values after the step
+     * @param events         the events the step emitted
+     * @param highlights     highlighted slots, the first {@code highlightCount} are used
+     * @param highlightCount number of highlighted slots
+     * @return the index of the appended step
+     */
+    public int append(
+            int[] values,
+            EventBuffer events,
+            int[] highlights,
+            int highlightCount,
+            int currentIndex,
+            int compareIndex,
+            boolean completed
+    ) {
+        return append(values, events, highlights, highlightCount, currentIndex, compareIndex, completed, null);
+    }
+
+    /**
+     * Appends the state after a step like
+     * {@link #append(int[], EventBuffer, int[], int, int, int, boolean)},
+     * together with the stepper's running operation counts.
+     *
+     * @param counter the counts after the step, or {@code null} for none
+     * @return the index of the appended step
+     */
+    public int append(
+            int[] values,
+            EventBuffer events,
+            int[] highlights,
+            int highlightCount,
+            int currentIndex,
+            int compareIndex,
+            boolean completed,
+            @Nullable OperationCounter counter
+    ) {
+        final int step = appendState(values, events, highlights, highlightCount, currentIndex, compareIndex, completed);
+        if (counter != null) {
+            storeCounts(step, counter.comparisons(), counter.swaps(), counter.reads(), counter.writes(), counter.queueOps());
+        } else {
+            storeCounts(step, 0, 0, 0, 0, 0);
+        }
+        return step;
+    }
+
+    /** Appends everything about a step but its counts, which the caller stores once. */
+    private int appendState(
+            int[] values,
+            EventBuffer events,
+            int[] highlights,
+            int highlightCount,
+            int currentIndex,
+            int compareIndex,
+            boolean completed
+    ) {
+        final int step = size;
+        if (step % keyframeInterval == 0) {
+            keyframes.add(values.clone());
+            keyframeBytes += ARRAY_OVERHEAD + 4L * values.length;
+            spillColdKeyframes(values.length);
+        }
+
+        final int textBase = texts.size();
+        ops = ensureCapacity(ops, opsSize + events.size());
+        System.arraycopy(events.ops(), 0, ops, opsSize, events.size());
+        if (events.textCount() > 0) {
+            // Re-point text operands into this history's pool
+            for (int i = opsSize; i < opsSize + events.size(); i += EventBuffer.width(ops[i])) {
+                if (ops[i] == EventBuffer.OP_TEXT) ops[i + 1] += textBase;
+            }
+            for (int i = 0; i < events.textCount(); i++) {
+                final String text = events.text(i);
+                texts.add(text);
+                textBytes += 40 + 2L * text.length();
+            }
+        }
+        opsSize += events.size();
+
+        this.highlights = ensureCapacity(this.highlights, highlightsSize + highlightCount);
+        System.arraycopy(highlights, 0, this.highlights, highlightsSize, highlightCount);
+        highlightsSize += highlightCount;
+
+        if (size == eventEnd.length) growSteps();
+        eventEnd[size] = opsSize;
+        highlightEnd[size] = highlightsSize;
+        this.currentIndex[size] = currentIndex;
+        this.compareIndex[size] = compareIndex;
+        this.completed[size] = completed;
+        size++;
+        return step;
+    }
+
+    /**
+     * Rebuilds the state after {@code step} by replaying from the nearest keyframe.
+     *
+     * @param step index of the step (0 ≤ step < size)
+     * @return a snapshot owning its own copy of the values
+     * @throws IndexOutOfBoundsException if {@code step} is out of range
+     */
+    public HistorySnapshot get(int step) {
+        Objects.checkIndex(step, size);
+
+        final int keyframe = step / keyframeInterval;
+        final int[] values = keyframe(keyframe);
+        final int from = keyframe * keyframeInterval + 1;
+        if (from <= step) {
+            EventBuffer.applySwaps(ops, eventStart(from), eventEnd[step], values, false);
+        }
+
+        return snapshotWith(step, values);
+    }
+
+    /**
+     * Replays the mutations of {@code step} onto {@code values}, which must hold
+     * the state after {@code step - 1}. Lets a cursor move forward in O(events).
+     */
+    public void applyStep(int step, int[] values) {
+        Objects.checkIndex(step, size);
+        EventBuffer.applySwaps(ops, eventStart(step), eventEnd[step], values, false);
+    }
+
+    /**
+     * Replays the mutations of steps {@code from + 1} through {@code to} onto
+     * {@code values}, which must hold the state after {@code from}.
+     */
+    public void applySteps(int from, int to, int[] values) {
+        if (from == to) return;
+        Objects.checkIndex(to, size);
+        Objects.checkIndex(from, to);
+        EventBuffer.applySwaps(ops, eventEnd[from], eventEnd[to], values, false);
+    }
+
+    /**
+     * Undoes the mutations of {@code step} on {@code values}, which must hold
+     * the state after {@code step}. Lets a cursor move back in O(events).
+     */
+    public void revertStep(int step, int[] values) {
+        Objects.checkIndex(step, size);
+        EventBuffer.applySwaps(ops, eventStart(step), eventEnd[step], values, true);
+    }
+
+    /**
+     * Builds the snapshot of {@code step} around values the caller already holds,
+     * skipping the keyframe replay of {@link #get(int)}.
+     */
+    public HistorySnapshot snapshotWith(int step, int[] values) {
+        Objects.checkIndex(step, size);
+
+        final int highlightStart = step == 0 ? 0 : highlightEnd[step - 1];
+        return new HistorySnapshot(
+                values,
+                highlightStart == highlightEnd[step]
+                        ? NO_HIGHLIGHTS
+                        : Arrays.copyOfRange(highlights, highlightStart, highlightEnd[step]),
+                EventBuffer.decode(ops, eventStart(step), eventEnd[step], texts),
+                currentIndex[step],
+                compareIndex[step],
+                completed[step],
+                counts(step)
+        );
+    }
+
+    /** Operation counts of the run up to and including {@code step}. */
+    public OperationCounts counts(int step) {
+        Objects.checkIndex(step, size);
+        if (keyframeCounts == null) return OperationCounts.ZERO;
+
+        final int keyframe = step / keyframeInterval;
+        final long[] c = Arrays.copyOfRange(keyframeCounts, keyframe * COUNTERS, (keyframe + 1) * COUNTERS);
+        int pos = countDeltaStart[keyframe];
+        for (int s = keyframe * keyframeInterval + 1; s <= step; s++) {
+            final int mask = countDeltas[pos++];
+            for (int i = 0; i < COUNTERS; i++) {
+                if ((mask & (1 << i)) == 0) continue;
+                // Zigzag varint
+                long raw = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = countDeltas[pos++];
+                    raw |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                c[i] += (raw >>> 1) ^ -(raw & 1);
+            }
+        }
+        return new OperationCounts(c[0], c[1], c[2], c[3], c[4]);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int keyframeInterval() {
+        return keyframeInterval;
+    }
+
+    /**
+     * Estimated heap footprint of the history, excluding spilled keyframes.
+     */
+    public long heapBytes() {
+        return keyframeBytes
+                + 4L * (ops.length + highlights.length)
+                + 17L * eventEnd.length
+                + (keyframeCounts == null ? 0 : 8L * keyframeCounts.length + 4L * countDeltaStart.length + countDeltas.length)
+                + textBytes;
+    }
+
+    /** Number of keyframes currently paged out to disk. */
+    public int spilledKeyframes() {
+        return spilledKeyframes;
+    }
+
+    /**
+     * Forgets every step. The step arrays are kept for reuse by the next run.
+     */
+    public void clear() {
+        keyframes.clear();
+        spilledKeyframes = 0;
+        keyframeBytes = 0;
+        size = 0;
+        opsSize = 0;
+        highlightsSize = 0;
+        texts.clear();
+        textBytes = 0;
+        countDeltasSize = 0;
+        Arrays.fill(lastCounts, 0);
+        if (spill != null) {
+            spill.close();
+            spill = null;
+        }
+    }
+
+    @Override
+    public void close() {
+        clear();
+    }
+
+    private int eventStart(int step) {
+        return step == 0 ? 0 : eventEnd[step - 1];
+    }
+
+    private void growSteps() {
+        final int capacity = eventEnd.length * 2;
+        eventEnd = Arrays.copyOf(eventEnd, capacity);
+        highlightEnd = Arrays.copyOf(highlightEnd, capacity);
+        currentIndex = Arrays.copyOf(currentIndex, capacity);
+        compareIndex = Arrays.copyOf(compareIndex, capacity);
+        completed = Arrays.copyOf(completed, capacity);
+    }
+
+    private void storeCounts(int step, long comparisons, long swaps, long reads, long writes, long queueOps) {
+        if (keyframeCounts == null) {
+            if ((comparisons | swaps | reads | writes | queueOps) == 0) return;
+            // Every step before this one counted nothing
+            keyframeCounts = new long[4 * COUNTERS];
+            for (int s = 0; s < step; s++) storeCounts(s, 0, 0, 0, 0, 0);
+        }
+
+        if (step % keyframeInterval == 0) {
+            final int keyframe = step / keyframeInterval;
+            keyframeCounts = ensureCapacity(keyframeCounts, (keyframe + 1) * COUNTERS);
+            countDeltaStart = ensureCapacity(countDeltaStart, keyframe + 1);
+            countDeltaStart[keyframe] = countDeltasSize;
+            final int base = keyframe * COUNTERS;
+            keyframeCounts[base] = lastCounts[0] = comparisons;
+            keyframeCounts[base + 1] = lastCounts[1] = swaps;
+            keyframeCounts[base + 2] = lastCounts[2] = reads;
+            keyframeCounts[base + 3] = lastCounts[3] = writes;
+            keyframeCounts[base + 4] = lastCounts[4] = queueOps;
+        } else {
+            // A mask byte and at most ten bytes per count
+            countDeltas = ensureCapacity(countDeltas, countDeltasSize + 1 + 10 * COUNTERS);
+            final int maskAt = countDeltasSize++;
+            countDeltas[maskAt] = (byte) (appendCountDelta(0, comparisons) | appendCountDelta(1, swaps)
+                    | appendCountDelta(2, reads) | appendCountDelta(3, writes) | appendCountDelta(4, queueOps));
+        }
+    }
+
+    /** Appends how far counter {@code i} moved to {@code value}, returning its mask bit or 0 if it did not. */
+    private int appendCountDelta(int i, long value) {
+        final long delta = value - lastCounts[i];
+        if (delta == 0) return 0;
+        lastCounts[i] = value;
+
+        // Zigzag varint
+        long raw = (delta << 1) ^ (delta >> 63);
+        while ((raw & ~0x7FL) != 0) {
+            countDeltas[countDeltasSize++] = (byte) ((raw & 0x7F) | 0x80);
+            raw >>>= 7;
+        }
+        countDeltas[countDeltasSize++] = (byte) raw;
+        return 1 << i;
+    }
+
+    private static int[] ensureCapacity(int[] array, int required) {
+        if (required <= array.length) return array;
+        return Arrays.copyOf(array, Math.max(array.length * 2, required));
+    }
+
+    private static long[] ensureCapacity(long[] array, int required) {
+        if (required <= array.length) return array;
+        return Arrays.copyOf(array, Math.max(array.length * 2, required));
+    }
+
+    private static byte[] ensureCapacity(byte[] array, int required) {
+        if (required <= array.length) return array;
+        return Arrays.copyOf(array, Math.max(array.length * 2, required));
+    }
+
+    /**
+     * Returns a private copy of keyframe {@code index}, paging it in if spilled.
+     */
+    private int[] keyframe(int index) {
+        final int[] values = keyframes.get(index);
+        if (values != null) return values.clone();
+
+        return SnapshotCodec.decode(spill.read(index), null).values();
+    }
+
+    /**
+     * Moves the oldest heap keyframes to the spill file while they exceed the
+     * heap budget. Keyframes are spilled in order, so keyframe n is frame n.
+     */
+    private void spillColdKeyframes(int valuesPerKeyframe) {
+        if (spillDirectory == null || spillFailed) return;
+
+        final long bytesPerKeyframe = 4L * valuesPerKeyframe;
+        while ((keyframes.size() - spilledKeyframes) * bytesPerKeyframe > HOT_KEYFRAME_BYTES
+                && keyframes.size() - spilledKeyframes > 1) {
+            try {
+                if (spill == null) spill = SpillFile.openAnonymous(spillDirectory);
+
+                final int[] cold = keyframes.get(spilledKeyframes);
+                spill.append(SnapshotCodec.encode(
+                        new HistorySnapshot(cold, NO_HIGHLIGHTS, List.of(), 0, -1, false),
+                        null
+                ));
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Disabling keyframe spill: " + e.getMessage());
+                spillFailed = true;
+                return;
+            }
+
+            keyframes.set(spilledKeyframes, null);
+            keyframeBytes -= ARRAY_OVERHEAD + bytesPerKeyframe;
+            spilledKeyframes++;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.mcalgovisualizations.visualization.history;
+
+import java.nio.ByteBuffer;
+
+/**
+ * LEB128 varint and zig-zag helpers used by the binary snapshot format.
+ */
+final class Varints {
+    /** Upper bound of bytes a single varint can take. */
+    static final int MAX_VARINT_BYTES = 5;
+    /** Upper bound of bytes a single varlong can take. */
+    static final int MAX_VARLONG_BYTES = 10;
+
+    private Varints() {}
+
+    static void putVarInt(ByteBuffer buf, int value) {
+        while ((value & ~0x7F) != 0) {
+            buf.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buf.put((byte) value);
+    }
+
+    static int getVarInt(ByteBuffer buf) {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            final byte b = buf.get();
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return result;
+        }
+        throw new IllegalArgumentException("malformed varint");
+    }
+
+    static void putVarLong(ByteBuffer buf, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buf.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buf.put((byte) value);
+    }
+
+    static long getVarLong(ByteBuffer buf) {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte b = buf.get();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return result;
+        }
+        throw new IllegalArgumentException("malformed varlong");
+    }
+
+    static void putZigZag(ByteBuffer buf, int value) {
+        putVarInt(buf, (value << 1) ^ (value >> 31));
+    }
+
+    static int getZigZag(ByteBuffer buf) {
+        final int raw = getVarInt(buf);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+}
@@ -1,8 +1,5 @@
 package io.github.mcalgovisualizations.visualization.layouts;
 
-import io.github.mcalgovisualizations.visualization.renderer.LayoutResult;
-import net.minestom.server.coordinate.Pos;
-
 public record CircleLayout(double radius, double yOffset) implements Layout {
     public CircleLayout() {
         this(2.0, 2.0);
@@ -13,7 +10,7 @@ public record CircleLayout(double radius, double yOffset) implements Layout {
     }
 
     @Override
-    public LayoutResult[] compute(int[] model, Pos origin) {
+    public LayoutResult[] compute(int[] model, Point origin) {
         var size = model.length;
         var out = new LayoutResult[size];
 
@@ -30,7 +27,7 @@ public record CircleLayout(double radius, double yOffset) implements Layout {
             double angle = (2.0 * Math.PI * i) / size;
             double x = origin.x() + (Math.cos(angle) * radius);
             double z = origin.z() + (Math.sin(angle) * radius);
-            final var pos = new Pos(x, y, z);
+            final var pos = new Point(x, y, z);
             out[i] = new LayoutResult(model[i], pos);
         }
 
@@ -38,7 +35,7 @@ public record CircleLayout(double radius, double yOffset) implements Layout {
     }
 
     @Override
-    public LayoutResult[] random(int[] model, Pos origin) {
+    public LayoutResult[] random(int[] model, Point origin) {
         throw new UnsupportedOperationException("Not implemented");
     }
 }
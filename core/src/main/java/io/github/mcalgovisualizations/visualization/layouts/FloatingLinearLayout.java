@@ -1,8 +1,5 @@
 package io.github.mcalgovisualizations.visualization.layouts;
 
-import io.github.mcalgovisualizations.visualization.renderer.LayoutResult;
-import net.minestom.server.coordinate.Pos;
-
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -52,10 +49,10 @@ public record FloatingLinearLayout(
      * Computes a linear layout for {@code size} elements.
      *
      * @param origin starting position of the layout
-     * @return array of {@link Pos} positions in a straight line
+     * @return array of positions in a straight line
      */
     @Override
-    public LayoutResult[] compute(int[] model, Pos origin) {
+    public LayoutResult[] compute(int[] model, Point origin) {
         if(model == null || model.length == 0) {
             return new LayoutResult[0];
         }
@@ -68,7 +65,7 @@ public record FloatingLinearLayout(
 
         for (int i = 0; i < size; i++) {
             final double x = origin.x() + (i * spacing);
-            final var pos = new Pos(x, y, z);
+            final var pos = new Point(x, y, z);
 
             out[i] = new LayoutResult(model[i], pos);
         }
@@ -77,7 +74,7 @@ public record FloatingLinearLayout(
     }
 
     @Override
-    public LayoutResult[] random(int[] model, Pos origin) {
+    public LayoutResult[] random(int[] model, Point origin) {
         var layout = compute(model, origin);
         var layoutList = new ArrayList<>(Arrays.asList(layout));
         Collections.shuffle(layoutList);
@@ -1,8 +1,6 @@
 package io.github.mcalgovisualizations.visualization.layouts;
 
 import io.github.mcalgovisualizations.visualization.models.DataModel;
-import io.github.mcalgovisualizations.visualization.renderer.LayoutResult;
-import net.minestom.server.coordinate.Pos;
 
 /**
  * Defines a strategy for positioning visual elements based on a {@link DataModel}.
@@ -15,9 +13,9 @@ public interface Layout {
      * Computes the positions and visual representations for the given data model.
      *
      * @param origin the reference position used as the layout's anchor or center
-     * @return an array of {@link Pos} objects representing positioned elements
+     * @return an array of positioned elements
      */
-    LayoutResult[] compute(int[] model, Pos origin);
+    LayoutResult[] compute(int[] model, Point origin);
 
     /**
      * Computes a randomized layout for the given {@link DataModel}.
@@ -27,8 +25,8 @@ public interface Layout {
      *
      * @param model  the data model defining how many elements to generate
      * @param origin the reference position used as the layout's anchor
-     * @return an array of {@link Pos} objects positioned randomly
+     * @return an array of elements positioned randomly
      */
-    LayoutResult[] random(int[] model, Pos origin);
+    LayoutResult[] random(int[] model, Point origin);
 
 }
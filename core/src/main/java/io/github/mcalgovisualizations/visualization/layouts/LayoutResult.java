@@ -0,0 +1,5 @@
+package io.github.mcalgovisualizations.visualization.layouts;
+
+public record LayoutResult(int value, Point pos) {
+
+}
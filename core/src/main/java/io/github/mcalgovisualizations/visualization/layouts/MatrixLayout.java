@@ -1,8 +1,5 @@
 package io.github.mcalgovisualizations.visualization.layouts;
 
-import io.github.mcalgovisualizations.visualization.renderer.LayoutResult;
-import net.minestom.server.coordinate.Pos;
-
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -36,7 +33,7 @@ public record MatrixLayout (
      * Throws if size exceeds capacity.
      */
     @Override
-    public LayoutResult[] compute(int[] model, Pos origin) {
+    public LayoutResult[] compute(int[] model, Point origin) {
         return random(model, origin);
     }
 
@@ -44,7 +41,7 @@ public record MatrixLayout (
      * Randomized (but deterministic per seed) grid positions.
      */
     @Override
-    public LayoutResult[] random(int[] model, Pos origin) {
+    public LayoutResult[] random(int[] model, Point origin) {
         final var size = model.length;
         final var random = new Random(seed);
         int capacity = cols * rows;
@@ -55,7 +52,7 @@ public record MatrixLayout (
             );
         }
 
-        Pos[] positions = new Pos[size];
+        Point[] positions = new Point[size];
 
         double y = origin.y() + yOffset;
 
@@ -81,7 +78,7 @@ public record MatrixLayout (
             Cell cell = cells.get(id);
             double x = startX + cell.col * spacing;
             double z = startZ + cell.row * spacing;
-            positions[id] = new Pos(x, y, z);
+            positions[id] = new Point(x, y, z);
         }
 
         return new LayoutResult[0];
@@ -0,0 +1,9 @@
+package io.github.mcalgovisualizations.visualization.layouts;
+
+/**
+ * A position in world space, free of any server types so layouts can be
+ * computed and tested without a running server.
+ */
+public record Point(double x, double y, double z) {
+    public static final Point ZERO = new Point(0, 0, 0);
+}
@@ -0,0 +1,244 @@
+package io.github.mcalgovisualizations.visualization.models;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable directed graph in compressed sparse row form, vertices indexed
+ * from {@code 0} to {@code size - 1}.
+ * <p>
+ * The out-edges of vertex {@code v} are the slots
+ * {@code [offsets[v], offsets[v + 1])} of {@code targets} (and of
+ * {@code weights}, if the graph is weighted). A graph with {@code V} vertices
+ * and {@code E} edges takes {@code 4 (V + 1) + 4 E} bytes, plus {@code 4 E}
+ * when weighted, so a million edges fit in a few MB.
+ * <p>
+ * Neighbors are read in place, nothing is copied or boxed:
+ * <pre>{@code
+ * for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+ *     int w = graph.target(e);
+ * }
+ * }</pre>
+ * or with {@link #forEachNeighbor(int, IntConsumer)}. An undirected graph
+ * stores each edge once in each direction.
+ */
+public final class CsrGraph implements DataModel {
+
+    private final int[] offsets;
+    private final int[] targets;
+    private final float @Nullable [] weights;
+
+    /**
+     * Wraps the given arrays without copying them; the caller must not modify them afterwards.
+     *
+     * @param offsets {@code size + 1} non-decreasing edge offsets, starting at 0 and ending at {@code targets.length}
+     * @param targets edge targets, grouped by source vertex
+     * @param weights edge weights parallel to {@code targets}, or {@code null} for an unweighted graph
+     * @throws IllegalArgumentException if the arrays do not describe a valid graph
+     */
+    public CsrGraph(int[] offsets, int[] targets, float @Nullable [] weights) {
+        Objects.requireNonNull(offsets, "offsets");
+        Objects.requireNonNull(targets, "targets");
+        if (offsets.length == 0 || offsets[0] != 0)
+            throw new IllegalArgumentException("offsets must start at 0");
+        if (offsets[offsets.length - 1] != targets.length)
+            throw new IllegalArgumentException("offsets must end at targets.length");
+        if (weights != null && weights.length != targets.length)
+            throw new IllegalArgumentException("weights must be as long as targets");
+
+        final int vertices = offsets.length - 1;
+        for (int v = 0; v < vertices; v++) {
+            if (offsets[v] > offsets[v + 1])
+                throw new IllegalArgumentException("offsets must be non-decreasing");
+        }
+        for (int target : targets) {
+            if (target < 0 || target >= vertices)
+                throw new IllegalArgumentException("target " + target + " is not a vertex");
+        }
+
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    /**
+     * Converts an adjacency list, keeping the order of each vertex's neighbors.
+     */
+    public static CsrGraph fromAdjacency(int[][] adj) {
+        Objects.requireNonNull(adj, "adj");
+
+        final int[] offsets = new int[adj.length + 1];
+        for (int v = 0; v < adj.length; v++) offsets[v + 1] = offsets[v] + adj[v].length;
+
+        final int[] targets = new int[offsets[adj.length]];
+        for (int v = 0; v < adj.length; v++) {
+            System.arraycopy(adj[v], 0, targets, offsets[v], adj[v].length);
+        }
+        return new CsrGraph(offsets, targets, null);
+    }
+
+    public static Builder builder(int vertices) {
+        return new Builder(vertices, 16);
+    }
+
+    /**
+     * @param expectedEdges directed edges to make room for up front
+     */
+    public static Builder builder(int vertices, int expectedEdges) {
+        return new Builder(vertices, Math.max(16, expectedEdges));
+    }
+
+    /**
+     * Returns the number of vertices in the graph.
+     */
+    @Override
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    /** Number of directed edges; an undirected edge counts twice. */
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    public boolean isWeighted() {
+        return weights != null;
+    }
+
+    public int degree(int v) {
+        return offsets[v + 1] - offsets[v];
+    }
+
+    /** Index of the first out-edge of {@code v}. */
+    public int firstEdge(int v) {
+        return offsets[v];
+    }
+
+    /** One past the index of the last out-edge of {@code v}. */
+    public int endEdge(int v) {
+        return offsets[v + 1];
+    }
+
+    /** Target vertex of edge {@code e}. */
+    public int target(int e) {
+        return targets[e];
+    }
+
+    /**
+     * Weight of edge {@code e}, or {@code 1} in an unweighted graph.
+     */
+    public float weight(int e) {
+        return weights == null ? 1f : weights[e];
+    }
+
+    /** Calls {@code visitor} with every out-neighbor of {@code v}, in edge order. */
+    public void forEachNeighbor(int v, IntConsumer visitor) {
+        for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+            visitor.accept(targets[e]);
+        }
+    }
+
+    /**
+     * Returns a copy of the neighbors of {@code v}. Prefer the edge indices or
+     * {@link #forEachNeighbor(int, IntConsumer)}, which do not allocate.
+     */
+    public int[] neighbors(int v) {
+        return Arrays.copyOfRange(targets, offsets[v], offsets[v + 1]);
+    }
+
+    /** Estimated heap footprint of the graph's arrays. */
+    public long heapBytes() {
+        return 16 + 4L * offsets.length + 16 + 4L * targets.length + (weights == null ? 0 : 16 + 4L * weights.length);
+    }
+
+    @Override
+    public String toString() {
+        return "CsrGraph{vertices=" + size() + ", edges=" + edgeCount() + ", weighted=" + isWeighted() + '}';
+    }
+
+    /**
+     * Collects edges in any order into flat arrays and sorts them into CSR form
+     * by source vertex with a counting pass, so building is O(V + E).
+     * Edges keep the order they were added in within each source vertex.
+     * Duplicate edges and self-loops are kept as given.
+     */
+    public static final class Builder {
+        private final int vertices;
+        private int[] sources;
+        private int[] targets;
+        private float @Nullable [] weights = null;
+        private int edges = 0;
+
+        private Builder(int vertices, int capacity) {
+            if (vertices < 0) throw new IllegalArgumentException("vertices must be >= 0");
+            this.vertices = vertices;
+            this.sources = new int[capacity];
+            this.targets = new int[capacity];
+        }
+
+        /** Adds a directed edge from {@code from} to {@code to}. */
+        public Builder addEdge(int from, int to) {
+            return addEdge(from, to, 1f);
+        }
+
+        /**
+         * Adds a weighted directed edge. The graph becomes weighted once any
+         * edge has a weight other than {@code 1}.
+         */
+        public Builder addEdge(int from, int to, float weight) {
+            Objects.checkIndex(from, vertices);
+            Objects.checkIndex(to, vertices);
+
+            if (edges == sources.length) {
+                final int capacity = sources.length * 2;
+                sources = Arrays.copyOf(sources, capacity);
+                targets = Arrays.copyOf(targets, capacity);
+                if (weights != null) weights = Arrays.copyOf(weights, capacity);
+            }
+            if (weights == null && weight != 1f) {
+                weights = new float[sources.length];
+                Arrays.fill(weights, 0, edges, 1f);
+            }
+
+            sources[edges] = from;
+            targets[edges] = to;
+            if (weights != null) weights[edges] = weight;
+            edges++;
+            return this;
+        }
+
+        /** Adds the edge in both directions. */
+        public Builder addUndirectedEdge(int a, int b) {
+            return addEdge(a, b).addEdge(b, a);
+        }
+
+        /** Adds the weighted edge in both directions. */
+        public Builder addUndirectedEdge(int a, int b, float weight) {
+            return addEdge(a, b, weight).addEdge(b, a, weight);
+        }
+
+        public int edgeCount() {
+            return edges;
+        }
+
+        public CsrGraph build() {
+            final int[] offsets = new int[vertices + 1];
+            for (int e = 0; e < edges; e++) offsets[sources[e] + 1]++;
+            for (int v = 0; v < vertices; v++) offsets[v + 1] += offsets[v];
+
+            final int[] next = Arrays.copyOf(offsets, vertices);
+            final int[] sortedTargets = new int[edges];
+            final float[] sortedWeights = weights == null ? null : new float[edges];
+            for (int e = 0; e < edges; e++) {
+                final int slot = next[sources[e]]++;
+                sortedTargets[slot] = targets[e];
+                if (sortedWeights != null) sortedWeights[slot] = weights[e];
+            }
+
+            return new CsrGraph(offsets, sortedTargets, sortedWeights);
+        }
+    }
+}
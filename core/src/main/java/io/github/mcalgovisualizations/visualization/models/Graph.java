@@ -1,8 +1,8 @@
 package io.github.mcalgovisualizations.visualization.models;
 
-import java.util.ArrayList;
+import io.github.mcalgovisualizations.visualization.models.generators.GraphGenerators;
+
 import java.util.Arrays;
-import java.util.List;
 import java.util.Random;
 
 /**
@@ -13,7 +13,8 @@ import java.util.Random;
  * represents a vertex and the corresponding array contains its neighbors.
  * <p>
  * This implementation does not enforce immutability of the inner arrays.
- * Defensive copies are returned where appropriate.
+ * Defensive copies are returned where appropriate, so traversals that visit
+ * many vertices should run on {@link #toCsr()} instead.
  */
 public final class Graph implements DataModel {
 
@@ -39,7 +40,7 @@ public final class Graph implements DataModel {
      */
     @Override
     public int size() {
-        throw new  UnsupportedOperationException("Not supported yet.");
+        return adj.length;
     }
 
     /**
@@ -64,6 +65,14 @@ public final class Graph implements DataModel {
         return Arrays.copyOf(adj, adj.length);
     }
 
+    /**
+     * Returns the graph in compressed sparse row form, whose neighbors can be
+     * read without copying.
+     */
+    public CsrGraph toCsr() {
+        return CsrGraph.fromAdjacency(adj);
+    }
+
     /**
      * Generates a connected undirected graph.
      * <p>
@@ -78,45 +87,13 @@ public final class Graph implements DataModel {
      * @throws IllegalArgumentException if {@code n <= 0}
      */
     public static Graph randomConnectedUndirected(int n, int maxExtraEdges, Random r) {
-        @SuppressWarnings("unchecked")
-        List<Integer>[] tmp = new List[n];
-        for (int i = 0; i < n; i++) tmp[i] = new ArrayList<>();
-
-        // Spanning tree for connectivity
-        for (int v = 1; v < n; v++) {
-            int u = r.nextInt(v);
-            addUndirectedEdge(tmp, u, v);
-        }
-
-        // Extra random edges
-        int extras = r.nextInt(maxExtraEdges + 1);
-        for (int i = 0; i < extras; i++) {
-            int a = r.nextInt(n);
-            int b = r.nextInt(n);
-            if (a == b) continue;
-            if (tmp[a].contains(b)) continue;
-            addUndirectedEdge(tmp, a, b);
-        }
+        final CsrGraph csr = GraphGenerators.randomConnected(n, maxExtraEdges, r);
 
         int[][] out = new int[n][];
         for (int i = 0; i < n; i++) {
-            out[i] = tmp[i].stream().mapToInt(Integer::intValue).toArray();
+            out[i] = csr.neighbors(i);
         }
 
         return new Graph(out);
     }
-
-    /**
-     * Adds an undirected edge between two vertices.
-     * <p>
-     * The edge is added symmetrically to both adjacency lists.
-     *
-     * @param tmp temporary adjacency structure
-     * @param a   first vertex
-     * @param b   second vertex
-     */
-    private static void addUndirectedEdge(List<Integer>[] tmp, int a, int b) {
-        tmp[a].add(b);
-        tmp[b].add(a);
-    }
 }
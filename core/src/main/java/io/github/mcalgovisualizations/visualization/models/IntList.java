@@ -79,7 +79,7 @@ public record IntList(int[] data) implements DataModel {
      * @return a copy of the backing array
      */
     public int[] toArray() {
-        return data;
+        return data.clone();
     }
 
     /**
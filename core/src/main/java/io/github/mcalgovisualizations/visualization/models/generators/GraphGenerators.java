@@ -0,0 +1,212 @@
+package io.github.mcalgovisualizations.visualization.models.generators;
+
+import io.github.mcalgovisualizations.visualization.models.CsrGraph;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Random and regular undirected graphs, built straight into a {@link CsrGraph}.
+ * <p>
+ * Everything stays in primitive arrays: edges go into the graph builder as
+ * they are drawn, and where a random draw can repeat an edge it is
+ * deduplicated by its packed {@code long} key in a {@link LongHashSet}. None
+ * of the generators box a vertex, so a million-vertex graph generates in
+ * well under a second.
+ * <p>
+ * Random generators take a seed; the same seed and parameters always give the
+ * same graph. Generated graphs have no self-loops and no parallel edges.
+ */
+public final class GraphGenerators {
+    private GraphGenerators() {}
+
+    /**
+     * Erdős–Rényi {@code G(n, m)}: {@code edges} distinct edges drawn uniformly
+     * among all vertex pairs.
+     *
+     * @throws IllegalArgumentException if {@code edges} exceeds the number of vertex pairs
+     */
+    public static CsrGraph erdosRenyi(int vertices, int edges, long seed) {
+        requireVertices(vertices);
+        if (edges < 0 || edges > Integer.MAX_VALUE / 2) throw new IllegalArgumentException("edges must be within [0, 2^30)");
+        if (edges > (long) vertices * (vertices - 1) / 2)
+            throw new IllegalArgumentException("edges must be <= vertices * (vertices - 1) / 2");
+
+        final var random = new SplittableRandom(seed);
+        final var seen = new LongHashSet(edges);
+        final var builder = CsrGraph.builder(vertices, 2 * edges);
+        while (seen.size() < edges) {
+            final int a = random.nextInt(vertices);
+            final int b = random.nextInt(vertices);
+            if (a != b && seen.add(key(a, b))) builder.addUndirectedEdge(a, b);
+        }
+        return builder.build();
+    }
+
+    /**
+     * A {@code rows × cols} lattice where each vertex {@code r * cols + c} is
+     * joined to its right and lower neighbor.
+     */
+    public static CsrGraph grid(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("rows and cols must be > 0");
+        final long vertices = (long) rows * cols;
+        if (vertices > Integer.MAX_VALUE) throw new IllegalArgumentException("grid has too many vertices");
+
+        final var builder = CsrGraph.builder((int) vertices, 4 * (int) vertices);
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                final int v = r * cols + c;
+                if (c + 1 < cols) builder.addUndirectedEdge(v, v + 1);
+                if (r + 1 < rows) builder.addUndirectedEdge(v, v + cols);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Barabási–Albert scale-free graph: starts from a clique of
+     * {@code edgesPerVertex + 1} vertices, then every new vertex attaches to
+     * {@code edgesPerVertex} distinct existing ones, chosen with probability
+     * proportional to their degree.
+     *
+     * @throws IllegalArgumentException if {@code edgesPerVertex} is not in {@code [1, vertices)}
+     */
+    public static CsrGraph barabasiAlbert(int vertices, int edgesPerVertex, long seed) {
+        requireVertices(vertices);
+        if (edgesPerVertex < 1 || edgesPerVertex >= vertices)
+            throw new IllegalArgumentException("edgesPerVertex must be within [1, vertices)");
+
+        final int m = edgesPerVertex;
+        final long total = (long) m * (m + 1) / 2 + (long) (vertices - m - 1) * m;
+        if (2 * total > Integer.MAX_VALUE) throw new IllegalArgumentException("graph has too many edges");
+
+        final var random = new SplittableRandom(seed);
+        final var builder = CsrGraph.builder(vertices, (int) (2 * total));
+        // Every edge endpoint once, so a uniform pick from it is degree-proportional
+        final int[] endpoints = new int[(int) (2 * total)];
+        int endpointCount = 0;
+
+        for (int a = 0; a <= m; a++) {
+            for (int b = a + 1; b <= m; b++) {
+                builder.addUndirectedEdge(a, b);
+                endpoints[endpointCount++] = a;
+                endpoints[endpointCount++] = b;
+            }
+        }
+
+        final int[] chosen = new int[m];
+        for (int v = m + 1; v < vertices; v++) {
+            int count = 0;
+            while (count < m) {
+                final int target = endpoints[random.nextInt(endpointCount)];
+                if (!contains(chosen, count, target)) chosen[count++] = target;
+            }
+            for (int i = 0; i < m; i++) {
+                builder.addUndirectedEdge(v, chosen[i]);
+                endpoints[endpointCount++] = v;
+                endpoints[endpointCount++] = chosen[i];
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Random geometric graph: vertices are uniform points in the unit square,
+     * joined when they are at most {@code radius} apart. Points are bucketed
+     * into cells at least {@code radius} wide, so only neighboring cells are
+     * compared and the expected cost is linear in vertices plus edges.
+     */
+    public static CsrGraph randomGeometric(int vertices, double radius, long seed) {
+        requireVertices(vertices);
+        if (!(radius > 0)) throw new IllegalArgumentException("radius must be > 0");
+
+        final var random = new SplittableRandom(seed);
+        final double[] x = new double[vertices];
+        final double[] y = new double[vertices];
+        for (int v = 0; v < vertices; v++) {
+            x[v] = random.nextDouble();
+            y[v] = random.nextDouble();
+        }
+
+        // No more cells than points, and none narrower than the radius
+        final int side = (int) Math.max(1, Math.min(Math.floor(1 / radius), Math.floor(Math.sqrt(vertices))));
+        final int[] cellStart = new int[side * side + 1];
+        final int[] cellOf = new int[vertices];
+        for (int v = 0; v < vertices; v++) {
+            cellOf[v] = cell(x[v], side) * side + cell(y[v], side);
+            cellStart[cellOf[v] + 1]++;
+        }
+        for (int c = 0; c < side * side; c++) cellStart[c + 1] += cellStart[c];
+        final int[] next = new int[side * side];
+        System.arraycopy(cellStart, 0, next, 0, next.length);
+        final int[] byCell = new int[vertices];
+        for (int v = 0; v < vertices; v++) byCell[next[cellOf[v]]++] = v;
+
+        final double r2 = radius * radius;
+        final var builder = CsrGraph.builder(vertices);
+        for (int a = 0; a < vertices; a++) {
+            final int cx = cellOf[a] / side;
+            final int cy = cellOf[a] % side;
+            for (int nx = Math.max(0, cx - 1); nx <= Math.min(side - 1, cx + 1); nx++) {
+                for (int ny = Math.max(0, cy - 1); ny <= Math.min(side - 1, cy + 1); ny++) {
+                    final int c = nx * side + ny;
+                    for (int i = cellStart[c]; i < cellStart[c + 1]; i++) {
+                        final int b = byCell[i];
+                        // Each pair once, from its lower vertex
+                        if (b <= a) continue;
+
+                        final double dx = x[a] - x[b];
+                        final double dy = y[a] - y[b];
+                        if (dx * dx + dy * dy <= r2) builder.addUndirectedEdge(a, b);
+                    }
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * A random spanning tree plus up to {@code maxExtraEdges} further distinct
+     * edges, so the graph is always connected.
+     */
+    public static CsrGraph randomConnected(int vertices, int maxExtraEdges, Random random) {
+        requireVertices(vertices);
+
+        final var seen = new LongHashSet(vertices);
+        final var builder = CsrGraph.builder(vertices, 2 * (vertices - 1));
+
+        for (int v = 1; v < vertices; v++) {
+            final int u = random.nextInt(v);
+            seen.add(key(u, v));
+            builder.addUndirectedEdge(u, v);
+        }
+
+        final int extras = random.nextInt(maxExtraEdges + 1);
+        for (int i = 0; i < extras; i++) {
+            final int a = random.nextInt(vertices);
+            final int b = random.nextInt(vertices);
+            if (a != b && seen.add(key(a, b))) builder.addUndirectedEdge(a, b);
+        }
+        return builder.build();
+    }
+
+    /** Packs an undirected edge into one key, smaller vertex in the high half. */
+    static long key(int a, int b) {
+        return a < b ? ((long) a << 32) | b : ((long) b << 32) | a;
+    }
+
+    private static int cell(double coordinate, int side) {
+        return Math.min(side - 1, (int) (coordinate * side));
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) return true;
+        }
+        return false;
+    }
+
+    private static void requireVertices(int vertices) {
+        if (vertices <= 0) throw new IllegalArgumentException("vertices must be > 0");
+    }
+}
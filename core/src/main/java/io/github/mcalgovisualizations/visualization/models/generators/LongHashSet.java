@@ -0,0 +1,77 @@
+package io.github.mcalgovisualizations.visualization.models.generators;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing set of non-negative {@code long}s, used to deduplicate
+ * packed edge keys without boxing. Linear probing, kept at most half full.
+ */
+final class LongHashSet {
+
+    private static final long EMPTY = -1L;
+
+    private long[] keys;
+    private int mask;
+    private int size = 0;
+
+    LongHashSet(int expected) {
+        final int capacity = Integer.highestOneBit(Math.max(4, Math.min(expected, 1 << 29)) * 2 - 1) << 1;
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+    }
+
+    /**
+     * Adds {@code key}, which must be {@code >= 0}.
+     *
+     * @return whether the key was not in the set yet
+     */
+    boolean add(long key) {
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) return false;
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        if (++size * 2 > keys.length) grow();
+        return true;
+    }
+
+    boolean contains(long key) {
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) return true;
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void grow() {
+        final long[] old = keys;
+        keys = new long[old.length * 2];
+        Arrays.fill(keys, EMPTY);
+        mask = keys.length - 1;
+
+        for (long key : old) {
+            if (key == EMPTY) continue;
+            int slot = mix(key) & mask;
+            while (keys[slot] != EMPTY) slot = (slot + 1) & mask;
+            keys[slot] = key;
+        }
+    }
+
+    /** Finalizer of MurmurHash3, spreads sequential keys over the table. */
+    private static int mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+}
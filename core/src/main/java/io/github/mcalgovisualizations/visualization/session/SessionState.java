@@ -0,0 +1,97 @@
+package io.github.mcalgovisualizations.visualization.session;
+
+import io.github.mcalgovisualizations.visualization.HistorySnapshot;
+import io.github.mcalgovisualizations.visualization.history.SnapshotCodec;
+import org.jspecify.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * What is needed to put a player's visualization back where they left it:
+ * which algorithm ran on which input, how far they got, and how it was shown.
+ * <p>
+ * The state after {@code step} is kept as well, so a restored session can be
+ * drawn right away instead of waiting for the algorithm to catch up.
+ *
+ * @param key          stepper key as registered in the {@code AlgorithmCatalog}
+ * @param input        the values the run started from
+ * @param step         index of the step the player was at
+ * @param ticksPerStep playback speed
+ * @param layout       name of the layout the scene used
+ * @param snapshot     the state after {@code step}, if known
+ */
+public record SessionState(
+        String key,
+        int[] input,
+        int step,
+        int ticksPerStep,
+        String layout,
+        @Nullable HistorySnapshot snapshot
+) {
+    // Bumped whenever the format below changes; older files are discarded
+    private static final int VERSION = 1;
+
+    public SessionState {
+        if (step < 0) throw new IllegalArgumentException("step must be >= 0");
+        if (ticksPerStep <= 0) throw new IllegalArgumentException("ticksPerStep must be > 0");
+    }
+
+    /**
+     * <pre>
+     * version:i32 key:utf layout:utf step:i32 ticksPerStep:i32
+     * inputSize:i32 value:i32 * inputSize
+     * snapshotSize:i32 (SnapshotCodec keyframe, empty when absent)
+     * </pre>
+     */
+    public byte[] encode() {
+        final var bytes = new ByteArrayOutputStream(64 + 4 * input.length);
+        try (var out = new DataOutputStream(bytes)) {
+            out.writeInt(VERSION);
+            out.writeUTF(key);
+            out.writeUTF(layout);
+            out.writeInt(step);
+            out.writeInt(ticksPerStep);
+
+            out.writeInt(input.length);
+            for (int value : input) out.writeInt(value);
+
+            final byte[] frame = snapshot == null ? new byte[0] : SnapshotCodec.encode(snapshot, null);
+            out.writeInt(frame.length);
+            out.write(frame);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @throws IOException if {@code bytes} is truncated or written by another version
+     */
+    public static SessionState decode(byte[] bytes) throws IOException {
+        try (var in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            final int version = in.readInt();
+            if (version != VERSION) throw new IOException("Unsupported session version " + version);
+
+            final String key = in.readUTF();
+            final String layout = in.readUTF();
+            final int step = in.readInt();
+            final int ticksPerStep = in.readInt();
+
+            final int[] input = new int[in.readInt()];
+            for (int i = 0; i < input.length; i++) input[i] = in.readInt();
+
+            final byte[] frame = in.readNBytes(in.readInt());
+            final var snapshot = frame.length == 0 ? null : SnapshotCodec.decode(frame, null);
+
+            return new SessionState(key, input, step, ticksPerStep, layout, snapshot);
+        } catch (RuntimeException e) {
+            // SnapshotCodec rejects malformed frames with unchecked exceptions
+            throw new IOException("Corrupt session state", e);
+        }
+    }
+}
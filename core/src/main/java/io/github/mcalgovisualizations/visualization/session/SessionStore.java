@@ -0,0 +1,70 @@
+package io.github.mcalgovisualizations.visualization.session;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+/**
+ * Keeps one {@link SessionState} file per player under a directory on the
+ * world volume, so sessions survive a server restart.
+ * <p>
+ * A saved state is consumed when it is taken, so it is restored at most once.
+ */
+public final class SessionStore {
+
+    public static final Path DEFAULT_DIRECTORY =
+            Path.of(System.getProperty("visualization.sessions.dir", "world/sessions"));
+
+    private final Path directory;
+
+    public SessionStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Writes {@code state} for {@code player}, replacing any earlier one.
+     * The file is written next to its final name and moved in place, so a
+     * crash mid-write never leaves a half-written state behind.
+     */
+    public void save(UUID player, SessionState state) throws IOException {
+        Files.createDirectories(directory);
+
+        final Path target = file(player);
+        final Path tmp = directory.resolve(player + ".tmp");
+        Files.write(tmp, state.encode());
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads and removes the state saved for {@code player}.
+     *
+     * @return the saved state, or {@code null} if there is none or it cannot be read
+     */
+    public @Nullable SessionState take(UUID player) {
+        final Path file = file(player);
+        try {
+            final byte[] bytes = Files.readAllBytes(file);
+            Files.deleteIfExists(file);
+            return SessionState.decode(bytes);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            System.err.println("Discarding saved session of " + player + ": " + e.getMessage());
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // nothing more to do
+            }
+            return null;
+        }
+    }
+
+    private Path file(UUID player) {
+        return directory.resolve(player + ".session");
+    }
+}
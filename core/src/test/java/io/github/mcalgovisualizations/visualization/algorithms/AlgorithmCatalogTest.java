@@ -0,0 +1,73 @@
+package io.github.mcalgovisualizations.visualization.algorithms;
+
+import io.github.mcalgovisualizations.visualization.algorithms.sorting.AlgorithmStepper;
+import io.github.mcalgovisualizations.visualization.models.CsrGraph;
+import io.github.mcalgovisualizations.visualization.models.IntList;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlgorithmCatalogTest {
+
+    @Test
+    void discoversTheSortingProviderAsAService() {
+        var keys = AlgorithmCatalog.all().stream().map(AlgorithmDescriptor::key).toList();
+
+        assertTrue(keys.containsAll(List.of(
+                "insertionsort", "bubblesort", "mergesort", "parallelmergesort", "quicksort",
+                "quicksort-first", "quicksort-last", "quicksort-middle", "quicksort-random",
+                "heapsort", "radixsort"
+        )));
+        assertTrue(keys.indexOf("insertionsort") < keys.indexOf("radixsort"));
+    }
+
+    @Test
+    void lookupIgnoresCase() {
+        var descriptor = AlgorithmCatalog.find("MergeSort");
+
+        assertNotNull(descriptor);
+        assertEquals("mergesort", descriptor.key());
+        assertEquals(IntList.class, descriptor.modelType());
+        assertTrue(AlgorithmCatalog.isRegistered("HEAPSORT"));
+        assertFalse(AlgorithmCatalog.isRegistered("bogosort"));
+    }
+
+    @Test
+    void createsAStepperForTheKey() {
+        var stepper = AlgorithmCatalog.create("BubbleSort", new IntList(new int[]{3, 1, 2}));
+        stepper.onStart();
+
+        assertArrayEquals(new int[]{1, 2, 3}, stepper.seek(Integer.MAX_VALUE).values());
+        assertTrue(stepper.isDone());
+    }
+
+    @Test
+    void rejectsUnknownKeysAndOtherModels() {
+        assertThrows(IllegalArgumentException.class,
+                () -> AlgorithmCatalog.create("bogosort", new IntList(new int[]{1})));
+        assertThrows(IllegalArgumentException.class,
+                () -> AlgorithmCatalog.create("mergesort", CsrGraph.fromAdjacency(new int[][]{{}})));
+    }
+
+    @Test
+    void registeredAlgorithmsAreListedAndCreated() {
+        var descriptor = new AlgorithmDescriptor("Test-Sort", "Test Sort", "minecraft:paper",
+                List.of("Only for this test."), "Time: O(n²)", IntList.class);
+        AlgorithmCatalog.register(descriptor, IntList.class, AlgorithmStepper::new);
+
+        assertSame(descriptor, AlgorithmCatalog.find("test-sort"));
+        assertTrue(AlgorithmCatalog.all().contains(descriptor));
+        assertInstanceOf(AlgorithmStepper.class, AlgorithmCatalog.create("test-sort", new IntList(new int[]{2, 1})));
+    }
+
+    @Test
+    void registerRejectsAMismatchedModelType() {
+        var descriptor = new AlgorithmDescriptor("graph-test", "Graph Test", "minecraft:paper",
+                List.of(), "", CsrGraph.class);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> AlgorithmCatalog.register(descriptor, IntList.class, AlgorithmStepper::new));
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.mcalgovisualizations.visualization.algorithms;
+
+import io.github.mcalgovisualizations.visualization.models.IntList;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoroutineStepperTest {
+
+    /** Its second step spins, ignoring interrupts, until the test lets it go. */
+    private static final class Spinning extends CoroutineStepper {
+        volatile boolean release = false;
+
+        Spinning(IntList model) {
+            super(model, 50);
+        }
+
+        @Override
+        protected void run() throws InterruptedException {
+            swap(0, 1);
+            yieldStep();
+            while (!release) Thread.onSpinWait();
+            data()[0] = 42;
+            yieldStep();
+        }
+
+        @Override
+        protected String name() {
+            return "spinning";
+        }
+    }
+
+    @Test
+    void aTimedOutStepFailsTheRunUntilItsThreadHasEnded() throws InterruptedException {
+        var stepper = new Spinning(new IntList(new int[]{1, 2, 3}));
+        stepper.onStart();
+        stepper.step();
+
+        assertThrows(IllegalStateException.class, stepper::step);
+
+        // No second run on the model while the first one still writes to it
+        assertFalse(stepper.advance());
+        assertEquals(1, stepper.position());
+        assertThrows(IllegalStateException.class, stepper::onStart);
+        assertThrows(IllegalStateException.class, stepper::randomize);
+        assertThrows(IllegalStateException.class, () -> stepper.restore(new int[]{1, 2, 3}, 0, null));
+
+        // Once the stuck thread notices it was cancelled, the stepper can start over
+        stepper.release = true;
+        final long deadline = System.nanoTime() + 5_000_000_000L;
+        while (true) {
+            try {
+                stepper.restore(new int[]{1, 2, 3}, 0, null);
+                break;
+            } catch (IllegalStateException e) {
+                assertTrue(System.nanoTime() < deadline, "stuck thread did not end");
+                Thread.sleep(10);
+            }
+        }
+        assertArrayEquals(new int[]{2, 1, 3}, stepper.step().values());
+        stepper.close();
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.mcalgovisualizations.visualization.algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraceCacheTest {
+
+    @Test
+    void sameInputSharesOneTrace() {
+        var cache = new TraceCache(Long.MAX_VALUE);
+
+        try (var a = cache.acquire("insertionsort", new int[]{3, 1, 2});
+             var b = cache.acquire("InsertionSort", new int[]{3, 1, 2})) {
+            assertSame(a.trace(), b.trace());
+            assertSame(a.trace().join(), b.trace().join());
+            assertEquals(1, cache.size());
+        }
+    }
+
+    @Test
+    void differentInputsAreRecordedSeparately() {
+        var cache = new TraceCache(Long.MAX_VALUE);
+
+        try (var a = cache.acquire("insertionsort", new int[]{3, 1, 2});
+             var b = cache.acquire("insertionsort", new int[]{1, 3, 2})) {
+            assertNotSame(a.trace(), b.trace());
+            assertEquals(2, cache.size());
+        }
+    }
+
+    @Test
+    void finishedTracesOutliveTheirSessions() {
+        var cache = new TraceCache(Long.MAX_VALUE);
+
+        var first = cache.acquire("insertionsort", new int[]{2, 1});
+        var trace = first.trace().join();
+        first.close();
+
+        try (var second = cache.acquire("insertionsort", new int[]{2, 1})) {
+            assertSame(trace, second.trace().join());
+        }
+    }
+
+    @Test
+    void overBudgetEvictsLeastRecentlyUsedButKeepsLeasedTracesReadable() throws InterruptedException {
+        var cache = new TraceCache(1);
+
+        var held = cache.acquire("insertionsort", new int[]{5, 4, 3, 2, 1});
+        var trace = held.trace().join();
+
+        // Over budget with a single entry, so it is dropped from the cache...
+        // (eviction runs right after completion, possibly after join returns)
+        final long deadline = System.nanoTime() + 5_000_000_000L;
+        while (cache.size() != 0 && System.nanoTime() < deadline) Thread.sleep(1);
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.retainedBytes());
+        // ...but the holder can still read it
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5}, trace.get(trace.size() - 1).values());
+        held.close();
+    }
+}
@@ -0,0 +1,166 @@
+package io.github.mcalgovisualizations.visualization.algorithms;
+
+import io.github.mcalgovisualizations.visualization.algorithms.events.Permute;
+import io.github.mcalgovisualizations.visualization.algorithms.sorting.AlgorithmStepper;
+import io.github.mcalgovisualizations.visualization.models.IntList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraceStepperTest {
+
+    private static TraceStepper ready(int... values) throws InterruptedException {
+        var stepper = new TraceStepper("insertionsort", new IntList(values));
+        stepper.onStart();
+
+        final long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!stepper.isReady()) {
+            if (System.nanoTime() > deadline) fail("trace not recorded in time");
+            Thread.sleep(1);
+        }
+        return stepper;
+    }
+
+    private static List<int[]> steppedValues(int... values) {
+        var reference = new AlgorithmStepper(new IntList(values));
+        List<int[]> expected = new ArrayList<>();
+        expected.add(reference.onStart().values());
+        while (!reference.isDone()) expected.add(reference.step().values());
+        return expected;
+    }
+
+    @Test
+    void playbackMatchesLiveStepper() throws InterruptedException {
+        var expected = steppedValues(5, 3, 8, 1, 9, 2, 7);
+        var stepper = ready(5, 3, 8, 1, 9, 2, 7);
+
+        assertEquals(expected.size(), stepper.stepCount());
+        for (int step = 1; step < expected.size(); step++) {
+            assertArrayEquals(expected.get(step), stepper.step().values(), "step " + step);
+        }
+        assertTrue(stepper.isDone());
+
+        for (int step = expected.size() - 2; step >= 0; step--) {
+            assertArrayEquals(expected.get(step), stepper.back().values(), "back to " + step);
+        }
+        assertNull(stepper.back());
+    }
+
+    @Test
+    void seekThenStepStaysConsistent() throws InterruptedException {
+        var expected = steppedValues(4, 3, 2, 1);
+        var stepper = ready(4, 3, 2, 1);
+
+        assertArrayEquals(expected.get(5), stepper.seek(5).values());
+        assertArrayEquals(expected.get(6), stepper.step().values());
+        assertArrayEquals(expected.get(5), stepper.back().values());
+
+        stepper.seek(Integer.MAX_VALUE);
+        assertEquals(expected.size() - 1, stepper.position());
+        stepper.close();
+    }
+
+    @Test
+    void batchedStepFoldsSwapsIntoOnePermutation() throws InterruptedException {
+        var expected = steppedValues(5, 3, 8, 1, 9, 2, 7);
+        var stepper = ready(5, 3, 8, 1, 9, 2, 7);
+
+        var batch = stepper.step(expected.size());
+
+        assertEquals(expected.size() - 1, stepper.position());
+        assertArrayEquals(expected.get(expected.size() - 1), batch.values());
+        var permute = (Permute) batch.events().get(0);
+        var values = expected.get(0).clone();
+        permute.applyTo(values);
+        assertArrayEquals(expected.get(expected.size() - 1), values);
+
+        // The cursor's own values stay in sync for single steps afterwards
+        assertArrayEquals(expected.get(expected.size() - 2), stepper.back().values());
+    }
+
+    @Test
+    void movesAreNoOpsWhileRecording() {
+        var stepper = new TraceStepper("insertionsort", new IntList(new int[]{2, 1}));
+
+        var initial = stepper.step();
+
+        assertSame(initial, stepper.seek(3));
+        assertEquals(0, stepper.stepCount());
+        assertFalse(stepper.isDone());
+    }
+
+    @Test
+    void restoreShowsSavedStateThenResumesAtStep() throws InterruptedException {
+        var expected = steppedValues(4, 3, 2, 1);
+        var saved = ready(4, 3, 2, 1);
+        var at = saved.seek(5);
+
+        var stepper = new TraceStepper("insertionsort", new IntList(new int[4]));
+        assertSame(at, stepper.restore(new int[]{4, 3, 2, 1}, 5, at));
+        assertEquals(5, stepper.position());
+
+        final long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!stepper.isReady()) {
+            if (System.nanoTime() > deadline) fail("trace not recorded in time");
+            Thread.sleep(1);
+        }
+        assertEquals(5, stepper.position());
+        assertArrayEquals(expected.get(6), stepper.step().values());
+        assertArrayEquals(new int[]{4, 3, 2, 1}, stepper.input());
+    }
+
+    /** Refuses to run when {@code fail} is set, otherwise swaps its two values. */
+    private static final class FailsOnce extends CoroutineStepper {
+        private final boolean fail;
+
+        FailsOnce(IntList model, boolean fail) {
+            super(model);
+            this.fail = fail;
+        }
+
+        @Override
+        protected void run() throws InterruptedException {
+            if (fail) throw new IllegalStateException("too many steps to record");
+            swap(0, 1);
+            yieldStep();
+        }
+
+        @Override
+        protected String name() {
+            return "fails once";
+        }
+    }
+
+    @Test
+    void aFailedRecordingPlaysOnLive() throws InterruptedException {
+        var created = new AtomicInteger();
+        var descriptor = new AlgorithmDescriptor("Fails-Once", "Fails Once", "minecraft:paper",
+                List.of("Only for this test."), "Time: O(1)", IntList.class);
+        // The first stepper records the trace and fails, the second plays live
+        AlgorithmCatalog.register(descriptor, IntList.class,
+                model -> new FailsOnce(model, created.getAndIncrement() == 0));
+
+        var stepper = new TraceStepper("fails-once", new IntList(new int[]{2, 1}));
+        stepper.onStart();
+        final long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!stepper.isReady()) {
+            if (System.nanoTime() > deadline) fail("recording did not fail in time");
+            Thread.sleep(1);
+        }
+
+        assertTrue(stepper.recordingFailed());
+        assertArrayEquals(new int[]{1, 2}, stepper.step().values());
+        assertEquals(1, stepper.position());
+        assertArrayEquals(new int[]{2, 1}, stepper.back().values());
+        stepper.close();
+    }
+
+    @Test
+    void unknownKeyIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new TraceStepper("nope", new IntList(new int[1])));
+    }
+}
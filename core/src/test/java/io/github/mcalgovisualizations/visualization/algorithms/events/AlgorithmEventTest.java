@@ -0,0 +1,73 @@
+package io.github.mcalgovisualizations.visualization.algorithms.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlgorithmEventTest {
+
+    private static final List<AlgorithmEvent> ALL = List.of(
+            new Compare(1, 2),
+            new Swap(1, 2),
+            new Highlight(3),
+            new Unhighlight(3),
+            new Permute(new int[]{2, 0, 1}),
+            new WorkerTask(1, 0, 3),
+            new Message("hi", Message.MessageType.INFO),
+            new Complete(),
+            new Validate()
+    );
+
+    @Test
+    void inverseOfInverseIsTheEvent() {
+        for (var event : ALL) {
+            assertEquals(event, event.inverse().inverse(), event.toString());
+        }
+    }
+
+    @Test
+    void highlightAndUnhighlightUndoEachOther() {
+        assertEquals(new Unhighlight(4), new Highlight(4).inverse());
+        assertEquals(new Highlight(4), new Unhighlight(4).inverse());
+    }
+
+    @Test
+    void inverseOfStepUndoesSwapsInReverseOrder() {
+        List<AlgorithmEvent> step = List.of(new Swap(0, 1), new Highlight(2), new Swap(1, 2));
+        int[] values = {10, 20, 30};
+
+        apply(step, values);
+        assertArrayEquals(new int[]{20, 30, 10}, values);
+
+        var inverse = AlgorithmEvent.inverseOf(step);
+        assertEquals(List.of(new Swap(1, 2), new Unhighlight(2), new Swap(0, 1)), inverse);
+
+        apply(inverse, values);
+        assertArrayEquals(new int[]{10, 20, 30}, values);
+    }
+
+    @Test
+    void permuteInverseRestoresValues() {
+        var permute = new Permute(new int[]{2, 0, 3, 1});
+        int[] values = {10, 20, 30, 40};
+
+        permute.applyTo(values);
+        assertArrayEquals(new int[]{30, 10, 40, 20}, values);
+        assertEquals(4, permute.moved());
+
+        permute.inverse().applyTo(values);
+        assertArrayEquals(new int[]{10, 20, 30, 40}, values);
+    }
+
+    private static void apply(List<AlgorithmEvent> events, int[] values) {
+        for (var e : events) {
+            if (e instanceof Swap s) {
+                int tmp = values[s.x()];
+                values[s.x()] = values[s.y()];
+                values[s.y()] = tmp;
+            }
+        }
+    }
+}
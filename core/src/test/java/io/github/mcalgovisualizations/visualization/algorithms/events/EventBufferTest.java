@@ -0,0 +1,73 @@
+package io.github.mcalgovisualizations.visualization.algorithms.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventBufferTest {
+
+    @Test
+    void eventsRoundTripThroughOpcodes() {
+        var buffer = new EventBuffer(2);
+        buffer.compare(3, 2);
+        buffer.message(MessageTemplate.COMPARING, Message.MessageType.INFO, 3, 2);
+        buffer.swap(2, 3);
+        buffer.highlight(1);
+        buffer.unhighlight(1);
+        buffer.text("custom", Message.MessageType.HINT);
+        buffer.worker(2, 0, 4);
+        buffer.validate();
+        buffer.complete();
+
+        assertEquals(List.of(
+                new Compare(3, 2),
+                new Message("Comparing indices 3 and 2", Message.MessageType.INFO),
+                new Swap(2, 3),
+                new Highlight(1),
+                new Unhighlight(1),
+                new Message("custom", Message.MessageType.HINT),
+                new WorkerTask(2, 0, 4),
+                new Validate(),
+                new Complete()
+        ), buffer.toEvents());
+    }
+
+    @Test
+    void clearKeepsCapacity() {
+        var buffer = new EventBuffer(4);
+        for (int i = 0; i < 10; i++) buffer.swap(i, i + 1);
+        int[] grown = buffer.ops();
+
+        buffer.clear();
+        buffer.swap(0, 1);
+
+        assertSame(grown, buffer.ops());
+        assertEquals(List.of(new Swap(0, 1)), buffer.toEvents());
+    }
+
+    @Test
+    void applySwapsForwardAndReverse() {
+        var buffer = new EventBuffer();
+        buffer.swap(0, 1);
+        buffer.message(MessageTemplate.SWAPPED, Message.MessageType.INFO, 0, 1);
+        buffer.swap(1, 2);
+        int[] values = {10, 20, 30};
+
+        EventBuffer.applySwaps(buffer.ops(), 0, buffer.size(), values, false);
+        assertArrayEquals(new int[]{20, 30, 10}, values);
+
+        EventBuffer.applySwaps(buffer.ops(), 0, buffer.size(), values, true);
+        assertArrayEquals(new int[]{10, 20, 30}, values);
+    }
+
+    @Test
+    void addEncodesRecords() {
+        var buffer = new EventBuffer();
+        List<AlgorithmEvent> events = List.of(new Swap(1, 2), new Message("hi", Message.MessageType.INFO));
+        events.forEach(buffer::add);
+
+        assertEquals(events, buffer.toEvents());
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.mcalgovisualizations.visualization.algorithms.sorting;
+
+import io.github.mcalgovisualizations.visualization.algorithms.events.Permute;
+import io.github.mcalgovisualizations.visualization.algorithms.events.Swap;
+import io.github.mcalgovisualizations.visualization.models.IntList;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlgorithmStepperTest {
+
+    private static AlgorithmStepper started(int... values) {
+        var stepper = new AlgorithmStepper(new IntList(values));
+        stepper.onStart();
+        return stepper;
+    }
+
+    @Test
+    void seekMatchesSteppingOneByOne() {
+        var reference = started(5, 3, 8, 1, 9, 2, 7);
+        List<int[]> expected = new ArrayList<>();
+        expected.add(reference.seek(0).values());
+        while (!reference.isDone()) expected.add(reference.step().values());
+
+        var stepper = started(5, 3, 8, 1, 9, 2, 7);
+        for (int step = expected.size() - 1; step >= 0; step -= 3) {
+            assertArrayEquals(expected.get(step), stepper.seek(step).values(), "step " + step);
+            assertEquals(step, stepper.position());
+        }
+    }
+
+    @Test
+    void batchedStepLandsWhereSeekDoesAndCarriesNetPermutation() {
+        var reference = started(5, 3, 8, 1, 9, 2, 7);
+        var before = reference.seek(4).values();
+        var target = reference.seek(14).values();
+
+        var stepper = started(5, 3, 8, 1, 9, 2, 7);
+        stepper.seek(4);
+        var batch = stepper.step(10);
+
+        assertEquals(14, stepper.position());
+        assertArrayEquals(target, batch.values());
+        assertTrue(batch.events().stream().noneMatch(e -> e instanceof Swap));
+
+        var permute = (Permute) batch.events().get(0);
+        permute.applyTo(before);
+        assertArrayEquals(target, before);
+    }
+
+    @Test
+    void batchedStepStopsAtFinalStep() {
+        var stepper = started(4, 3, 2, 1);
+
+        var last = stepper.step(Integer.MAX_VALUE);
+
+        assertTrue(stepper.isDone());
+        assertArrayEquals(new int[]{1, 2, 3, 4}, last.values());
+        assertThrows(IllegalArgumentException.class, () -> stepper.step(0));
+    }
+
+    @Test
+    void seekPastEndStopsAtFinalStep() {
+        var stepper = started(4, 3, 2, 1);
+
+        var last = stepper.seek(Integer.MAX_VALUE);
+
+        assertTrue(stepper.isDone());
+        assertArrayEquals(new int[]{1, 2, 3, 4}, last.values());
+        assertEquals(stepper.stepCount() - 1, stepper.position());
+    }
+
+    @Test
+    void seekRejectsNegativeStep() {
+        var stepper = started(1, 2);
+        assertThrows(IllegalArgumentException.class, () -> stepper.seek(-1));
+    }
+
+    @Test
+    void steadyStateAdvanceOnlyAllocatesKeyframes() {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        int[] input = new int[64];
+        for (int i = 0; i < input.length; i++) input[i] = input.length - i;
+
+        var stepper = new AlgorithmStepper(new IntList(input.clone()));
+        // First run grows the buffers, the second reuses them
+        stepper.restore(input, 0, null);
+        while (stepper.advance()) { }
+        stepper.restore(input, 0, null);
+
+        final long before = threads.getCurrentThreadAllocatedBytes();
+        int steps = 0;
+        while (stepper.advance()) steps++;
+        final long perStep = (threads.getCurrentThreadAllocatedBytes() - before) / steps;
+
+        // One 64-value keyframe every 32 steps is ~9 bytes per step
+        assertTrue(perStep < 32, "allocated " + perStep + " bytes per step");
+        stepper.close();
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.mcalgovisualizations.visualization.algorithms.sorting;
+
+import io.github.mcalgovisualizations.visualization.algorithms.OperationCounts;
+import io.github.mcalgovisualizations.visualization.algorithms.events.Complete;
+import io.github.mcalgovisualizations.visualization.algorithms.events.Swap;
+import io.github.mcalgovisualizations.visualization.models.IntList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BubbleSortStepperTest {
+
+    private static BubbleSortStepper started(int... values) {
+        var stepper = new BubbleSortStepper(new IntList(values));
+        stepper.onStart();
+        return stepper;
+    }
+
+    @Test
+    void sortsOneComparisonPerStep() {
+        var stepper = started(3, 1, 2);
+
+        var first = stepper.step();
+        assertArrayEquals(new int[]{1, 3, 2}, first.values());
+        assertTrue(first.events().contains(new Swap(0, 1)));
+
+        var last = stepper.seek(Integer.MAX_VALUE);
+        assertTrue(stepper.isDone());
+        assertArrayEquals(new int[]{1, 2, 3}, last.values());
+        assertTrue(last.events().contains(new Complete()));
+        assertFalse(stepper.advance());
+        stepper.close();
+    }
+
+    @Test
+    void snapshotsCarryTheOperationCountsSoFar() {
+        var stepper = started(3, 1, 2);
+
+        // Swaps (0, 1) and (1, 2), then a pass without swaps
+        var last = stepper.seek(Integer.MAX_VALUE);
+        assertEquals(new OperationCounts(3, 2, 10, 4, 0), last.counts());
+
+        var first = stepper.seek(1);
+        assertEquals(new OperationCounts(1, 1, 4, 2, 0), first.counts());
+        assertEquals(OperationCounts.ZERO, stepper.seek(0).counts());
+
+        // A new run counts from zero
+        stepper.randomize();
+        assertTrue(stepper.seek(Integer.MAX_VALUE).counts().comparisons() <= 3);
+        stepper.close();
+    }
+
+    @Test
+    void backReplaysRecordedSteps() {
+        var stepper = started(4, 3, 2, 1);
+        List<int[]> forward = new ArrayList<>();
+        forward.add(stepper.seek(0).values());
+        while (!stepper.isDone()) forward.add(stepper.step().values());
+
+        for (int step = forward.size() - 2; step >= 0; step--) {
+            assertArrayEquals(forward.get(step), stepper.back().values(), "back to " + step);
+        }
+        assertArrayEquals(forward.get(1), stepper.step().values());
+        stepper.close();
+    }
+
+    @Test
+    void closeCancelsParkedAlgorithm() {
+        var stepper = started(5, 4, 3, 2, 1);
+        stepper.step();
+        stepper.step();
+
+        stepper.close();
+
+        // A fresh start runs a new algorithm from the current values
+        stepper.onStart();
+        assertArrayEquals(new int[]{4, 3, 5, 2, 1}, stepper.input());
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5}, stepper.seek(Integer.MAX_VALUE).values());
+        stepper.close();
+    }
+
+    @Test
+    void manyParkedAlgorithmsAtOnce() {
+        List<BubbleSortStepper> steppers = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            var stepper = started(3, 2, 1);
+            stepper.step();
+            steppers.add(stepper);
+        }
+
+        for (var stepper : steppers) {
+            assertArrayEquals(new int[]{1, 2, 3}, stepper.seek(Integer.MAX_VALUE).values());
+            stepper.close();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.mcalgovisualizations.visualization.algorithms.sorting;
+
+import io.github.mcalgovisualizations.visualization.algorithms.events.AlgorithmEvent;
+import io.github.mcalgovisualizations.visualization.algorithms.events.WorkerTask;
+import io.github.mcalgovisualizations.visualization.models.IntList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelMergeSortStepperTest {
+
+    @Test
+    void everyMergeIsTaggedWithTheWorkerThatDidIt() {
+        var random = new Random(3);
+        int[] values = new int[4_096];
+        for (int i = 0; i < values.length; i++) values[i] = random.nextInt(100_000);
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+
+        var stepper = new ParallelMergeSortStepper(new IntList(values));
+        stepper.onStart();
+
+        int merges = 0;
+        while (!stepper.isDone()) {
+            for (AlgorithmEvent event : stepper.step().events()) {
+                if (event instanceof WorkerTask task) {
+                    assertTrue(task.worker() >= 0 && task.worker() < ParallelMergeSortStepper.POOL.getParallelism());
+                    assertTrue(task.from() < task.to());
+                    merges++;
+                }
+            }
+        }
+
+        assertArrayEquals(expected, stepper.seek(Integer.MAX_VALUE).values());
+        // The split does not depend on scheduling: one run per cutoff-sized leaf, then a merge per inner node.
+        // How many workers took part does, so that is not checked.
+        int leaves = values.length / ParallelMergeSortStepper.SEQUENTIAL_CUTOFF;
+        assertEquals(2 * leaves - 1, merges);
+        stepper.close();
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.mcalgovisualizations.visualization.algorithms.sorting;
+
+import io.github.mcalgovisualizations.visualization.algorithms.AlgorithmCatalog;
+import io.github.mcalgovisualizations.visualization.algorithms.IAlgorithmStepper;
+import io.github.mcalgovisualizations.visualization.models.IntList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortingSuiteTest {
+
+    private static final List<String> KEYS = List.of(
+            "mergesort", "parallelmergesort", "heapsort", "radixsort",
+            "quicksort", "quicksort-first", "quicksort-last", "quicksort-middle", "quicksort-random"
+    );
+
+    private static IAlgorithmStepper started(String key, int... values) {
+        var stepper = AlgorithmCatalog.create(key, new IntList(values));
+        stepper.onStart();
+        return stepper;
+    }
+
+    private static int[] randomValues(long seed, int n, int bound) {
+        var random = new Random(seed);
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) values[i] = random.nextInt(2 * bound) - bound;
+        return values;
+    }
+
+    @Test
+    void everyStepperSortsWithDuplicatesAndNegatives() {
+        for (var key : KEYS) {
+            for (long seed = 0; seed < 5; seed++) {
+                int[] values = randomValues(seed, 37, 20);
+                int[] expected = values.clone();
+                Arrays.sort(expected);
+
+                var stepper = started(key, values);
+                var last = stepper.seek(Integer.MAX_VALUE);
+
+                assertTrue(stepper.isDone(), key);
+                assertArrayEquals(expected, last.values(), key + " seed " + seed);
+                stepper.close();
+            }
+        }
+    }
+
+    @Test
+    void edgeCasesSort() {
+        for (var key : KEYS) {
+            for (int[] values : List.of(new int[]{7}, new int[]{2, 1}, new int[]{3, 3, 3}, new int[]{1, 2, 3, 4})) {
+                int[] expected = values.clone();
+                Arrays.sort(expected);
+
+                var stepper = started(key, values);
+                assertArrayEquals(expected, stepper.seek(Integer.MAX_VALUE).values(), key);
+                stepper.close();
+            }
+        }
+    }
+
+    @Test
+    void backReplaysEveryStepperExactly() {
+        for (var key : KEYS) {
+            var stepper = started(key, 9, 4, 7, 1, 8, 2, 6, 3, 5);
+            List<int[]> forward = new ArrayList<>();
+            forward.add(stepper.seek(0).values());
+            while (!stepper.isDone()) forward.add(stepper.step().values());
+
+            for (int step = forward.size() - 2; step >= 0; step--) {
+                assertArrayEquals(forward.get(step), stepper.back().values(), key + " back to " + step);
+            }
+            stepper.close();
+        }
+    }
+
+    @Test
+    void nLogNSteppersTakeFarFewerStepsThanInsertionSort() {
+        int[] values = randomValues(7, 256, 1_000);
+
+        var insertion = started("insertionsort", values);
+        insertion.seek(Integer.MAX_VALUE);
+        for (var key : List.of("mergesort", "heapsort", "quicksort")) {
+            var stepper = started(key, values);
+            stepper.seek(Integer.MAX_VALUE);
+            assertTrue(stepper.stepCount() * 4 < insertion.stepCount(),
+                    key + " took " + stepper.stepCount() + " steps, insertion sort " + insertion.stepCount());
+            stepper.close();
+        }
+    }
+}
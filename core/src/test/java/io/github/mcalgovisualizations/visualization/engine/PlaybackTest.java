@@ -0,0 +1,154 @@
+package io.github.mcalgovisualizations.visualization.engine;
+
+import io.github.mcalgovisualizations.visualization.HistorySnapshot;
+import io.github.mcalgovisualizations.visualization.Snapshot;
+import io.github.mcalgovisualizations.visualization.algorithms.events.AlgorithmEvent;
+import io.github.mcalgovisualizations.visualization.algorithms.events.Permute;
+import io.github.mcalgovisualizations.visualization.algorithms.events.Swap;
+import io.github.mcalgovisualizations.visualization.algorithms.sorting.AlgorithmStepper;
+import io.github.mcalgovisualizations.visualization.models.IntList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaybackTest {
+
+    /** Records what the playback asked for instead of drawing it. */
+    private static final class RecordingRenderer implements PlaybackRenderer {
+        final List<String> calls = new ArrayList<>();
+
+        @Override public void onStart() { calls.add("start"); }
+        @Override public void render(Snapshot snapshot) { calls.add("render"); }
+        @Override public void rewind(Snapshot undone) { calls.add("rewind"); }
+        @Override public void jumpTo(Snapshot snapshot) { calls.add("jump"); }
+        @Override public void hardReset(Snapshot snapshot) { calls.add("reset"); }
+        @Override public void onCleanup() { calls.add("cleanup"); }
+    }
+
+    /** Keeps the arrangement a scene would show, moved only by the events it is given. */
+    private static final class ArrangementRenderer implements PlaybackRenderer {
+        int[] shown = new int[0];
+
+        @Override public void onStart() {}
+        @Override public void render(Snapshot snapshot) { apply(((HistorySnapshot) snapshot).events()); }
+        @Override public void rewind(Snapshot undone) { apply(AlgorithmEvent.inverseOf(((HistorySnapshot) undone).events())); }
+        @Override public void jumpTo(Snapshot snapshot) { shown = snapshot.values().clone(); }
+        @Override public void hardReset(Snapshot snapshot) { shown = snapshot.values().clone(); }
+        @Override public void onCleanup() {}
+
+        private void apply(List<AlgorithmEvent> events) {
+            for (var event : events) {
+                if (event instanceof Swap swap) {
+                    int tmp = shown[swap.x()];
+                    shown[swap.x()] = shown[swap.y()];
+                    shown[swap.y()] = tmp;
+                } else if (event instanceof Permute permute) {
+                    permute.applyTo(shown);
+                }
+            }
+        }
+    }
+
+    private static Playback started(RecordingRenderer renderer, int... values) {
+        var playback = new Playback(new AlgorithmStepper(new IntList(values)), renderer);
+        playback.onStart();
+        return playback;
+    }
+
+    @Test
+    void movesAreHandedToTheRendererTheWayTheyShouldBeShown() {
+        var renderer = new RecordingRenderer();
+        // onStart shuffles, but sorting eight values takes more than three steps either way
+        var playback = started(renderer, 8, 7, 6, 5, 4, 3, 2, 1);
+
+        assertTrue(playback.step());
+        playback.back();
+        playback.seek(1);
+        assertTrue(playback.skip(2));
+        assertEquals(3, playback.position());
+        playback.close();
+
+        assertEquals(List.of("start", "render", "render", "rewind", "jump", "render", "cleanup"), renderer.calls);
+    }
+
+    @Test
+    void steppingBackAfterASkipShowsThePreviousStep() {
+        var renderer = new ArrangementRenderer();
+        var playback = new Playback(new AlgorithmStepper(new IntList(new int[8])), renderer);
+        playback.start(new int[]{8, 7, 6, 5, 4, 3, 2, 1});
+
+        assertTrue(playback.skip(10));
+        assertArrayEquals(playback.currentSnapshot().values(), renderer.shown);
+
+        playback.back();
+        assertEquals(9, playback.position());
+        assertArrayEquals(playback.currentSnapshot().values(), renderer.shown);
+
+        // Stepping on from there animates single steps again
+        for (int i = 0; i < 3; i++) {
+            assertTrue(playback.step());
+            assertArrayEquals(playback.currentSnapshot().values(), renderer.shown);
+        }
+        playback.back();
+        assertArrayEquals(playback.currentSnapshot().values(), renderer.shown);
+    }
+
+    @Test
+    void seekingByPercentWaitsUntilTheLengthOfTheRunIsKnown() {
+        var renderer = new RecordingRenderer();
+        var playback = started(renderer, 8, 7, 6, 5, 4, 3, 2, 1);
+
+        // A live stepper would have to compute the rest of the run first
+        assertFalse(playback.seekPercent(50));
+        assertEquals(0, playback.position());
+        assertFalse(renderer.calls.contains("jump"));
+
+        while (!playback.isDone()) playback.step();
+        final int last = playback.position();
+        assertTrue(playback.seekPercent(0));
+        assertEquals(0, playback.position());
+        assertTrue(playback.seekPercent(100));
+        assertEquals(last, playback.position());
+    }
+
+    @Test
+    void nothingIsRenderedOnceTheRunHasEnded() {
+        var renderer = new RecordingRenderer();
+        var playback = started(renderer, 8, 7, 6, 5, 4, 3, 2, 1);
+
+        while (!playback.isDone()) assertTrue(playback.step());
+        final int renders = renderer.calls.size();
+        for (int i = 0; i < 5; i++) {
+            assertFalse(playback.step());
+            assertFalse(playback.skip(3));
+        }
+        assertEquals(renders, renderer.calls.size());
+
+        // Stepping back and forward again still shows the last step
+        playback.back();
+        assertTrue(playback.step());
+        assertFalse(playback.step());
+    }
+
+    @Test
+    void thousandsOfSessionsRunToCompletionWithoutAServer() {
+        var playbacks = new ArrayList<Playback>();
+        for (int i = 0; i < 2_000; i++) {
+            playbacks.add(started(new RecordingRenderer(), 5, 3, 8, 1, 9, 2, 7));
+        }
+
+        int ticks = 0;
+        while (playbacks.stream().anyMatch(p -> !p.isDone())) {
+            for (var playback : playbacks) playback.step();
+            assertTrue(++ticks < 1_000, "sessions did not finish");
+        }
+
+        for (var playback : playbacks) {
+            assertArrayEquals(new int[]{1, 2, 3, 5, 7, 8, 9}, playback.currentSnapshot().values());
+            playback.close();
+        }
+    }
+}
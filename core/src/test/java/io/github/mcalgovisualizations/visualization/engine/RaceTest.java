@@ -0,0 +1,112 @@
+package io.github.mcalgovisualizations.visualization.engine;
+
+import io.github.mcalgovisualizations.visualization.Snapshot;
+import io.github.mcalgovisualizations.visualization.algorithms.AlgorithmCatalog;
+import io.github.mcalgovisualizations.visualization.models.IntList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RaceTest {
+
+    private static final class NoRenderer implements PlaybackRenderer {
+        @Override public void onStart() {}
+        @Override public void render(Snapshot snapshot) {}
+        @Override public void rewind(Snapshot undone) {}
+        @Override public void jumpTo(Snapshot snapshot) {}
+        @Override public void hardReset(Snapshot snapshot) {}
+        @Override public void onCleanup() {}
+    }
+
+    private static Race race(int size, String... keys) {
+        var lanes = new ArrayList<Race.Lane>();
+        for (var key : keys) {
+            var stepper = AlgorithmCatalog.create(key, new IntList(new int[size]));
+            lanes.add(new Race.Lane(key, new Playback(stepper, new NoRenderer())));
+        }
+        return new Race(lanes);
+    }
+
+    /** Steps a lone stepper of {@code key} on {@code input} to the end. */
+    private static int stepsToFinish(String key, int[] input) {
+        var playback = new Playback(AlgorithmCatalog.create(key, new IntList(new int[input.length])), new NoRenderer());
+        playback.start(input);
+        int steps = 0;
+        while (!playback.isDone()) {
+            playback.step();
+            steps++;
+        }
+        playback.close();
+        return steps;
+    }
+
+    @Test
+    void lanesStartOnTheSameInputAndMoveTogether() {
+        var race = race(8, "insertionsort", "bubblesort", "mergesort");
+        int[] input = {5, 3, 8, 1, 7, 2, 6, 4};
+        race.start(input);
+
+        for (var lane : race.lanes()) {
+            assertArrayEquals(input, lane.playback().currentSnapshot().values());
+        }
+
+        race.tick();
+        race.tick();
+        assertEquals(2, race.ticks());
+        for (var lane : race.lanes()) assertEquals(2, lane.playback().position());
+        race.close();
+    }
+
+    @Test
+    void eachLaneFinishesAfterItsOwnNumberOfSteps() {
+        var race = race(8, "insertionsort", "bubblesort", "mergesort", "quicksort");
+        int[] input = {5, 3, 8, 1, 7, 2, 6, 4};
+        race.start(input);
+
+        while (race.tick()) {
+            assertTrue(race.ticks() < 1_000, "race did not finish");
+        }
+
+        assertTrue(race.isFinished());
+        assertFalse(race.tick());
+        List<Integer> finishes = new ArrayList<>();
+        for (int lane = 0; lane < race.lanes().size(); lane++) {
+            var name = race.lanes().get(lane).name();
+            assertEquals(stepsToFinish(name, input), race.finishTick(lane), name);
+            assertArrayEquals(new int[]{1, 2, 3, 4, 5, 6, 7, 8}, race.lanes().get(lane).playback().currentSnapshot().values());
+            assertTrue(race.counts(lane).comparisons() > 0, name);
+            finishes.add(race.finishTick(lane));
+        }
+
+        int winner = finishes.indexOf(finishes.stream().min(Integer::compare).orElseThrow());
+        assertEquals(1, race.place(winner));
+        assertEquals(finishes.stream().max(Integer::compare).orElseThrow(), race.ticks());
+        race.close();
+    }
+
+    @Test
+    void randomizeRestartsEveryLaneOnOneShuffle() {
+        var race = race(6, "insertionsort", "heapsort");
+        race.start(new int[]{0, 1, 2, 3, 4, 5});
+        race.tick();
+
+        race.randomize(new Random(3));
+
+        assertEquals(0, race.ticks());
+        assertEquals(-1, race.finishTick(0));
+        assertArrayEquals(race.input(), race.lanes().get(0).playback().currentSnapshot().values());
+        assertArrayEquals(race.input(), race.lanes().get(1).playback().currentSnapshot().values());
+        race.close();
+    }
+
+    @Test
+    void needsTwoToFourLanes() {
+        assertThrows(IllegalArgumentException.class, () -> race(4, "insertionsort"));
+        assertThrows(IllegalArgumentException.class,
+                () -> race(4, "insertionsort", "bubblesort", "mergesort", "heapsort", "quicksort"));
+    }
+}
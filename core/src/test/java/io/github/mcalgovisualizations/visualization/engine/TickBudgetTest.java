@@ -0,0 +1,49 @@
+package io.github.mcalgovisualizations.visualization.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickBudgetTest {
+
+    private long now = 0;
+
+    @Test
+    void callersWithinOneTickShareTheBudget() {
+        var budget = new TickBudget(1_000, () -> now);
+
+        long start = budget.begin(1);
+        now += 600;
+        assertFalse(budget.exhausted(start));
+        budget.end(start);
+
+        start = budget.begin(1);
+        now += 400;
+        assertTrue(budget.exhausted(start));
+        budget.end(start);
+        assertEquals(0, budget.remainingNanos());
+
+        // Whoever comes later in the same tick finds nothing left
+        start = budget.begin(1);
+        assertTrue(budget.exhausted(start));
+    }
+
+    @Test
+    void theNextTickRenewsTheBudget() {
+        var budget = new TickBudget(1_000, () -> now);
+
+        long start = budget.begin(1);
+        now += 5_000;
+        budget.end(start);
+        assertEquals(0, budget.remainingNanos());
+
+        start = budget.begin(2);
+        assertEquals(1_000, budget.remainingNanos());
+        assertFalse(budget.exhausted(start));
+    }
+
+    @Test
+    void rejectsNonPositiveBudgets() {
+        assertThrows(IllegalArgumentException.class, () -> new TickBudget(0, () -> now));
+    }
+}
@@ -0,0 +1,226 @@
+package io.github.mcalgovisualizations.visualization.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static final long TICK = 50_000_000L;
+
+    /** A clock the test moves by hand. */
+    private static final class FakeClock {
+        long now = 1_000_000_000L;
+
+        void tick(int ticks) {
+            now += ticks * TICK;
+        }
+    }
+
+    private static TimingWheel wheel(FakeClock clock, int maxCatchUpTicks) {
+        var wheel = new TimingWheel(TICK, maxCatchUpTicks, () -> clock.now);
+        wheel.advance(); // anchors the wheel to the clock
+        return wheel;
+    }
+
+    /** Advances the wheel once per tick, {@code ticks} times. */
+    private static void run(TimingWheel wheel, FakeClock clock, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            clock.tick(1);
+            wheel.advance();
+        }
+    }
+
+    @Test
+    void timersFireEveryPeriod() {
+        var clock = new FakeClock();
+        var wheel = wheel(clock, 10);
+        var fired = new ArrayList<Long>();
+        wheel.schedule(3, true, () -> fired.add(wheel.ticks()));
+
+        run(wheel, clock, 10);
+
+        assertEquals(List.of(3L, 6L, 9L), fired);
+    }
+
+    @Test
+    void aFirstDelayComesBeforeThePeriod() {
+        var clock = new FakeClock();
+        var wheel = wheel(clock, 10);
+        var fired = new ArrayList<Long>();
+        var timer = wheel.schedule(1, 5, true, () -> fired.add(wheel.ticks()));
+
+        run(wheel, clock, 12);
+        timer.setPeriod(2);
+        run(wheel, clock, 2);
+
+        assertEquals(List.of(1L, 6L, 11L, 13L), fired);
+    }
+
+    @Test
+    void periodsLongerThanTheWheelWaitTheirTurn() {
+        var clock = new FakeClock();
+        var wheel = wheel(clock, 10);
+        var fired = new ArrayList<Long>();
+        wheel.schedule(TimingWheel.SLOTS + 5, true, () -> fired.add(wheel.ticks()));
+
+        run(wheel, clock, 2 * TimingWheel.SLOTS + 10);
+
+        assertEquals(List.of(TimingWheel.SLOTS + 5L, 2L * TimingWheel.SLOTS + 10), fired);
+    }
+
+    @Test
+    void cancelledTimersStopFiring() {
+        var clock = new FakeClock();
+        var wheel = wheel(clock, 10);
+        int[] fired = {0};
+        var timer = wheel.schedule(1, true, () -> fired[0]++);
+
+        run(wheel, clock, 3);
+        timer.cancel();
+        timer.cancel();
+        run(wheel, clock, 3);
+
+        assertEquals(3, fired[0]);
+        assertFalse(timer.isActive());
+        assertEquals(0, wheel.stats().timers());
+    }
+
+    @Test
+    void aTimerCanCancelItselfAndOthersDueTheSameTick() {
+        var clock = new FakeClock();
+        var wheel = wheel(clock, 10);
+        var fired = new ArrayList<String>();
+        var timers = new ArrayList<TimingWheel.Timer>();
+        timers.add(wheel.schedule(2, true, () -> {
+            fired.add("a");
+            timers.forEach(TimingWheel.Timer::cancel);
+        }));
+        timers.add(wheel.schedule(2, true, () -> fired.add("b")));
+
+        run(wheel, clock, 6);
+
+        assertEquals(1, fired.size());
+        assertEquals(0, wheel.stats().timers());
+    }
+
+    @Test
+    void setPeriodReschedulesFromTheLastFiring() {
+        var clock = new FakeClock();
+        var wheel = wheel(clock, 10);
+        var fired = new ArrayList<Long>();
+        var timer = wheel.schedule(10, true, () -> fired.add(wheel.ticks()));
+
+        run(wheel, clock, 10);
+        run(wheel, clock, 2);
+        timer.setPeriod(4);
+        run(wheel, clock, 10);
+        // Already past a shorter period: fires on the next tick
+        timer.setPeriod(1);
+        run(wheel, clock, 1);
+
+        assertEquals(List.of(10L, 14L, 18L, 22L, 23L), fired);
+    }
+
+    @Test
+    void lagIsCaughtUpPerMissedPeriodOrOnce() {
+        var clock = new FakeClock();
+        var wheel = wheel(clock, 10);
+        int[] catchUp = {0};
+        int[] once = {0};
+        wheel.schedule(1, true, () -> catchUp[0]++);
+        wheel.schedule(1, false, () -> once[0]++);
+
+        clock.tick(5);
+        wheel.advance();
+
+        assertEquals(5, wheel.ticks());
+        assertEquals(5, catchUp[0]);
+        assertEquals(1, once[0]);
+
+        run(wheel, clock, 2);
+        assertEquals(7, catchUp[0]);
+        assertEquals(3, once[0]);
+    }
+
+    @Test
+    void lagBeyondTheCatchUpLimitIsDropped() {
+        var clock = new FakeClock();
+        var wheel = wheel(clock, 4);
+        int[] fired = {0};
+        wheel.schedule(1, true, () -> fired[0]++);
+
+        clock.tick(10);
+        wheel.advance();
+
+        assertEquals(4, fired[0]);
+        assertEquals(6, wheel.stats().droppedTicks());
+
+        // Back in step with the clock afterwards
+        run(wheel, clock, 3);
+        assertEquals(7, fired[0]);
+        assertEquals(6, wheel.stats().droppedTicks());
+    }
+
+    @Test
+    void slightlyEarlyCallsStillRunTheirTick() {
+        var clock = new FakeClock();
+        var wheel = wheel(clock, 10);
+        int[] fired = {0};
+        wheel.schedule(1, true, () -> fired[0]++);
+
+        clock.now += TICK - TICK / 10;
+        wheel.advance();
+        clock.now += TICK + TICK / 10;
+        wheel.advance();
+
+        assertEquals(2, fired[0]);
+        assertEquals(TICK / 10 / 1e6, wheel.stats().maxJitterMillis(), 1e-9);
+    }
+
+    @Test
+    void jitterMeasuresLateFirings() {
+        var clock = new FakeClock();
+        var wheel = wheel(clock, 10);
+        wheel.schedule(1, true, () -> {});
+
+        clock.tick(2);
+        wheel.advance();
+
+        var stats = wheel.stats();
+        assertEquals(2, stats.firings());
+        // The first tick ran 50 ms late, the second on time
+        assertEquals(25, stats.meanJitterMillis(), 1e-9);
+        assertEquals(50, stats.maxJitterMillis(), 1e-9);
+
+        wheel.resetStats();
+        assertEquals(0, wheel.stats().firings());
+        assertEquals(1, wheel.stats().timers());
+    }
+
+    @Test
+    void idleTicksOnlyVisitTheirOwnBucket() {
+        var clock = new FakeClock();
+        var wheel = wheel(clock, 10);
+        int[] fired = {0};
+        for (int i = 0; i < 1000; i++) wheel.schedule(100, true, () -> fired[0]++);
+
+        run(wheel, clock, 99);
+        assertEquals(0, fired[0]);
+        run(wheel, clock, 1);
+        assertEquals(1000, fired[0]);
+    }
+
+    @Test
+    void rejectsNonPositivePeriods() {
+        var wheel = new TimingWheel(TICK, 1, System::nanoTime);
+
+        assertThrows(IllegalArgumentException.class, () -> wheel.schedule(0, true, () -> {}));
+        assertThrows(IllegalArgumentException.class, () -> wheel.schedule(0, 1, true, () -> {}));
+        var timer = wheel.schedule(1, true, () -> {});
+        assertThrows(IllegalArgumentException.class, () -> timer.setPeriod(-1));
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.mcalgovisualizations.visualization.history;
+
+import io.github.mcalgovisualizations.visualization.HistorySnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionHistoryTest {
+
+    private static HistorySnapshot snapshotAt(int step) {
+        int[] values = new int[16];
+        for (int i = 0; i < values.length; i++) values[i] = i;
+        values[step % values.length] = -step;
+        return new HistorySnapshot(values, new int[0], List.of(), step, -1, false);
+    }
+
+    @Test
+    void constructorRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new SessionHistory(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new SessionHistory(4, 0));
+    }
+
+    @Test
+    void ringKeepsOnlyTheNewestFrames() {
+        var history = new SessionHistory(5, 4);
+        for (int step = 0; step < 12; step++) history.append(snapshotAt(step));
+
+        assertEquals(7, history.firstIndex());
+        assertEquals(12, history.nextIndex());
+        assertNull(history.get(6));
+        for (int step = 7; step < 12; step++) {
+            assertArrayEquals(snapshotAt(step).values(), history.get(step).values(), "step " + step);
+        }
+    }
+
+    @Test
+    void evictingKeyframeKeepsFollowingDeltasDecodable() {
+        var history = new SessionHistory(100, 8);
+        for (int step = 0; step < 10; step++) history.append(snapshotAt(step));
+
+        long before = history.bytes();
+        for (int i = 0; i < 3; i++) history.evictOldest();
+
+        assertEquals(3, history.firstIndex());
+        assertTrue(history.bytes() > 0 && history.bytes() != before);
+        for (int step = 3; step < 10; step++) {
+            assertEquals(step, history.get(step).currentIndex());
+        }
+    }
+
+    @Test
+    void evictOldestKeepsLastFrame() {
+        var history = new SessionHistory(4, 4);
+        history.append(snapshotAt(0));
+
+        assertEquals(0, history.evictOldest());
+        assertNotNull(history.get(0));
+    }
+
+    @Test
+    void concurrentReadsNeverSeeTornFrames() throws InterruptedException {
+        var history = new SessionHistory(8, 4);
+        history.append(snapshotAt(0));
+
+        var done = new AtomicBoolean();
+        var failure = new AtomicReference<Throwable>();
+        var reader = new Thread(() -> {
+            try {
+                while (!done.get()) {
+                    long seq = history.nextIndex() - 1;
+                    var snapshot = history.get(seq);
+                    if (snapshot != null && snapshot.currentIndex() != seq) {
+                        throw new AssertionError("expected " + seq + " got " + snapshot.currentIndex());
+                    }
+                }
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+
+        reader.start();
+        for (int step = 1; step < 20_000; step++) history.append(snapshotAt(step));
+        done.set(true);
+        reader.join();
+
+        assertNull(failure.get());
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.mcalgovisualizations.visualization.history;
+
+import io.github.mcalgovisualizations.visualization.HistorySnapshot;
+import io.github.mcalgovisualizations.visualization.algorithms.OperationCounts;
+import io.github.mcalgovisualizations.visualization.algorithms.events.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotCodecTest {
+
+    private static final HistorySnapshot BASE = new HistorySnapshot(
+            new int[]{5, -3, 8, 1000000, 0},
+            new int[0],
+            List.of(),
+            1,
+            -1,
+            false
+    );
+
+    @Test
+    void keyframeRoundTripsAllFields() {
+        var snapshot = new HistorySnapshot(
+                new int[]{5, -3, 8, Integer.MIN_VALUE, Integer.MAX_VALUE},
+                new int[]{2, 4},
+                List.of(
+                        new Compare(2, 1),
+                        new Swap(1, 2),
+                        new Highlight(3),
+                        new Unhighlight(3),
+                        new Permute(new int[]{1, 0, 2, 4, 3}),
+                        new WorkerTask(3, 0, 5),
+                        new Message("Swapped 2 and 1 ✓", Message.MessageType.SUCCESS),
+                        new Validate(),
+                        new Complete()
+                ),
+                3,
+                -1,
+                true
+        );
+
+        byte[] data = SnapshotCodec.encode(snapshot, null);
+        var decoded = SnapshotCodec.decode(data, null);
+
+        assertTrue(SnapshotCodec.isKeyframe(data));
+        assertSnapshotEquals(snapshot, decoded);
+    }
+
+    @Test
+    void deltaOnlyHoldsChangedValues() {
+        var next = new HistorySnapshot(new int[]{5, 8, -3, 1000000, 0}, new int[0], List.of(new Swap(1, 2)), 2, 1, false);
+
+        byte[] delta = SnapshotCodec.encode(next, BASE);
+        byte[] keyframe = SnapshotCodec.encode(next, null);
+
+        assertFalse(SnapshotCodec.isKeyframe(delta));
+        assertTrue(delta.length < keyframe.length);
+        assertSnapshotEquals(next, SnapshotCodec.decode(delta, BASE));
+    }
+
+    @Test
+    void deltaWithoutPreviousIsRejected() {
+        var next = new HistorySnapshot(BASE.values().clone(), new int[0], List.of(), 1, -1, false);
+        byte[] delta = SnapshotCodec.encode(next, BASE);
+
+        assertThrows(IllegalArgumentException.class, () -> SnapshotCodec.decode(delta, null));
+    }
+
+    @Test
+    void sizeChangeFallsBackToKeyframe() {
+        var bigger = new HistorySnapshot(new int[]{1, 2, 3, 4, 5, 6}, new int[0], List.of(), 0, -1, false);
+
+        assertTrue(SnapshotCodec.isKeyframe(SnapshotCodec.encode(bigger, BASE)));
+    }
+
+    @Test
+    void countsRoundTripAndCostNothingWhenZero() {
+        var counts = new OperationCounts(12, 5, 1L << 40, 10, 3);
+        var counted = new HistorySnapshot(BASE.values(), new int[0], List.of(), 1, -1, false, counts);
+
+        assertEquals(counts, SnapshotCodec.decode(SnapshotCodec.encode(counted, null), null).counts());
+        assertEquals(counts, SnapshotCodec.decode(SnapshotCodec.encode(counted, BASE), BASE).counts());
+        assertEquals(OperationCounts.ZERO, SnapshotCodec.decode(SnapshotCodec.encode(BASE, null), null).counts());
+        assertTrue(SnapshotCodec.encode(BASE, null).length < SnapshotCodec.encode(counted, null).length);
+    }
+
+    private static void assertSnapshotEquals(HistorySnapshot expected, HistorySnapshot actual) {
+        assertArrayEquals(expected.values(), actual.values());
+        assertArrayEquals(expected.highlights(), actual.highlights());
+        assertEquals(expected.events(), actual.events());
+        assertEquals(expected.currentIndex(), actual.currentIndex());
+        assertEquals(expected.compareIndex(), actual.compareIndex());
+        assertEquals(expected.completed(), actual.completed());
+        assertEquals(expected.counts(), actual.counts());
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.mcalgovisualizations.visualization.history;
+
+import io.github.mcalgovisualizations.visualization.HistorySnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpillFileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void framesReadBackInAnyOrder() throws IOException {
+        try (var spill = SpillFile.open(dir, "session")) {
+            for (int i = 0; i < 100; i++) {
+                byte[] frame = new byte[i + 1];
+                Arrays.fill(frame, (byte) i);
+                assertEquals(i, spill.append(frame));
+            }
+
+            for (int i = 99; i >= 0; i--) {
+                byte[] frame = spill.read(i);
+                assertEquals(i + 1, frame.length);
+                assertEquals((byte) i, frame[i]);
+            }
+        }
+    }
+
+    @Test
+    void framesNeverStraddleRegions() throws IOException {
+        try (var spill = SpillFile.open(dir, "session")) {
+            byte[] big = new byte[SpillFile.REGION_SIZE - 10];
+            big[big.length - 1] = 7;
+            spill.append(big);
+            spill.append(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+            byte[] huge = new byte[SpillFile.REGION_SIZE + 1];
+            huge[0] = 9;
+            spill.append(huge);
+
+            assertEquals(7, spill.read(0)[big.length - 1]);
+            assertEquals(12, spill.read(1)[11]);
+            assertEquals(9, spill.read(2)[0]);
+            assertEquals(3L * SpillFile.REGION_SIZE + 1, spill.fileSize());
+        }
+    }
+
+    @Test
+    void closeDeletesFile() throws IOException {
+        var spill = SpillFile.open(dir, "session");
+        spill.append(new byte[]{1});
+        assertTrue(Files.exists(spill.path()));
+
+        spill.close();
+
+        assertFalse(Files.exists(spill.path()));
+        assertThrows(IllegalStateException.class, () -> spill.read(0));
+    }
+
+    @Test
+    void evictedSessionFramesArePagedBackIn() throws IOException {
+        var history = new SessionHistory(4, 8, SpillFile.open(dir, "session"));
+        for (int step = 0; step < 40; step++) {
+            int[] values = {step, step + 1, step + 2};
+            history.append(new HistorySnapshot(
+                    values, new int[0], List.of(), step, -1, false));
+        }
+
+        assertEquals(36, history.firstIndex());
+        assertEquals(36, history.spilledFrames());
+        for (int step = 0; step < 40; step++) {
+            assertArrayEquals(new int[]{step, step + 1, step + 2}, history.get(step).values(), "step " + step);
+        }
+
+        history.clear();
+        assertNull(history.get(0));
+    }
+
+    @Test
+    void coldKeyframesArePagedBackIn() {
+        int n = 200_000;
+        var history = new StepHistory(1, dir);
+        for (int step = 0; step < 12; step++) {
+            int[] values = new int[n];
+            Arrays.fill(values, step);
+            history.append(new HistorySnapshot(
+                    values, new int[0], List.of(), step, -1, false));
+        }
+
+        assertTrue(history.spilledKeyframes() > 0);
+        for (int step = 0; step < 12; step++) {
+            assertEquals(step, history.get(step).values()[n - 1]);
+        }
+        history.close();
+    }
+}
@@ -0,0 +1,154 @@
+package io.github.mcalgovisualizations.visualization.history;
+
+import io.github.mcalgovisualizations.visualization.HistorySnapshot;
+import io.github.mcalgovisualizations.visualization.algorithms.OperationCounter;
+import io.github.mcalgovisualizations.visualization.algorithms.OperationCounts;
+import io.github.mcalgovisualizations.visualization.algorithms.events.AlgorithmEvent;
+import io.github.mcalgovisualizations.visualization.algorithms.events.EventBuffer;
+import io.github.mcalgovisualizations.visualization.algorithms.events.Swap;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StepHistoryTest {
+
+    @Test
+    void constructorRejectsNonPositiveInterval() {
+        var ex = assertThrows(IllegalArgumentException.class, () -> new StepHistory(0));
+        assertEquals("keyframeInterval must be > 0", ex.getMessage());
+    }
+
+    @Test
+    void getRebuildsEveryStepFromNearestKeyframe() {
+        var history = new StepHistory(4);
+        var random = new Random(42L);
+        int[] values = {0, 1, 2, 3, 4, 5, 6, 7};
+        List<int[]> expected = new ArrayList<>();
+
+        for (int step = 0; step < 50; step++) {
+            List<AlgorithmEvent> events = new ArrayList<>();
+            if (step > 0) {
+                int x = random.nextInt(values.length);
+                int y = random.nextInt(values.length);
+                int tmp = values[x];
+                values[x] = values[y];
+                values[y] = tmp;
+                events.add(new Swap(x, y));
+            }
+            expected.add(values.clone());
+            history.append(new HistorySnapshot(values.clone(), new int[0], List.copyOf(events), step, -1, false));
+        }
+
+        assertEquals(50, history.size());
+        for (int step = 0; step < 50; step++) {
+            var snapshot = history.get(step);
+            assertArrayEquals(expected.get(step), snapshot.values(), "values at step " + step);
+            assertEquals(step, snapshot.currentIndex());
+        }
+    }
+
+    @Test
+    void getReturnsIndependentCopies() {
+        var history = new StepHistory(2);
+        history.append(new HistorySnapshot(new int[]{1, 2}, new int[0], List.of(), 0, -1, false));
+
+        history.get(0).values()[0] = 99;
+
+        assertArrayEquals(new int[]{1, 2}, history.get(0).values());
+    }
+
+    @Test
+    void getRejectsOutOfRange() {
+        var history = new StepHistory();
+        assertThrows(IndexOutOfBoundsException.class, () -> history.get(0));
+    }
+
+    @Test
+    void keepsOperationCountsOfEveryStep() {
+        var history = new StepHistory(4);
+        var counter = new OperationCounter();
+        var events = new EventBuffer();
+        int[] values = {1, 2};
+
+        history.append(values, events, new int[0], 0, 0, -1, false, counter);
+        long bytesWithoutCounts = history.heapBytes();
+        for (int step = 1; step < 10; step++) {
+            counter.compare(1);
+            counter.read(2);
+            if (step % 3 == 0) counter.queue(1);
+            history.append(values, events, new int[0], 0, 0, -1, false, counter);
+        }
+
+        assertEquals(OperationCounts.ZERO, history.get(0).counts());
+        assertEquals(new OperationCounts(7, 0, 14, 0, 2), history.get(7).counts());
+        assertEquals(history.counts(9), history.get(9).counts());
+        assertTrue(history.heapBytes() > bytesWithoutCounts);
+
+        // A reused history must not show the counts of the previous run
+        history.clear();
+        counter.reset();
+        history.append(values, events, new int[0], 0, 0, -1, false, counter);
+        assertEquals(OperationCounts.ZERO, history.get(0).counts());
+    }
+
+    @Test
+    void rebuildsCountsFromKeyframesAndIncrements() {
+        var history = new StepHistory(32);
+        var counter = new OperationCounter();
+        var events = new EventBuffer();
+        var random = new Random(7L);
+        int[] values = {1, 2};
+        List<OperationCounts> expected = new ArrayList<>();
+
+        // Nothing counted for a while, then steps with small and very large increments
+        for (int step = 0; step < 1000; step++) {
+            if (step >= 40) {
+                counter.compare(random.nextInt(3));
+                counter.swap(random.nextInt(2));
+                counter.read(step % 97 == 0 ? 1L << 40 : random.nextInt(300));
+                counter.write(random.nextInt(2));
+            }
+            expected.add(counter.snapshot());
+            history.append(values, events, new int[0], 0, 0, -1, false, counter);
+        }
+
+        for (int step = 0; step < 1000; step++) {
+            assertEquals(expected.get(step), history.counts(step), "counts at step " + step);
+        }
+
+        var uncounted = new StepHistory(32);
+        for (int step = 0; step < 1000; step++) {
+            uncounted.append(values, events, new int[0], 0, 0, -1, false, new OperationCounter());
+        }
+        // Far below the five longs per step a full copy would take
+        assertTrue(history.heapBytes() - uncounted.heapBytes() < 10 * 1000);
+    }
+
+    @Test
+    void keepsTheCountsOfAppendedSnapshots() {
+        var history = new StepHistory(4);
+        for (int step = 0; step < 10; step++) {
+            var counts = new OperationCounts(step, step / 2, 3L * step, 0, step % 3 == 0 ? step : 0);
+            history.append(new HistorySnapshot(new int[]{1, 2}, new int[0], List.of(), 0, -1, false, counts));
+        }
+
+        for (int step = 0; step < 10; step++) {
+            var expected = new OperationCounts(step, step / 2, 3L * step, 0, step % 3 == 0 ? step : 0);
+            assertEquals(expected, history.counts(step), "counts at step " + step);
+            assertEquals(expected, history.get(step).counts());
+        }
+    }
+
+    @Test
+    void clearEmptiesHistory() {
+        var history = new StepHistory();
+        history.append(new HistorySnapshot(new int[]{1}, new int[0], List.of(), 0, -1, false));
+        history.clear();
+
+        assertTrue(history.isEmpty());
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.mcalgovisualizations.visualization.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsrGraphTest {
+
+    @Test
+    void builderGroupsEdgesBySourceInInsertionOrder() {
+        var graph = CsrGraph.builder(4)
+                .addEdge(2, 0)
+                .addUndirectedEdge(0, 1)
+                .addEdge(2, 3)
+                .addEdge(0, 3)
+                .build();
+
+        assertEquals(4, graph.size());
+        assertEquals(5, graph.edgeCount());
+        assertArrayEquals(new int[]{1, 3}, graph.neighbors(0));
+        assertArrayEquals(new int[]{0}, graph.neighbors(1));
+        assertArrayEquals(new int[]{0, 3}, graph.neighbors(2));
+        assertEquals(0, graph.degree(3));
+        assertFalse(graph.isWeighted());
+        assertEquals(1f, graph.weight(0));
+    }
+
+    @Test
+    void weightsFollowTheirEdges() {
+        var graph = CsrGraph.builder(3)
+                .addEdge(1, 2)
+                .addEdge(0, 1, 2.5f)
+                .addEdge(1, 0, 0.5f)
+                .build();
+
+        assertTrue(graph.isWeighted());
+        assertEquals(2.5f, graph.weight(graph.firstEdge(0)));
+        assertEquals(1f, graph.weight(graph.firstEdge(1)));
+        assertEquals(0.5f, graph.weight(graph.firstEdge(1) + 1));
+    }
+
+    @Test
+    void fromAdjacencyMatchesGraph() {
+        var adjacency = Graph.randomConnectedUndirected(50, 40, new Random(1));
+        var csr = adjacency.toCsr();
+
+        assertEquals(adjacency.size(), csr.size());
+        for (int v = 0; v < csr.size(); v++) {
+            assertArrayEquals(adjacency.neighbors(v), csr.neighbors(v));
+
+            List<Integer> visited = new ArrayList<>();
+            csr.forEachNeighbor(v, visited::add);
+            assertEquals(csr.degree(v), visited.size());
+        }
+    }
+
+    @Test
+    void invalidArraysAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new CsrGraph(new int[]{0, 2}, new int[]{0}, null));
+        assertThrows(IllegalArgumentException.class, () -> new CsrGraph(new int[]{0, 1}, new int[]{1}, null));
+        assertThrows(IllegalArgumentException.class, () -> new CsrGraph(new int[]{0, 1}, new int[]{0}, new float[2]));
+        assertThrows(IndexOutOfBoundsException.class, () -> CsrGraph.builder(2).addEdge(0, 2));
+    }
+
+    @Test
+    void millionEdgesFitInAFewMegabytesAndIterateWithoutAllocating() {
+        final int vertices = 100_000;
+        var random = new Random(5);
+        var builder = CsrGraph.builder(vertices);
+        for (int i = 0; i < 500_000; i++) {
+            builder.addUndirectedEdge(random.nextInt(vertices), random.nextInt(vertices));
+        }
+        var graph = builder.build();
+
+        assertEquals(1_000_000, graph.edgeCount());
+        assertTrue(graph.heapBytes() < 5L * 1024 * 1024, graph.heapBytes() + " bytes");
+
+        // Warm up, then measure a full sweep over every edge
+        long sum = sweep(graph);
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        sum += sweep(graph);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(sum > 0);
+        assertTrue(allocated < 1024, allocated + " bytes allocated");
+    }
+
+    private static long sweep(CsrGraph graph) {
+        long sum = 0;
+        for (int v = 0; v < graph.size(); v++) {
+            for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                sum += graph.target(e);
+            }
+        }
+        return sum;
+    }
+}
@@ -67,17 +67,17 @@ class IntListTest {
     }
 
     @Test
-    void toArrayCurrentlyReturnsBackingArrayReference() {
+    void toArrayReturnsDefensiveCopy() {
         int[] a = {1, 2, 3};
         IntList list = new IntList(a);
 
-        // Current implementation returns the same reference (NOT a defensive copy)
-        assertSame(a, list.toArray());
+        assertNotSame(a, list.toArray());
+        assertArrayEquals(a, list.toArray());
 
-        // Demonstrate mutability leak:
+        // Mutating the copy must not leak into the list
         int[] exposed = list.toArray();
         exposed[0] = 42;
-        assertEquals(42, list.get(0));
+        assertEquals(1, list.get(0));
     }
 
     @Test
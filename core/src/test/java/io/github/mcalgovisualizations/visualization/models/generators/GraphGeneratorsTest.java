@@ -0,0 +1,188 @@
+package io.github.mcalgovisualizations.visualization.models.generators;
+
+import io.github.mcalgovisualizations.visualization.models.CsrGraph;
+import io.github.mcalgovisualizations.visualization.models.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GraphGeneratorsTest {
+
+    /** No self-loops, no parallel edges, and every edge stored in both directions. */
+    private static void assertSimpleUndirected(CsrGraph graph) {
+        final var seen = new LongHashSet(graph.edgeCount());
+        for (int v = 0; v < graph.size(); v++) {
+            for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                final int w = graph.target(e);
+                assertNotEquals(v, w, "self-loop at " + v);
+                assertTrue(seen.add(((long) v << 32) | w), "parallel edge " + v + " -> " + w);
+            }
+        }
+        for (int v = 0; v < graph.size(); v++) {
+            for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                assertTrue(seen.contains(((long) graph.target(e) << 32) | v), "edge " + v + " has no reverse");
+            }
+        }
+    }
+
+    private static boolean isConnected(CsrGraph graph) {
+        final boolean[] visited = new boolean[graph.size()];
+        final var queue = new ArrayDeque<Integer>();
+        visited[0] = true;
+        queue.add(0);
+        int reached = 1;
+        while (!queue.isEmpty()) {
+            final int v = queue.poll();
+            for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                final int w = graph.target(e);
+                if (!visited[w]) {
+                    visited[w] = true;
+                    reached++;
+                    queue.add(w);
+                }
+            }
+        }
+        return reached == graph.size();
+    }
+
+    private static void assertSameGraph(CsrGraph expected, CsrGraph actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int v = 0; v < expected.size(); v++) {
+            assertArrayEquals(expected.neighbors(v), actual.neighbors(v));
+        }
+    }
+
+    @Test
+    void erdosRenyiHasExactlyTheRequestedEdges() {
+        var graph = GraphGenerators.erdosRenyi(1_000, 5_000, 1);
+
+        assertEquals(1_000, graph.size());
+        assertEquals(10_000, graph.edgeCount());
+        assertSimpleUndirected(graph);
+    }
+
+    @Test
+    void erdosRenyiCanBeComplete() {
+        var graph = GraphGenerators.erdosRenyi(10, 45, 3);
+
+        for (int v = 0; v < 10; v++) assertEquals(9, graph.degree(v));
+        assertThrows(IllegalArgumentException.class, () -> GraphGenerators.erdosRenyi(10, 46, 3));
+    }
+
+    @Test
+    void gridJoinsHorizontalAndVerticalNeighbors() {
+        var graph = GraphGenerators.grid(3, 4);
+
+        assertEquals(12, graph.size());
+        assertEquals(2 * (3 * 3 + 4 * 2), graph.edgeCount());
+        assertArrayEquals(new int[]{1, 4}, graph.neighbors(0));
+        assertArrayEquals(new int[]{1, 4, 6, 9}, graph.neighbors(5));
+        assertEquals(2, graph.degree(11));
+        assertSimpleUndirected(graph);
+    }
+
+    @Test
+    void barabasiAlbertAddsEdgesPerVertexAfterTheSeedClique() {
+        int vertices = 2_000;
+        int m = 3;
+        var graph = GraphGenerators.barabasiAlbert(vertices, m, 7);
+
+        assertEquals(2 * (m * (m + 1) / 2 + (vertices - m - 1) * m), graph.edgeCount());
+        for (int v = 0; v < vertices; v++) assertTrue(graph.degree(v) >= m);
+        assertSimpleUndirected(graph);
+        assertTrue(isConnected(graph));
+
+        // Preferential attachment grows hubs well above the average degree
+        int maxDegree = 0;
+        for (int v = 0; v < vertices; v++) maxDegree = Math.max(maxDegree, graph.degree(v));
+        assertTrue(maxDegree > 10 * m, "max degree " + maxDegree);
+    }
+
+    @Test
+    void randomGeometricJoinsExactlyThePointsWithinRadius() {
+        int vertices = 500;
+        double radius = 0.08;
+        long seed = 11;
+        var graph = GraphGenerators.randomGeometric(vertices, radius, seed);
+
+        // Same points as the generator draws
+        var random = new SplittableRandom(seed);
+        double[] x = new double[vertices];
+        double[] y = new double[vertices];
+        for (int v = 0; v < vertices; v++) {
+            x[v] = random.nextDouble();
+            y[v] = random.nextDouble();
+        }
+
+        int expected = 0;
+        for (int a = 0; a < vertices; a++) {
+            for (int b = a + 1; b < vertices; b++) {
+                double dx = x[a] - x[b];
+                double dy = y[a] - y[b];
+                if (dx * dx + dy * dy <= radius * radius) expected++;
+            }
+        }
+        assertEquals(2 * expected, graph.edgeCount());
+        for (int a = 0; a < vertices; a++) {
+            for (int e = graph.firstEdge(a); e < graph.endEdge(a); e++) {
+                int b = graph.target(e);
+                assertTrue(Math.hypot(x[a] - x[b], y[a] - y[b]) <= radius + 1e-12);
+            }
+        }
+        assertSimpleUndirected(graph);
+    }
+
+    @Test
+    void sameSeedGivesSameGraph() {
+        assertSameGraph(GraphGenerators.erdosRenyi(500, 2_000, 5), GraphGenerators.erdosRenyi(500, 2_000, 5));
+        assertSameGraph(GraphGenerators.barabasiAlbert(500, 2, 5), GraphGenerators.barabasiAlbert(500, 2, 5));
+        assertSameGraph(GraphGenerators.randomGeometric(500, 0.1, 5), GraphGenerators.randomGeometric(500, 0.1, 5));
+        assertSameGraph(
+                GraphGenerators.randomConnected(500, 300, new Random(5)),
+                GraphGenerators.randomConnected(500, 300, new Random(5)));
+    }
+
+    @Test
+    void randomConnectedIsConnectedAndSimple() {
+        for (long seed = 0; seed < 20; seed++) {
+            var graph = GraphGenerators.randomConnected(200, 400, new Random(seed));
+
+            assertTrue(graph.edgeCount() >= 2 * 199);
+            assertTrue(isConnected(graph));
+            assertSimpleUndirected(graph);
+        }
+    }
+
+    @Test
+    void graphRandomConnectedUndirectedMatchesGenerator() {
+        var graph = Graph.randomConnectedUndirected(50, 30, new Random(9));
+        var csr = GraphGenerators.randomConnected(50, 30, new Random(9));
+
+        assertSameGraph(csr, graph.toCsr());
+    }
+
+    @Test
+    void millionVertexGraphsBuild() {
+        var er = GraphGenerators.erdosRenyi(1_000_000, 2_000_000, 1);
+        assertEquals(4_000_000, er.edgeCount());
+
+        var grid = GraphGenerators.grid(1_000, 1_000);
+        assertEquals(1_000_000, grid.size());
+
+        var ba = GraphGenerators.barabasiAlbert(1_000_000, 2, 1);
+        assertEquals(1_000_000, ba.size());
+    }
+
+    @Test
+    void rejectsInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> GraphGenerators.erdosRenyi(0, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> GraphGenerators.erdosRenyi(10, -1, 1));
+        assertThrows(IllegalArgumentException.class, () -> GraphGenerators.grid(0, 3));
+        assertThrows(IllegalArgumentException.class, () -> GraphGenerators.barabasiAlbert(5, 5, 1));
+        assertThrows(IllegalArgumentException.class, () -> GraphGenerators.randomGeometric(5, 0, 1));
+    }
+}
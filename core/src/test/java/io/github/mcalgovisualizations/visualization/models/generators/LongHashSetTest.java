@@ -0,0 +1,36 @@
+package io.github.mcalgovisualizations.visualization.models.generators;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongHashSetTest {
+
+    @Test
+    void addReportsWhetherTheKeyWasNew() {
+        var set = new LongHashSet(4);
+
+        assertTrue(set.add(GraphGenerators.key(3, 7)));
+        assertFalse(set.add(GraphGenerators.key(7, 3)));
+        assertTrue(set.contains(GraphGenerators.key(3, 7)));
+        assertFalse(set.contains(GraphGenerators.key(3, 8)));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void growsPastItsInitialCapacityAndMatchesHashSet() {
+        var set = new LongHashSet(4);
+        var expected = new HashSet<Long>();
+        var random = new SplittableRandom(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            long key = GraphGenerators.key(random.nextInt(1_000), random.nextInt(1_000));
+            assertEquals(expected.add(key), set.add(key));
+        }
+        assertEquals(expected.size(), set.size());
+        for (long key : expected) assertTrue(set.contains(key));
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.mcalgovisualizations.visualization.session;
+
+import io.github.mcalgovisualizations.visualization.HistorySnapshot;
+import io.github.mcalgovisualizations.visualization.algorithms.events.Swap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private static SessionState state() {
+        var snapshot = new HistorySnapshot(new int[]{1, 3, 2}, new int[]{1}, List.of(new Swap(1, 2)), 2, 1, false);
+        return new SessionState("insertionsort", new int[]{3, 2, 1}, 4, 10, "linear", snapshot);
+    }
+
+    @Test
+    void savedStateRoundTrips() throws IOException {
+        var store = new SessionStore(dir);
+        var player = UUID.randomUUID();
+
+        store.save(player, state());
+        var restored = store.take(player);
+
+        assertNotNull(restored);
+        assertEquals("insertionsort", restored.key());
+        assertArrayEquals(new int[]{3, 2, 1}, restored.input());
+        assertEquals(4, restored.step());
+        assertEquals(10, restored.ticksPerStep());
+        assertEquals("linear", restored.layout());
+        assertNotNull(restored.snapshot());
+        assertArrayEquals(new int[]{1, 3, 2}, restored.snapshot().values());
+        assertEquals(List.of(new Swap(1, 2)), restored.snapshot().events());
+    }
+
+    @Test
+    void takeConsumesTheState() throws IOException {
+        var store = new SessionStore(dir);
+        var player = UUID.randomUUID();
+
+        store.save(player, state());
+
+        assertNotNull(store.take(player));
+        assertNull(store.take(player));
+    }
+
+    @Test
+    void corruptStateIsDiscarded() throws IOException {
+        var store = new SessionStore(dir);
+        var player = UUID.randomUUID();
+        Files.write(dir.resolve(player + ".session"), new byte[]{0, 0, 0, 1, 0});
+
+        assertNull(store.take(player));
+        assertFalse(Files.exists(dir.resolve(player + ".session")));
+    }
+
+    @Test
+    void stateWithoutSnapshotIsSmall() {
+        var state = new SessionState("insertionsort", new int[10], 0, 20, "linear", null);
+
+        assertTrue(state.encode().length < 128);
+    }
+}
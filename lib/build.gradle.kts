@@ -16,6 +16,9 @@ dependencies {
     // Minestom available to lib tests
     testImplementation("net.minestom:minestom:2026.01.08-1.21.11")
 
+    // Headless engine core, re-exported to consumers
+    api(project(":core"))
+
     // Library deps
     api(libs.commons.math3)
     implementation(libs.guava)
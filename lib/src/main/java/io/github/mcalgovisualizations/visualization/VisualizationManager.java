@@ -1,24 +1,35 @@
 package io.github.mcalgovisualizations.visualization;
 
+import io.github.mcalgovisualizations.visualization.algorithms.AlgorithmCatalog;
 import io.github.mcalgovisualizations.visualization.algorithms.IAlgorithmStepper;
-import io.github.mcalgovisualizations.visualization.algorithms.StepperFactory;
+import io.github.mcalgovisualizations.visualization.algorithms.TraceStepper;
 import io.github.mcalgovisualizations.visualization.algorithms.events.Message;
+import io.github.mcalgovisualizations.visualization.engine.Playback;
+import io.github.mcalgovisualizations.visualization.engine.Race;
+import io.github.mcalgovisualizations.visualization.engine.RaceController;
 import io.github.mcalgovisualizations.visualization.engine.VisualizationController;
 import io.github.mcalgovisualizations.visualization.layouts.CircleLayout;
 import io.github.mcalgovisualizations.visualization.layouts.FloatingLinearLayout;
 import io.github.mcalgovisualizations.visualization.layouts.Layout;
 import io.github.mcalgovisualizations.visualization.models.DataModel;
 import io.github.mcalgovisualizations.visualization.models.IntList;
+import io.github.mcalgovisualizations.visualization.layouts.MatrixLayout;
 import io.github.mcalgovisualizations.visualization.refactor.Visualization;
+import io.github.mcalgovisualizations.visualization.renderer.SessionViewers;
 import io.github.mcalgovisualizations.visualization.renderer.VisualizationRenderer;
 import io.github.mcalgovisualizations.visualization.renderer.dispatch.Dispatcher;
+import io.github.mcalgovisualizations.visualization.session.SessionState;
+import io.github.mcalgovisualizations.visualization.session.SessionStore;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.entity.Player;
 import net.minestom.server.instance.InstanceContainer;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -27,6 +38,10 @@ import java.util.UUID;
  * Each player can have their own active visualization instance.
  */
 public class VisualizationManager {
+    /** Record each run up front on a virtual thread and play it back from the trace. */
+    private static final boolean TRACE_MODE =
+            Boolean.parseBoolean(System.getProperty("visualization.trace", "true"));
+
     private static final Map<String, Pos> areaLocations = new HashMap<>();
     private static final Map<String, Class<? extends Visualization>> visualizations = new HashMap<>();
     private static final Map<UUID, Visualization> playerVisualizations = new HashMap<>();
@@ -34,6 +49,20 @@ public class VisualizationManager {
     private static final Map<String, Class<? extends IAlgorithmStepper>> steppers = new HashMap<>();
     private static final Map<UUID, VisualizationController> playerSteppers = new HashMap<>();
 
+    // What each player's controller was built from, needed to save the session
+    private record Assignment(String type, String layout) {}
+    private static final Map<UUID, Assignment> playerAssignments = new HashMap<>();
+
+    private static final Map<UUID, RaceController> playerRaces = new HashMap<>();
+    // Who sees each player's visualizations, kept while the player is online
+    private static final Map<UUID, SessionViewers> playerViewers = new HashMap<>();
+    private static final List<String> DEFAULT_RACE = List.of("insertionsort", "bubblesort", "mergesort", "quicksort");
+    /** Blocks between the lanes of a race, along z. */
+    private static final int LANE_SPACING = 4;
+
+    private static final String DEFAULT_LAYOUT = "linear";
+    private static final SessionStore sessions = new SessionStore(SessionStore.DEFAULT_DIRECTORY);
+
     static {
         // Define area locations for different visualization types
         areaLocations.put("sorting", new Pos(5, 42, 5));
@@ -51,24 +80,124 @@ public class VisualizationManager {
      * @param instance The game instance
      */
     public static void assignVisualization(Player player, String type, InstanceContainer instance) {
+        if (type.equalsIgnoreCase("race")) {
+            assignRace(player, DEFAULT_RACE, instance);
+            return;
+        }
+
         // Clean up existing visualization
         removeVisualization(player);
 
         // TODO : Let players control Layout and model's size n!
         final DataModel model = createModelFor(type, player, 10);
-        final IAlgorithmStepper stepper = StepperFactory.create(type, model);
+        final var controller = createController(type, DEFAULT_LAYOUT, model, instance, viewersOf(player));
+
+        controller.onStart();
 
-        Layout layout = new FloatingLinearLayout();
+        playerSteppers.put(player.getUuid(), controller);
+        playerAssignments.put(player.getUuid(), new Assignment(type, DEFAULT_LAYOUT));
+    }
+
+    /**
+     * Assigns a race between {@code algorithms}, each in its own lane next to
+     * the previous one, all sorting the same values.
+     *
+     * @param algorithms stepper keys, {@link Race#MIN_LANES} to {@link Race#MAX_LANES} of them
+     * @throws IllegalArgumentException if a key is unknown or the number of lanes is out of range
+     */
+    public static void assignRace(Player player, List<String> algorithms, InstanceContainer instance) {
+        if (algorithms.size() < Race.MIN_LANES || algorithms.size() > Race.MAX_LANES)
+            throw new IllegalArgumentException("a race needs " + Race.MIN_LANES + " to " + Race.MAX_LANES + " algorithms");
+        for (var key : algorithms) {
+            if (!AlgorithmCatalog.isRegistered(key)) throw new IllegalArgumentException("Unknown algorithm: " + key);
+        }
+
+        removeVisualization(player);
+
+        final var values = (IntList) createModelFor("sorting", player, 10);
+        final var lanes = new ArrayList<Race.Lane>(algorithms.size());
+        for (int i = 0; i < algorithms.size(); i++) {
+            final var key = algorithms.get(i);
+            // Live steppers, so no lane waits for a trace while the others move
+            final var stepper = AlgorithmCatalog.create(key, new IntList(values.toArray()));
+            final var origin = new Pos(0, 43, i * LANE_SPACING);
+            final var renderer = new VisualizationRenderer(instance, origin, layoutFor(DEFAULT_LAYOUT), new Dispatcher(), viewersOf(player));
+            lanes.add(new Race.Lane(key, new Playback(stepper, renderer)));
+        }
+
+        final var controller = new RaceController(new Race(lanes));
+        controller.onStart(values.toArray());
+        playerRaces.put(player.getUuid(), controller);
+    }
+
+    /**
+     * Puts back the visualization the player had when the server last shut down.
+     * The saved state is consumed, so this only ever restores once.
+     *
+     * @return whether a session was restored
+     */
+    public static boolean restoreVisualization(Player player, InstanceContainer instance) {
+        final SessionState state = sessions.take(player.getUuid());
+        if (state == null) return false;
+
+        removeVisualization(player);
+        try {
+            final var controller = createController(
+                    state.key(), state.layout(), new IntList(state.input()), instance, viewersOf(player));
+            controller.resume(state);
+
+            playerSteppers.put(player.getUuid(), controller);
+            playerAssignments.put(player.getUuid(), new Assignment(state.key(), state.layout()));
+            return true;
+        } catch (IllegalArgumentException e) {
+            System.err.println("Could not restore session of " + player.getUsername() + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Writes every active session to the world volume so it can be restored
+     * after a restart. Meant to run as a server shutdown task.
+     */
+    public static void saveSessions() {
+        for (var entry : playerSteppers.entrySet()) {
+            final var assignment = playerAssignments.get(entry.getKey());
+            if (assignment == null) continue;
+
+            try {
+                sessions.save(entry.getKey(), entry.getValue().saveState(assignment.type(), assignment.layout()));
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Failed to save session of " + entry.getKey() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private static VisualizationController createController(
+            String type,
+            String layoutName,
+            DataModel model,
+            InstanceContainer instance,
+            SessionViewers viewers
+    ) {
+        final IAlgorithmStepper stepper = TRACE_MODE && model instanceof IntList list
+                ? new TraceStepper(type, list)
+                : AlgorithmCatalog.create(type, model);
+
+        Layout layout = layoutFor(layoutName);
         var origin = new Pos(0, 43, 0);
 
         var dispatcher = new Dispatcher();
 
-        var renderer = new VisualizationRenderer(instance, origin, layout,  dispatcher);
-        var controller = new VisualizationController(stepper, renderer);
-
-        controller.onStart();
+        var renderer = new VisualizationRenderer(instance, origin, layout,  dispatcher, viewers);
+        return new VisualizationController(stepper, renderer);
+    }
 
-        playerSteppers.put(player.getUuid(), controller);
+    private static Layout layoutFor(String name) {
+        return switch (name) {
+            case "circle" -> new CircleLayout();
+            case "matrix" -> new MatrixLayout();
+            default -> new FloatingLinearLayout();
+        };
     }
 
     /**
@@ -81,6 +210,35 @@ public class VisualizationManager {
         return playerSteppers.get(player.getUuid());
     }
 
+    /**
+     * Get the race the player is watching.
+     *
+     * @return The race, or null if none assigned
+     */
+    public static RaceController getRace(Player player) {
+        return playerRaces.get(player.getUuid());
+    }
+
+    /**
+     * The players who see {@code owner}'s visualizations: the owner and the
+     * spectators they invited. Only these players are sent the display entities.
+     */
+    public static SessionViewers viewersOf(Player owner) {
+        return playerViewers.computeIfAbsent(owner.getUuid(), uuid -> new SessionViewers(owner));
+    }
+
+    /**
+     * Forgets a player who left: their visualization, their spectators, and
+     * the sessions they were spectating.
+     */
+    public static void onDisconnect(Player player) {
+        removeVisualization(player);
+        playerViewers.remove(player.getUuid());
+        for (var viewers : playerViewers.values()) {
+            viewers.removeSpectator(player);
+        }
+    }
+
     /**
      * Remove and cleanup the visualization for a player.
      *
@@ -88,9 +246,15 @@ public class VisualizationManager {
      */
     public static void removeVisualization(Player player) {
         VisualizationController vis = playerSteppers.remove(player.getUuid());
+        playerAssignments.remove(player.getUuid());
         if (vis != null) {
             vis.cleanup();
         }
+
+        RaceController race = playerRaces.remove(player.getUuid());
+        if (race != null) {
+            race.cleanup();
+        }
     }
 
     /**
@@ -105,20 +269,23 @@ public class VisualizationManager {
 
     // TODO : this can potentially take a parameter for the size of a list -> player can choose the size in hotbar?
     private static DataModel createModelFor(String type, Player player, int n) {
-        return switch (type.toLowerCase()) {
-            case "sorting", "insertionsort", "insertion" -> {
-                var out = new IntList(new int[n]);
+        // The catalog knows which model each algorithm works on
+        final var algorithm = AlgorithmCatalog.find(type);
+        final Class<?> modelType = algorithm != null ? algorithm.modelType()
+                : type.equalsIgnoreCase("sorting") ? IntList.class
+                : null;
 
-                for (int i = 0; i < out.length(); i++) {
-                    out.set(i, i);
-                }
-
-                yield out;
+        if (modelType == IntList.class) {
+            var out = new IntList(new int[n]);
 
+            for (int i = 0; i < out.length(); i++) {
+                out.set(i, i);
             }
-            // case "bfs" -> new Graph(...);  // if Graph implements DataModel
-            default -> new IntList(new int[10]); // or throw if unknown
-        };
+
+            return out;
+        }
+        // if (modelType == Graph.class) return new Graph(...);  // if Graph implements DataModel
+        return new IntList(new int[10]); // or throw if unknown
     }
 
 }
\ No newline at end of file
@@ -1,4 +0,0 @@
-package io.github.mcalgovisualizations.visualization.algorithms.events;
-
-public interface AlgorithmEvent {
-}
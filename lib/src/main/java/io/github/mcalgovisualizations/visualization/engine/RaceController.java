@@ -0,0 +1,92 @@
+package io.github.mcalgovisualizations.visualization.engine;
+
+import io.github.mcalgovisualizations.visualization.engine.TimingWheel.Timer;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.minestom.server.entity.Player;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Random;
+
+/**
+ * Plays a {@link Race} on the server. All lanes move from one scheduler timer,
+ * instead of one per lane, and the player is told as each lane finishes.
+ */
+public class RaceController {
+
+    private final Race race;
+    private final Random random = new Random();
+
+    private int ticksPerStep = 20;
+    private @Nullable Timer runningTimer = null;
+    private @Nullable Player audience = null;
+
+    public RaceController(Race race) {
+        this.race = race;
+    }
+
+    /** Starts every lane on the same shuffle of {@code values}. */
+    public void onStart(int[] values) {
+        race.start(Race.shuffled(values, random));
+    }
+
+    public void start(Player player) {
+        audience = player;
+        if (race.isFinished()) {
+            player.sendMessage(Component.text("Race complete! Use randomize to race again.", NamedTextColor.YELLOW));
+            return;
+        }
+        if (runningTimer != null) return;
+
+        runningTimer = VisualizationScheduler.schedule(ticksPerStep, true, this::step);
+    }
+
+    public void stop() {
+        if (runningTimer != null) {
+            runningTimer.cancel();
+            runningTimer = null;
+        }
+    }
+
+    /** Moves every lane one step and announces the lanes that just finished. */
+    public void step() {
+        race.tick();
+
+        for (int lane = 0; lane < race.lanes().size(); lane++) {
+            if (race.finishTick(lane) == race.ticks() && race.ticks() > 0) announce(lane);
+        }
+        if (race.isFinished()) stop();
+    }
+
+    public void randomize() {
+        stop();
+        race.randomize(random);
+    }
+
+    public void setSpeed(int ticksPerStep) {
+        this.ticksPerStep = Math.max(1, ticksPerStep);
+        if (runningTimer != null) runningTimer.setPeriod(this.ticksPerStep);
+    }
+
+    public Race race() {
+        return race;
+    }
+
+    public void cleanup() {
+        stop();
+        race.close();
+    }
+
+    private void announce(int lane) {
+        if (audience == null) return;
+
+        final int steps = race.finishTick(lane);
+        final double seconds = steps * ticksPerStep / 20.0;
+        audience.sendMessage(Component.text(
+                "#" + race.place(lane) + " " + race.lanes().get(lane).name()
+                        + " finished after " + steps + " steps (" + String.format("%.1f", seconds) + " s): "
+                        + race.counts(lane).summary(),
+                race.place(lane) == 1 ? NamedTextColor.GOLD : NamedTextColor.YELLOW
+        ));
+    }
+}
@@ -2,41 +2,57 @@ package io.github.mcalgovisualizations.visualization.engine;
 
 import io.github.mcalgovisualizations.visualization.HistorySnapshot;
 import io.github.mcalgovisualizations.visualization.algorithms.IAlgorithmStepper;
-import io.github.mcalgovisualizations.visualization.algorithms.sorting.AlgorithmStepper;
+import io.github.mcalgovisualizations.visualization.engine.TimingWheel.Timer;
 import io.github.mcalgovisualizations.visualization.renderer.VisualizationRenderer;
+import io.github.mcalgovisualizations.visualization.session.SessionState;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
-import net.minestom.server.MinecraftServer;
 import net.minestom.server.entity.Player;
-import net.minestom.server.timer.Task;
-
-import java.time.Duration;
+import org.jspecify.annotations.Nullable;
 
 /**
  * A controller of time so forwards, back, adjusting speed belongs here.
+ * <p>
+ * Moving through the run is done by a {@link Playback}; this class adds the
+ * server side of it: the timer on the {@link VisualizationScheduler} that plays
+ * it and feedback to the player.
  */
 public class VisualizationController {
 
-    private final IAlgorithmStepper stepper;
-    private final VisualizationRenderer renderer;
+    private final Playback playback;
 
     private int ticksPerStep = 20;
+    // Steps taken per scheduled run, > 1 while fast-forwarding
+    private int stepsPerRun = 1;
     private boolean IS_RUNNING = false;
-    private Task runningTask = null;
+    private @Nullable Timer runningTimer = null;
 
     public VisualizationController(IAlgorithmStepper stepper, VisualizationRenderer renderer) {
-        this.stepper = stepper;
-        this.renderer = renderer;
+        this.playback = new Playback(stepper, renderer);
     }
 
     public void onStart() {
-        renderer.onStart();
-        var snapshot = stepper.randomize();
-        renderer.render(snapshot);
+        playback.onStart();
+    }
+
+    /**
+     * Starts from a session saved before a restart instead of a fresh run.
+     * The scene is built straight at the saved step.
+     */
+    public void resume(SessionState state) {
+        playback.resume(state);
+        setSpeed(state.ticksPerStep());
+    }
+
+    /**
+     * Captures what {@link #resume(SessionState)} needs to continue this session later.
+     */
+    public SessionState saveState(String key, String layout) {
+        return playback.saveState(key, ticksPerStep, layout);
     }
 
     public void start(Player player) {
-        if (stepper.isDone()) {
+        if (playback.isDone()) {
             player.sendMessage(Component.text("Algorithm complete! Use randomize to restart.", NamedTextColor.YELLOW));
             return;
         }
@@ -44,63 +60,115 @@ public class VisualizationController {
         if(IS_RUNNING) return;
         IS_RUNNING = true;
 
-        runningTask = MinecraftServer.getSchedulerManager()
-                .buildTask(this::step)
-                .repeat(Duration.ofMillis(this.ticksPerStep * 50L))
-                .schedule();
+        runningTimer = VisualizationScheduler.schedule(ticksPerStep, true, this::step);
+    }
+
+    /**
+     * Plays the run {@code stepsPerTick} steps at a time, every tick. Each tick
+     * renders only the net change of its batch, see {@link #skip(int)}.
+     * Ticks lost to lag are not made up, the next batch is just played.
+     *
+     * @throws IllegalArgumentException if {@code stepsPerTick <= 0}
+     */
+    public void fastForward(Player player, int stepsPerTick) {
+        if (stepsPerTick <= 0) throw new IllegalArgumentException("stepsPerTick must be > 0");
+
+        if (playback.isDone()) {
+            player.sendMessage(Component.text("Algorithm complete! Use randomize to restart.", NamedTextColor.YELLOW));
+            return;
+        }
+
+        stop();
+        stepsPerRun = stepsPerTick;
+        IS_RUNNING = true;
+        runningTimer = VisualizationScheduler.schedule(1, false, this::step);
     }
 
     public void stop() {
         IS_RUNNING = false;
-        if(runningTask != null) {
-            runningTask.cancel();
-            runningTask = null;
+        stepsPerRun = 1;
+        if(runningTimer != null) {
+            runningTimer.cancel();
+            runningTimer = null;
         }
     }
 
     public void step() {
-        final var snapshot = (HistorySnapshot) stepper.step();
+        if (stepsPerRun > 1) {
+            skip(stepsPerRun);
+            return;
+        }
 
-        renderer.render(snapshot);
+        playback.step();
         // TODO : handle history with snapshots
     }
 
-    public void back() {
-        step();
-//        final var snapshot = (HistorySnapshot) stepper.back();
-//
-//        if(renderer.isIdle())
-//            renderer.render(snapshot);
+    /**
+     * Moves {@code n} steps forward with a single render, see {@link Playback#skip(int)}.
+     */
+    public void skip(int n) {
+        playback.skip(n);
+        if (playback.isDone()) stop();
+    }
 
-        // TODO : handle history with snapshots
+    /**
+     * Jumps straight to {@code stepIndex}, see {@link Playback#seek(int)}.
+     */
+    public void seek(int stepIndex) {
+        playback.seek(stepIndex);
+    }
+
+    /**
+     * Jumps to {@code percent} of the whole run, see {@link Playback#seekPercent(double)}.
+     *
+     * @return whether it moved, {@code false} while the length of the run is not known
+     * @throws IllegalArgumentException if {@code percent} is outside [0, 100]
+     */
+    public boolean seekPercent(double percent) {
+        return playback.seekPercent(percent);
+    }
+
+    public int position() {
+        return playback.position();
+    }
+
+    /**
+     * Steps back one step, see {@link Playback#back()}.
+     */
+    public void back() {
+        playback.back();
     }
 
     public void setSpeed(int ticksPerStep) {
         this.ticksPerStep = Math.max(1, ticksPerStep);
-        // If running, restart with new speed
-        if (IS_RUNNING) {
-            if (runningTask != null) {
-                runningTask.cancel();
-            }
-            runningTask = MinecraftServer.getSchedulerManager()
-                    .buildTask(this::step)
-                    .repeat(Duration.ofMillis(this.ticksPerStep * 50L))
-                    .schedule();
+        // If running, the timer keeps going at the new speed
+        if (IS_RUNNING && runningTimer != null) {
+            runningTimer.setPeriod(this.ticksPerStep);
         }
     }
 
+    /**
+     * The state most recently handed to the renderer, or {@code null} before {@link #onStart()}.
+     */
+    public @Nullable HistorySnapshot currentSnapshot() {
+        return playback.currentSnapshot();
+    }
+
+    /** The headless part of this session. */
+    public Playback playback() {
+        return playback;
+    }
+
     public void cleanup() {
         stop();
-        renderer.onCleanup();
+        playback.close();
     }
 
     public void randomize() {
         stop();
-        final var snapshot = stepper.randomize();
-        renderer.hardReset(snapshot);
+        playback.randomize();
 
         // TODO : handle history with snapshots
     }
 
 }
-
@@ -0,0 +1,63 @@
+package io.github.mcalgovisualizations.visualization.engine;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.timer.Task;
+import net.minestom.server.timer.TaskSchedule;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The one {@link TimingWheel} every session plays from. A single server task
+ * advances it once per tick, so sessions schedule and reschedule timers on the
+ * wheel instead of each owning Minestom tasks. The sessions' animation steps
+ * also share one {@link TickBudget} per tick.
+ */
+public final class VisualizationScheduler {
+    private VisualizationScheduler() {}
+
+    private static final long TICK_NANOS = 50_000_000L;
+    /** Most missed ticks replayed after a lag; anything older is dropped. */
+    private static final int MAX_CATCH_UP_TICKS = Integer.getInteger("visualization.scheduler.maxCatchUpTicks", 40);
+
+    /**
+     * Time all sessions together may spend applying animation steps in one
+     * tick; each still applies at least one step when it is due.
+     */
+    private static final long STEP_BUDGET_NANOS =
+            Long.getLong("visualization.executor.tickBudgetMicros", 5_000L) * 1_000L;
+
+    private static final TimingWheel WHEEL = new TimingWheel(TICK_NANOS, MAX_CATCH_UP_TICKS, System::nanoTime);
+    private static final TickBudget STEP_BUDGET = new TickBudget(STEP_BUDGET_NANOS, System::nanoTime);
+    private static @Nullable Task task = null;
+
+    /**
+     * Runs {@code action} on the next tick and then every {@code periodTicks}
+     * server ticks, see {@link TimingWheel#schedule(int, int, boolean, Runnable)}.
+     */
+    public static TimingWheel.Timer schedule(int periodTicks, boolean catchUp, Runnable action) {
+        ensureRunning();
+        return WHEEL.schedule(1, periodTicks, catchUp, action);
+    }
+
+    /** The wheel itself, for callers that schedule with their own first delay. */
+    public static TimingWheel wheel() {
+        ensureRunning();
+        return WHEEL;
+    }
+
+    public static TickBudget stepBudget() {
+        return STEP_BUDGET;
+    }
+
+    public static TimingWheel.Stats stats() {
+        return WHEEL.stats();
+    }
+
+    private static synchronized void ensureRunning() {
+        if (task != null) return;
+
+        task = MinecraftServer.getSchedulerManager()
+                .buildTask(WHEEL::advance)
+                .repeat(TaskSchedule.nextTick())
+                .schedule();
+    }
+}
@@ -183,6 +183,7 @@ public abstract class AbstractVisualization<T extends Comparable<T>> /* implemen
                     .buildTask(
                             () -> {
                                 displayVal.teleport(new net.minestom.server.coordinate.Pos(x, y, z));
+                                displayVal.flush();
                             }
                     )
                     .delay(Duration.ofMillis(100))
@@ -195,6 +196,7 @@ public abstract class AbstractVisualization<T extends Comparable<T>> /* implemen
     private void clearRenderState() {
         for (BlockDisplay value : values) {
             value.setHighlighted(false);
+            value.flush();
         }
     }
 
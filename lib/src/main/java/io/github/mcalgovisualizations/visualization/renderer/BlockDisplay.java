@@ -5,22 +5,64 @@ import net.kyori.adventure.text.format.NamedTextColor;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
-import net.minestom.server.entity.EntityType;
-import net.minestom.server.entity.metadata.display.AbstractDisplayMeta;
+import net.minestom.server.entity.Player;
 import net.minestom.server.entity.metadata.display.BlockDisplayMeta;
 import net.minestom.server.entity.metadata.display.TextDisplayMeta;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.block.Block;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A block with a floating label. Changes are only recorded until
+ * {@link #flush()}, which sends the viewers the difference from what they last
+ * saw: at most one metadata packet per entity, however many times the display
+ * changed in between.
+ * <p>
+ * The block entity never moves while in use. Moves and scaling change its
+ * transformation instead, a translation away from where it was placed, together
+ * with an interpolation duration, so the client animates the whole motion from
+ * that one packet. The label is billboarded, which would turn a translation
+ * with the camera, so it teleports with a matching position interpolation.
+ * <p>
+ * The entities are not auto-viewable: only players added with
+ * {@link #addViewer(Player)} see them. They come from the {@link DisplayPool}
+ * and go back to it on {@link #remove()}.
+ */
 public class BlockDisplay implements DisplayValue {
     private final Instance instance;
+    private final DisplayPool.Entities entities;
     private final Entity blockEntity;
     private final Entity textEntity;
 
     private static final Vec TEXT_OFFSET = new Vec(1, 2.4, 1);
+    private static final double BLOCK_SIZE = 2.0;
+    private static final double TEXT_SIZE = 4.0;
+    /** Client ticks a plain {@link #teleport(Pos)} takes to slide to its target. */
+    public static final int MOVE_TICKS = 5;
 
+    // Where the block entity was placed; positions are sent relative to it
+    private Pos anchor;
     private Pos pos;
+    private double scale = 1.0;
+    private int transformTicks = MOVE_TICKS;
     private Block currentBlock;
+    private Component text;
+    private boolean glowing = false;
+
+    // What the viewers were last sent
+    private Pos sentPos;
+    private double sentScale = 1.0;
+    private Block sentBlock;
+    private Component sentText;
+    private boolean sentGlowing = false;
+
+    // Players shown the entities, kept to add them once the entities are placed
+    private final Set<Player> viewers = new LinkedHashSet<>();
+    private boolean placed = false;
+    private boolean released = false;
 
     public BlockDisplay(Instance instance, Pos pos, Block block, String text) {
         if (block == null) throw new NullPointerException("block cannot be null");
@@ -29,84 +71,191 @@ public class BlockDisplay implements DisplayValue {
 
         this.instance = instance;
 
-        this.blockEntity = new Entity(EntityType.BLOCK_DISPLAY);
-        this.textEntity = new Entity(EntityType.TEXT_DISPLAY);
+        this.entities = DisplayPool.borrow(instance);
+        this.blockEntity = entities.block();
+        this.textEntity = entities.text();
 
+        this.anchor = pos;
         this.pos = pos;
         this.currentBlock = block;
-
-
-        setupBlock(block);
-        setupText(text);
-
-        // TODO : add such its only a specific client that receives the packets
-
-        // blockEntity.addViewer(Player player);
-
-        // IMPORTANT: do NOT teleport here if your spawn positioning is scheduled after setInstance()
-        // teleport(pos);
+        this.text = Component.text(text, NamedTextColor.GOLD);
+        this.sentPos = pos;
+        this.sentBlock = block;
+        this.sentText = this.text;
     }
 
     public Pos getPos() {
         return pos;
     }
 
-    private void setupBlock(Block block) {
-        var meta = (BlockDisplayMeta) blockEntity.getEntityMeta();
+    /** Sets what the pool reset, as one metadata packet per entity. */
+    private void setup() {
+        final var blockMeta = (BlockDisplayMeta) blockEntity.getEntityMeta();
+        final var textMeta = (TextDisplayMeta) textEntity.getEntityMeta();
 
-        meta.setBlockState(block);
-        meta.setHasNoGravity(true);
-        meta.setPosRotInterpolationDuration(5);
-        meta.setTransformationInterpolationStartDelta(0);
-        meta.setScale(new Vec(2.0, 2.0, 2.0));
+        blockMeta.setNotifyAboutChanges(false);
+        textMeta.setNotifyAboutChanges(false);
+        blockMeta.setBlockState(currentBlock);
+        blockMeta.setScale(new Vec(BLOCK_SIZE));
+        textMeta.setText(text);
+        textMeta.setScale(new Vec(TEXT_SIZE));
+        textMeta.setPosRotInterpolationDuration(MOVE_TICKS);
+        blockMeta.setNotifyAboutChanges(true);
+        textMeta.setNotifyAboutChanges(true);
     }
 
-    private void setupText(String text) {
-        var meta = (TextDisplayMeta) textEntity.getEntityMeta();
-        meta.setText(Component.text(text, NamedTextColor.GOLD));
-        meta.setBillboardRenderConstraints(AbstractDisplayMeta.BillboardConstraints.CENTER);
-        meta.setScale(new Vec(4));
-        meta.setHasNoGravity(true);
-        meta.setPosRotInterpolationDuration(5);
-        meta.setTransformationInterpolationStartDelta(0);
+    /**
+     * Places both entities at the display's position and shows them to the
+     * viewers added so far. A pooled pair still spawned here moves there while
+     * hidden and keeps the viewers it already has, so they get no spawn packets.
+     */
+    public void setInstance() {
+        anchor = pos;
+        sentPos = pos;
+        placed = true;
+
+        if (blockEntity.isActive() && textEntity.isActive()) {
+            // Drop the previous user's viewers before anything of this display is sent
+            syncViewers();
+            blockEntity.teleport(pos);
+            textEntity.teleport(pos.add(TEXT_OFFSET));
+            setup();
+            return;
+        }
+
+        setup();
+        blockEntity.setInstance(instance, pos).thenRun(() -> viewers.forEach(blockEntity::addViewer));
+        textEntity.setInstance(instance, pos.add(TEXT_OFFSET)).thenRun(() -> viewers.forEach(textEntity::addViewer));
     }
 
-    public void setInstance() {
-        blockEntity.setInstance(instance);
-        textEntity.setInstance(instance);
+    /** Shows the display to {@code player}, now or as soon as it is placed. */
+    public void addViewer(Player player) {
+        if (!viewers.add(player) || !placed) return;
+        if (blockEntity.isActive()) blockEntity.addViewer(player);
+        if (textEntity.isActive()) textEntity.addViewer(player);
     }
 
+    public void removeViewer(Player player) {
+        if (!viewers.remove(player) || !placed) return;
+        if (blockEntity.isActive()) blockEntity.removeViewer(player);
+        if (textEntity.isActive()) textEntity.removeViewer(player);
+    }
+
+    /** Hands the entities back to the pool; the display is unusable afterwards. */
     public void remove() {
-        blockEntity.remove();
-        textEntity.remove();
+        if (released) return;
+        released = true;
+        placed = false;
+        DisplayPool.release(entities);
     }
 
     public void teleport(Pos pos) {
+        moveTo(pos, MOVE_TICKS);
+    }
+
+    /**
+     * Moves the display to {@code pos}, which the client animates over
+     * {@code ticks} ticks from wherever it is shown at the time.
+     */
+    public void moveTo(Pos pos, int ticks) {
+        if (ticks < 0) throw new IllegalArgumentException("ticks must be >= 0");
         this.pos = pos;
-        blockEntity.teleport(pos);
-        textEntity.teleport(pos.add(TEXT_OFFSET));
+        this.transformTicks = ticks;
+    }
+
+    /** Scales the block by {@code factor} around its bottom centre, over {@code ticks} ticks. */
+    public void scaleTo(double factor, int ticks) {
+        if (factor <= 0) throw new IllegalArgumentException("factor must be > 0");
+        if (ticks < 0) throw new IllegalArgumentException("ticks must be >= 0");
+        this.scale = factor;
+        this.transformTicks = ticks;
     }
 
     public void setValue(int value) {
-        var meta = (TextDisplayMeta) textEntity.getEntityMeta();
-        meta.setText(Component.text(Integer.toString(value), NamedTextColor.GOLD));
+        this.text = Component.text(Integer.toString(value), NamedTextColor.GOLD);
     }
 
     public void updateBlock(Block block) {
         if (block == null) return;
-        if (block.equals(this.currentBlock)) return;
-
         this.currentBlock = block;
-        var meta = (BlockDisplayMeta) blockEntity.getEntityMeta();
-        meta.setBlockState(block);
     }
 
     public void setHighlighted(boolean highlighted) {
-        blockEntity.setGlowing(highlighted);
-        textEntity.setGlowing(highlighted);
+        this.glowing = highlighted;
+    }
+
+    /** Whether there are changes the viewers have not been sent yet. */
+    public boolean isDirty() {
+        return !pos.equals(sentPos) || scale != sentScale || glowing != sentGlowing
+                || !currentBlock.equals(sentBlock) || !text.equals(sentText);
+    }
+
+    /** Adds everyone who can see part of this display to {@code viewers}. */
+    public void collectViewers(Collection<Player> viewers) {
+        viewers.addAll(blockEntity.getViewers());
+        viewers.addAll(textEntity.getViewers());
+    }
+
+    /**
+     * Sends the viewers everything that changed since the last flush. The
+     * metadata of each entity goes out as one packet, then the label's teleport.
+     */
+    public void flush() {
+        final var blockMeta = (BlockDisplayMeta) blockEntity.getEntityMeta();
+        final var textMeta = (TextDisplayMeta) textEntity.getEntityMeta();
+
+        // Held back while notifications are off, then sent together
+        blockMeta.setNotifyAboutChanges(false);
+        textMeta.setNotifyAboutChanges(false);
+        if (glowing != sentGlowing) {
+            blockEntity.setGlowing(glowing);
+            textEntity.setGlowing(glowing);
+            sentGlowing = glowing;
+        }
+        if (!currentBlock.equals(sentBlock)) {
+            blockMeta.setBlockState(currentBlock);
+            sentBlock = currentBlock;
+        }
+        if (!text.equals(sentText)) {
+            textMeta.setText(text);
+            sentText = text;
+        }
+        final boolean moved = !pos.equals(sentPos);
+        if (moved || scale != sentScale) {
+            // A start delta restarts the interpolation from what the client shows now
+            blockMeta.setTransformationInterpolationDuration(transformTicks);
+            blockMeta.setTransformationInterpolationStartDelta(0);
+            blockMeta.setTranslation(translation());
+            blockMeta.setScale(new Vec(BLOCK_SIZE * scale));
+            sentScale = scale;
+        }
+        if (moved) textMeta.setPosRotInterpolationDuration(transformTicks);
+        blockMeta.setNotifyAboutChanges(true);
+        textMeta.setNotifyAboutChanges(true);
+
+        if (moved) {
+            textEntity.teleport(pos.add(TEXT_OFFSET));
+            sentPos = pos;
+        }
+    }
+
+    /** Offset from the anchor, keeping a scaled block centred where it stands. */
+    private Vec translation() {
+        final double grow = BLOCK_SIZE * (scale - 1) / 2;
+        return Vec.fromPoint(pos.sub(anchor)).sub(grow, 0, grow);
     }
 
     public boolean isSpawned() {
-        return blockEntity.getInstance() != null || textEntity.getInstance() != null;
+        return placed;
+    }
+
+    /** Leaves the entities with exactly this display's viewers, whoever saw them before. */
+    private void syncViewers() {
+        for (var entity : new Entity[]{blockEntity, textEntity}) {
+            for (var player : Set.copyOf(entity.getViewers())) {
+                if (!viewers.contains(player)) entity.removeViewer(player);
+            }
+            viewers.forEach(entity::addViewer);
+        }
     }
 }
@@ -0,0 +1,155 @@
+package io.github.mcalgovisualizations.visualization.renderer;
+
+import net.kyori.adventure.text.Component;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.entity.metadata.display.AbstractDisplayMeta;
+import net.minestom.server.entity.metadata.display.BlockDisplayMeta;
+import net.minestom.server.entity.metadata.display.TextDisplayMeta;
+import net.minestom.server.event.instance.InstanceUnregisterEvent;
+import net.minestom.server.instance.Instance;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Block and text display entity pairs shared by every session on the server.
+ * <p>
+ * A returned pair stays spawned and keeps its viewers, but its metadata is
+ * reset and it is scaled to nothing. Borrowing it again in the same instance
+ * costs a teleport and one metadata packet per entity. A fresh pair costs new
+ * entity ids, full metadata and a spawn packet for every viewer, which used to
+ * be paid for each display whenever a player randomized or switched
+ * algorithms. Idle pairs are handed out last returned first, so a session
+ * rebuilding its scene mostly gets back entities its viewers already have.
+ * An instance's idle pairs are dropped when it is unregistered.
+ */
+public final class DisplayPool {
+    private DisplayPool() {}
+
+    /** Idle pairs kept per instance; pairs returned beyond that are removed. */
+    private static final int MAX_IDLE = Integer.getInteger("visualization.pool.maxIdle", 1024);
+
+    private static final Map<Instance, ArrayDeque<Entities>> IDLE = new HashMap<>();
+    private static long created = 0;
+    private static long reused = 0;
+    private static boolean listening = false;
+
+    /** The two entities behind one {@link BlockDisplay}. */
+    record Entities(Entity block, Entity text) {}
+
+    public record Stats(int idle, long created, long reused) {
+
+        /** One line for chat and logs. */
+        public String summary() {
+            return idle + " idle, " + created + " created, " + reused + " reused";
+        }
+    }
+
+    /**
+     * An idle pair already spawned in {@code instance}, or a new pair that is
+     * not spawned yet when there is none.
+     */
+    static synchronized Entities borrow(Instance instance) {
+        ensureListening();
+        final var idle = IDLE.get(instance);
+        while (idle != null && !idle.isEmpty()) {
+            final var entities = idle.pop();
+            // Gone with its instance, or removed some other way
+            if (entities.block().isRemoved() || entities.text().isRemoved()) continue;
+            reused++;
+            return entities;
+        }
+        if (idle != null) IDLE.remove(instance);
+
+        created++;
+        return create();
+    }
+
+    /** Hides {@code entities} and keeps them for the next borrower, or removes them. */
+    static synchronized void release(Entities entities) {
+        final var instance = entities.block().getInstance();
+        if (instance == null || !instance.isRegistered()
+                || !entities.block().isActive() || !entities.text().isActive()) {
+            remove(entities);
+            return;
+        }
+
+        final var idle = IDLE.computeIfAbsent(instance, i -> new ArrayDeque<>());
+        if (idle.size() >= MAX_IDLE) {
+            remove(entities);
+            return;
+        }
+        hide(entities);
+        idle.push(entities);
+    }
+
+    /** Removes the idle pairs kept for {@code instance}, called as it is unregistered. */
+    static synchronized void drop(Instance instance) {
+        final var idle = IDLE.remove(instance);
+        if (idle == null) return;
+        for (var entities : idle) remove(entities);
+    }
+
+    public static synchronized Stats stats() {
+        int idle = 0;
+        for (var pairs : IDLE.values()) idle += pairs.size();
+        return new Stats(idle, created, reused);
+    }
+
+    private static void ensureListening() {
+        if (listening) return;
+        listening = true;
+
+        MinecraftServer.getGlobalEventHandler().addListener(InstanceUnregisterEvent.class, event -> {
+            drop(event.getInstance());
+        });
+    }
+
+    private static Entities create() {
+        final var block = new Entity(EntityType.BLOCK_DISPLAY);
+        final var text = new Entity(EntityType.TEXT_DISPLAY);
+        block.setAutoViewable(false);
+        text.setAutoViewable(false);
+
+        final var blockMeta = (BlockDisplayMeta) block.getEntityMeta();
+        blockMeta.setHasNoGravity(true);
+
+        final var textMeta = (TextDisplayMeta) text.getEntityMeta();
+        textMeta.setBillboardRenderConstraints(AbstractDisplayMeta.BillboardConstraints.CENTER);
+        textMeta.setHasNoGravity(true);
+
+        return new Entities(block, text);
+    }
+
+    /**
+     * Resets what a {@link BlockDisplay} changes and shrinks both entities to
+     * nothing, one metadata packet each. Interpolation is turned off so the
+     * next borrower can move them unseen.
+     */
+    private static void hide(Entities entities) {
+        final var blockMeta = (BlockDisplayMeta) entities.block().getEntityMeta();
+        final var textMeta = (TextDisplayMeta) entities.text().getEntityMeta();
+
+        blockMeta.setNotifyAboutChanges(false);
+        textMeta.setNotifyAboutChanges(false);
+        entities.block().setGlowing(false);
+        entities.text().setGlowing(false);
+        blockMeta.setTransformationInterpolationDuration(0);
+        blockMeta.setTranslation(Vec.ZERO);
+        blockMeta.setScale(Vec.ZERO);
+        textMeta.setText(Component.empty());
+        textMeta.setScale(Vec.ZERO);
+        textMeta.setPosRotInterpolationDuration(0);
+        blockMeta.setNotifyAboutChanges(true);
+        textMeta.setNotifyAboutChanges(true);
+    }
+
+    private static void remove(Entities entities) {
+        entities.block().remove();
+        entities.text().remove();
+    }
+}
@@ -1,10 +1,12 @@
 package io.github.mcalgovisualizations.visualization.renderer;
 
+import io.github.mcalgovisualizations.visualization.engine.TickBudget;
+import io.github.mcalgovisualizations.visualization.engine.TimingWheel;
+import io.github.mcalgovisualizations.visualization.engine.TimingWheel.Timer;
+import io.github.mcalgovisualizations.visualization.engine.VisualizationScheduler;
 import io.github.mcalgovisualizations.visualization.renderer.dispatch.AnimationPlan;
-import net.minestom.server.MinecraftServer;
-import net.minestom.server.timer.Task;
+import org.jspecify.annotations.Nullable;
 
-import java.time.Duration;
 import java.util.LinkedList;
 import java.util.Objects;
 import java.util.Queue;
@@ -12,21 +14,30 @@ import java.util.Queue;
 public final class Executor {
 
     private final SceneOps scene; // <- interface type, not concrete
-    private Task runningTask = null;
+    private final TimingWheel wheel;
+    // Shared by every session on the wheel: steps that do not wait run back to
+    // back until one does or the tick's budget runs out; the rest carries over
+    private final TickBudget budget;
+    private Timer runningTimer = null;
 
     private final Queue<AnimationPlan> queue = new LinkedList<>();
 
     private AnimationPlan currentPlan = null;
     private int stepIndex = 0;
     private int ticksRemaining = 0;
-    private boolean stepJustEntered = false;
 
     private boolean paused = false;
 
     private int SPEED = 1;
 
     public Executor(SceneOps scene) {
+        this(scene, VisualizationScheduler.wheel(), VisualizationScheduler.stepBudget());
+    }
+
+    Executor(SceneOps scene, TimingWheel wheel, TickBudget budget) {
         this.scene = Objects.requireNonNull(scene, "scene");
+        this.wheel = Objects.requireNonNull(wheel, "wheel");
+        this.budget = Objects.requireNonNull(budget, "budget");
     }
 
     public void add(AnimationPlan plan) {
@@ -34,14 +45,27 @@ public final class Executor {
         queue.add(plan);
     }
 
+    /**
+     * Applies the rest of the queued plans at once, skipping their waits, so
+     * their end state (a swap's re-mapping included) is in place before the
+     * plans of the next step. Steps that come faster than their animations
+     * would otherwise queue up, leaving the scene further behind every step.
+     */
+    public void finishPending() {
+        if (currentPlan == null && queue.isEmpty()) return;
+
+        for (var step = nextStep(); step != null; step = nextStep()) {
+            step.op().accept(scene);
+        }
+        ticksRemaining = 0;
+    }
+
     public void startIfIdle() {
         if (paused) return;
-        if (runningTask != null) return;
+        if (runningTimer != null) return;
 
-        runningTask = MinecraftServer.getSchedulerManager()
-                .buildTask(this::tick)
-                .repeat(Duration.ofMillis(SPEED * 50L))
-                .schedule();
+        // Missed animation ticks are not replayed after a lag, the next one just runs
+        runningTimer = wheel.schedule(1, SPEED, false, this::tick);
     }
 
     public void pause() {
@@ -56,17 +80,14 @@ public final class Executor {
     }
 
     public boolean isIdle() {
-        return currentPlan == null && queue.isEmpty() && runningTask == null;
+        return currentPlan == null && queue.isEmpty() && runningTimer == null;
     }
 
     public void setSpeed(int speed) {
         if (speed <= 0) throw new IllegalArgumentException("speed must be > 0");
         this.SPEED = speed;
 
-        if (runningTask != null) {
-            stopScheduler();
-            startIfIdle();
-        }
+        if (runningTimer != null) runningTimer.setPeriod(speed);
     }
 
     private void tick() {
@@ -78,58 +99,44 @@ public final class Executor {
             return;
         }
 
-        // Ensure we have a plan
-        if (currentPlan == null) {
-            currentPlan = queue.poll();
-            stepIndex = 0;
-            stepJustEntered = true;
-
-            if (currentPlan == null) {
+        // Apply steps, across plans, until one asks to wait or the tick's shared
+        // budget is spent. At least one step runs, so every session makes progress.
+        final long start = budget.begin(wheel.ticks());
+        do {
+            final var step = nextStep();
+            if (step == null) {
                 stopScheduler();
-                return;
+                break;
             }
-        }
 
-        // Finished plan?
-        if (stepIndex >= currentPlan.steps().size()) {
-            finishCurrentPlan();
-            return;
-        }
-
-        // Enter new step: apply op ONCE, then set wait
-        if (stepJustEntered) {
-            var step = currentPlan.steps().get(stepIndex);
-
-            // This is the whole point:
             step.op().accept(scene);
 
-            // Wait AFTER applying (0 means continue next tick)
+            // Wait AFTER applying (0 means go straight on to the next step)
             ticksRemaining = step.ticks();
+        } while (ticksRemaining == 0 && !budget.exhausted(start));
+        budget.end(start);
 
-            stepJustEntered = false;
-
-            // Advance to next step once this step's wait has elapsed
-            stepIndex++;
-            stepJustEntered = true;
-
-            // If ticksRemaining == 0, we could loop and apply multiple 0-tick steps
-            // in one scheduler tick — optional. Keep simple for now.
-        }
+        // Everything applied this tick reaches the client as one frame
+        scene.flush();
     }
 
-    private void finishCurrentPlan() {
-        currentPlan = null;
-        stepIndex = 0;
-        ticksRemaining = 0;
-        stepJustEntered = false;
-
-        if (queue.isEmpty()) stopScheduler();
+    /**
+     * The next step to apply, moving on to the next queued plan when the
+     * current one is done, or {@code null} once the queue is empty.
+     */
+    private AnimationPlan.@Nullable Step nextStep() {
+        while (currentPlan == null || stepIndex >= currentPlan.steps().size()) {
+            currentPlan = queue.poll();
+            stepIndex = 0;
+            if (currentPlan == null) return null;
+        }
+        return currentPlan.steps().get(stepIndex++);
     }
 
     private void stopScheduler() {
-        if (runningTask != null) {
-            runningTask.cancel();
-            runningTask = null;
+        if (runningTimer != null) {
+            runningTimer.cancel();
+            runningTimer = null;
         }
     }
 
@@ -139,7 +146,6 @@ public final class Executor {
         currentPlan = null;
         stepIndex = 0;
         ticksRemaining = 0;
-        stepJustEntered = false;
         queue.clear();
     }
 }
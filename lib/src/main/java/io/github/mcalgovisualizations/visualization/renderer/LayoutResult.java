@@ -1,7 +0,0 @@
-package io.github.mcalgovisualizations.visualization.renderer;
-
-import net.minestom.server.coordinate.Pos;
-
-public record LayoutResult(int value, Pos pos) {
-
-}
@@ -1,6 +1,7 @@
 package io.github.mcalgovisualizations.visualization.renderer;
 
 import io.github.mcalgovisualizations.visualization.algorithms.events.Message;
+import io.github.mcalgovisualizations.visualization.layouts.LayoutResult;
 import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.minestom.server.coordinate.Pos;
@@ -24,9 +25,39 @@ public interface SceneOps {
 
     void swapSlots(int a, int b);
 
+    /**
+     * Rearranges the displays in one go: slot {@code i} receives the display
+     * that was in slot {@code sources[i]} and moves to slot {@code i}'s position.
+     */
+    void permute(int[] sources);
+
+    /**
+     * Moves every display straight to the position it has in {@code layout},
+     * re-assigning slots so slot {@code i} shows {@code layout[i].value()}.
+     */
+    void arrange(LayoutResult[] layout);
+
+    // client-interpolated motion, one packet per display however long it runs
+
+    /**
+     * Glides the display in {@code slot} to {@code targetSlot}'s position,
+     * raised by {@code lift} blocks, over {@code ticks} client ticks. The slot
+     * keeps its display; finish with {@link #swapSlots} or a move back.
+     */
+    void animateSlotTo(int slot, int targetSlot, double lift, int ticks);
+
+    /** Scales the display in {@code slot} by {@code factor} over {@code ticks} client ticks. */
+    void scaleSlot(int slot, double factor, int ticks);
+
     // optional extension point
     void playEffect(int slot, String effectId);
 
     void sendMessage(String message, NamedTextColor color);
+
+    /**
+     * Sends the viewers every change since the last flush, grouped so the
+     * client shows them in the same frame. Until then changes are not visible.
+     */
+    void flush();
 }
 
@@ -0,0 +1,81 @@
+package io.github.mcalgovisualizations.visualization.renderer;
+
+import net.minestom.server.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The players who can see a player's visualizations: the owner and the
+ * spectators they invited.
+ * <p>
+ * Display entities are not auto-viewable, so their packets only go to these
+ * players, however many others share the instance. Every scene the owner has
+ * running, one per race lane, shows its displays to the current viewers and
+ * follows later changes, and the group outlives single sessions so invited
+ * spectators keep watching when the owner picks another algorithm.
+ */
+public final class SessionViewers {
+
+    private final Player owner;
+    private final Set<Player> spectators = new LinkedHashSet<>();
+    private final List<VisualizationScene> scenes = new ArrayList<>();
+
+    public SessionViewers(Player owner) {
+        this.owner = Objects.requireNonNull(owner, "owner");
+    }
+
+    public Player owner() {
+        return owner;
+    }
+
+    public Set<Player> spectators() {
+        return Collections.unmodifiableSet(spectators);
+    }
+
+    /** The owner followed by the spectators. */
+    public List<Player> all() {
+        final var all = new ArrayList<Player>(1 + spectators.size());
+        all.add(owner);
+        all.addAll(spectators);
+        return all;
+    }
+
+    /**
+     * Shows every display of the owner's scenes to {@code player}.
+     *
+     * @return whether the player was added, {@code false} if already watching or the owner
+     */
+    public boolean addSpectator(Player player) {
+        if (player == owner || !spectators.add(player)) return false;
+        for (var scene : scenes) scene.addViewer(player);
+        return true;
+    }
+
+    /**
+     * Hides the owner's displays from {@code player} again.
+     *
+     * @return whether the player was watching
+     */
+    public boolean removeSpectator(Player player) {
+        if (!spectators.remove(player)) return false;
+        for (var scene : scenes) scene.removeViewer(player);
+        return true;
+    }
+
+    public boolean isWatching(Player player) {
+        return player == owner || spectators.contains(player);
+    }
+
+    void attach(VisualizationScene scene) {
+        if (!scenes.contains(scene)) scenes.add(scene);
+    }
+
+    void detach(VisualizationScene scene) {
+        scenes.remove(scene);
+    }
+}
@@ -2,7 +2,9 @@ package io.github.mcalgovisualizations.visualization.renderer;
 
 import io.github.mcalgovisualizations.visualization.Snapshot;
 import io.github.mcalgovisualizations.visualization.algorithms.events.*;
+import io.github.mcalgovisualizations.visualization.engine.PlaybackRenderer;
 import io.github.mcalgovisualizations.visualization.layouts.Layout;
+import io.github.mcalgovisualizations.visualization.layouts.Point;
 import io.github.mcalgovisualizations.visualization.renderer.dispatch.Dispatcher;
 import io.github.mcalgovisualizations.visualization.renderer.handlers.*;
 import net.minestom.server.coordinate.Pos;
@@ -10,13 +12,14 @@ import net.minestom.server.instance.Instance;
 
 import java.util.Objects;
 
-public final class VisualizationRenderer {
+public final class VisualizationRenderer implements PlaybackRenderer {
 
     private final VisualizationScene scene;
     private final Layout layout;
     private final Dispatcher dispatcher;
     private final Executor executor;
-    private final Pos origin;
+    // Layouts work in plain coordinates, see Point
+    private final Point origin;
     //private final Object settings;
 
     private boolean started = false;
@@ -24,27 +27,32 @@ public final class VisualizationRenderer {
     public VisualizationRenderer(
             Instance instance,
             Pos origin, Layout layout,
-            Dispatcher dispatcher
+            Dispatcher dispatcher,
+            SessionViewers viewers
             //Executor executor // TODO : introduce executor
             //Object settings // TODO : introduce settings for ease, speed, etc.
     ) {
-        this.scene = new VisualizationScene(instance, origin);
-        this.origin = origin;
+        this.scene = new VisualizationScene(instance, origin, viewers);
+        this.origin = new Point(origin.x(), origin.y(), origin.z());
         this.layout = Objects.requireNonNull(layout, "layout");
         this.dispatcher = Objects.requireNonNull(dispatcher, "dispatcher");
         this.executor = new Executor(scene);
         //this.settings = settings != null ? settings : RenderSettings.defaults();
     }
 
+    @Override
     public void onStart() {
         if (started) return;
         started = true;
         dispatcher.register(Compare.class, new CompareHandler());
         dispatcher.register(Complete.class, new CompleteHandler());
         dispatcher.register(Highlight.class, new HighlightHandler());
+        dispatcher.register(Unhighlight.class, new UnhighlightHandler());
         dispatcher.register(Message.class, new MessageHandler());
         dispatcher.register(Validate.class, new ValidateHandler());
         dispatcher.register(Swap.class, new SwapHandler());
+        dispatcher.register(Permute.class, new PermuteHandler());
+        dispatcher.register(WorkerTask.class, new WorkerTaskHandler());
 
     }
 
@@ -59,6 +67,7 @@ public final class VisualizationRenderer {
         //executor.clearQueue();   // optional; decide policy
     }
     private boolean test = false;
+    @Override
     public void render(Snapshot snapshot) {
         requireStarted();
         Objects.requireNonNull(snapshot, "snapshot");
@@ -70,6 +79,9 @@ public final class VisualizationRenderer {
             test = true;
         }
 
+        // A new step cuts the animation of the last one short
+        executor.finishPending();
+
         final var events = snapshot.events();
         var ctx = new RenderContext(scene, events);
 
@@ -81,23 +93,68 @@ public final class VisualizationRenderer {
 
         executor.startIfIdle();
         scene.clearHighlights();
+        scene.flush();
+    }
+
+    /**
+     * Animates the scene back over the step that produced {@code undone} by
+     * playing the inverse of its events, so stepping back looks like stepping forward.
+     */
+    @Override
+    public void rewind(Snapshot undone) {
+        requireStarted();
+        Objects.requireNonNull(undone, "undone");
+
+        executor.finishPending();
+
+        var ctx = new RenderContext(scene, undone.events());
+        for (var plan : dispatcher.dispatchInverse(undone.events(), ctx)) {
+            executor.add(plan);
+        }
+
+        executor.startIfIdle();
+        scene.clearHighlights();
+        scene.flush();
     }
 
     public boolean isIdle() {
         return true;
     }
 
+    @Override
     public void hardReset(Snapshot snapshot) {
         executor.onCleanup();
         scene.cleanUp();
         final var layoutResult = this.layout.compute(snapshot.values(), origin);
         scene.onStart(layoutResult);
+        // The scene is laid out, the next render must not build it again
+        test = true;
+    }
+
+    /**
+     * Jumps the scene straight to the arrangement in {@code snapshot}, dropping
+     * any queued animations. Used for seeking, where replaying every
+     * intermediate animation would defeat the purpose.
+     */
+    @Override
+    public void jumpTo(Snapshot snapshot) {
+        requireStarted();
+        Objects.requireNonNull(snapshot, "snapshot");
+
+        executor.onCleanup();
+        scene.clearHighlights();
+        scene.arrange(this.layout.compute(snapshot.values(), origin));
+        for (int slot : snapshot.highlights()) {
+            scene.setHighlighted(slot, true);
+        }
+        scene.flush();
     }
 
     /**
      * Full teardown. Not resumable.
      * Typical use: application shutdown / leaving visualization.
      */
+    @Override
     public void onCleanup() {
         if (!started) return;
 
@@ -1,13 +1,20 @@
 package io.github.mcalgovisualizations.visualization.renderer;
 
+import io.github.mcalgovisualizations.visualization.layouts.LayoutResult;
+import io.github.mcalgovisualizations.visualization.layouts.Point;
 import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.packet.server.play.BundlePacket;
+import net.minestom.server.utils.PacketSendingUtils;
 
+import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -18,6 +25,8 @@ import java.util.Set;
  *  - entity creation/removal
  *  - stable identity mapping slot -> display entity
  *  - current visual flags (highlight)
+ *  - sending changes, one bundle per viewer per {@link #flush()}
+ *  - showing the displays to the session's {@link SessionViewers} only
  *
  * Does NOT own:
  *  - layout math
@@ -26,36 +35,54 @@ import java.util.Set;
  */
 public final class VisualizationScene implements SceneOps {
 
+    private static final BundlePacket BUNDLE_DELIMITER = new BundlePacket();
+    // The client takes at most 4096 packets per bundle, a display sends up to 4
+    private static final int DISPLAYS_PER_BUNDLE = 1000;
+
     private final Instance instance;
     private final Pos origin;
+    private final SessionViewers viewers;
 
-    // Stable identity mapping (slot -> display wrapper/entity)
+    // Slot (index in the model) -> display wrapper/entity, re-mapped as displays move
     private final Map<Integer, BlockDisplay> displaysBySlot =
             new HashMap<>();
+    // Value currently shown in each slot
+    private final Map<Integer, Integer> valuesBySlot = new HashMap<>();
+    // Where the display of each slot rests, whatever animation it is in
+    private final Map<Integer, Pos> positionsBySlot = new HashMap<>();
 
     // Visual state
     private final Set<Integer> highlightedSlots = new HashSet<>();
+    // Displays changed since the last flush
+    private final Set<BlockDisplay> dirty = new LinkedHashSet<>();
 
     private boolean started = false;
 
-    public VisualizationScene(Instance instance, Pos origin) {
+    public VisualizationScene(Instance instance, Pos origin, SessionViewers viewers) {
         this.instance = instance;
         this.origin = origin;
+        this.viewers = viewers;
     }
 
     @Override
     public void onStart(LayoutResult[] layoutResults) {
         this.started = true;
+        viewers.attach(this);
+        final var watching = viewers.all();
 
-        for(var layout : layoutResults) {
-            var pos = layout.pos();
+        for (int slot = 0; slot < layoutResults.length; slot++) {
+            var layout = layoutResults[slot];
+            var pos = toPos(layout.pos());
             var block = Block.GRANITE;
             var value = Integer.toString(layout.value());
 
             var dv = new BlockDisplay(instance, pos, block, value);
-            displaysBySlot.put(layout.value(), dv);
+            displaysBySlot.put(slot, dv);
+            valuesBySlot.put(slot, layout.value());
+            positionsBySlot.put(slot, pos);
+            // Viewers first, so a pooled display keeps the ones it already has
+            watching.forEach(dv::addViewer);
             dv.setInstance();
-            dv.teleport(pos);
         }
     }
 
@@ -66,7 +93,11 @@ public final class VisualizationScene implements SceneOps {
             safeRemove(display);
         }
         displaysBySlot.clear();
+        valuesBySlot.clear();
+        positionsBySlot.clear();
         highlightedSlots.clear();
+        dirty.clear();
+        viewers.detach(this);
         started = false;
     }
 
@@ -75,6 +106,8 @@ public final class VisualizationScene implements SceneOps {
         assertStarted();
         var display = requireDisplay(slot);
         display.setValue(value);
+        dirty.add(display);
+        valuesBySlot.put(slot, value);
     }
 
     @Override
@@ -83,6 +116,9 @@ public final class VisualizationScene implements SceneOps {
         var display = requireDisplay(slot);
 
         display.setHighlighted(highlighted);
+        dirty.add(display);
+        if (highlighted) highlightedSlots.add(slot);
+        else highlightedSlots.remove(slot);
     }
 
     @Override
@@ -94,6 +130,7 @@ public final class VisualizationScene implements SceneOps {
             var display = displaysBySlot.get(slot);
             if (display != null) {
                 display.setHighlighted(false);
+                dirty.add(display);
             }
         }
         highlightedSlots.clear();
@@ -104,8 +141,9 @@ public final class VisualizationScene implements SceneOps {
         assertStarted();
         var display = requireDisplay(slot);
 
-        // Assumption: teleport / setPosition exists
         display.teleport(pos);
+        dirty.add(display);
+        positionsBySlot.put(slot, pos);
     }
 
     @Override
@@ -114,17 +152,111 @@ public final class VisualizationScene implements SceneOps {
         var da = requireDisplay(a);
         var db = requireDisplay(b);
 
-        var posA = da.getPos();
-        var posB = db.getPos();
+        var posA = positionsBySlot.get(a);
+        var posB = positionsBySlot.get(b);
 
+        // Within one flush the highlight cancels out, only the moves are sent
         setHighlighted(a, true);
         setHighlighted(b, true);
 
+        // Nothing to send if an animation already brought them there
         da.teleport(posB);
         db.teleport(posA);
 
         setHighlighted(a, false);
         setHighlighted(b, false);
+
+        // The displays traded places, so slots a and b now hold each other's display
+        displaysBySlot.put(a, db);
+        displaysBySlot.put(b, da);
+        var valueA = valuesBySlot.get(a);
+        valuesBySlot.put(a, valuesBySlot.get(b));
+        valuesBySlot.put(b, valueA);
+    }
+
+    @Override
+    public void permute(int[] sources) {
+        assertStarted();
+        if (sources.length != displaysBySlot.size()) {
+            throw new IllegalArgumentException(
+                    "permutation has " + sources.length + " entries but scene has " + displaysBySlot.size() + " slots"
+            );
+        }
+
+        // Read everything first, the slots are rewritten in place below
+        var displays = new BlockDisplay[sources.length];
+        var values = new Integer[sources.length];
+        var positions = new Pos[sources.length];
+        for (int slot = 0; slot < sources.length; slot++) {
+            displays[slot] = requireDisplay(slot);
+            values[slot] = valuesBySlot.get(slot);
+            positions[slot] = positionsBySlot.get(slot);
+        }
+
+        for (int slot = 0; slot < sources.length; slot++) {
+            if (sources[slot] == slot) continue;
+
+            var display = displays[sources[slot]];
+            display.teleport(positions[slot]);
+            dirty.add(display);
+            displaysBySlot.put(slot, display);
+            valuesBySlot.put(slot, values[sources[slot]]);
+        }
+    }
+
+    @Override
+    public void arrange(LayoutResult[] layout) {
+        assertStarted();
+        if (layout.length != displaysBySlot.size()) {
+            throw new IllegalArgumentException(
+                    "layout has " + layout.length + " entries but scene has " + displaysBySlot.size() + " slots"
+            );
+        }
+
+        // Group the current displays by the value they show
+        Map<Integer, ArrayDeque<BlockDisplay>> byValue = new HashMap<>();
+        for (var entry : displaysBySlot.entrySet()) {
+            byValue.computeIfAbsent(valuesBySlot.get(entry.getKey()), v -> new ArrayDeque<>())
+                    .add(entry.getValue());
+        }
+
+        for (int slot = 0; slot < layout.length; slot++) {
+            var target = layout[slot];
+            var displays = byValue.get(target.value());
+            if (displays == null || displays.isEmpty()) {
+                throw new IllegalArgumentException("No display shows value " + target.value());
+            }
+
+            var display = displays.poll();
+            var pos = toPos(target.pos());
+            // Also settles displays caught halfway through a lift or scale
+            display.teleport(pos);
+            display.scaleTo(1.0, BlockDisplay.MOVE_TICKS);
+            dirty.add(display);
+            displaysBySlot.put(slot, display);
+            valuesBySlot.put(slot, target.value());
+            positionsBySlot.put(slot, pos);
+        }
+    }
+
+    @Override
+    public void animateSlotTo(int slot, int targetSlot, double lift, int ticks) {
+        assertStarted();
+        var display = requireDisplay(slot);
+        var target = positionsBySlot.get(targetSlot);
+        if (target == null) throw new IllegalStateException("No display for slot " + targetSlot);
+
+        display.moveTo(target.add(0, lift, 0), ticks);
+        dirty.add(display);
+    }
+
+    @Override
+    public void scaleSlot(int slot, double factor, int ticks) {
+        assertStarted();
+        var display = requireDisplay(slot);
+
+        display.scaleTo(factor, ticks);
+        dirty.add(display);
     }
 
     @Override
@@ -145,6 +277,40 @@ public final class VisualizationScene implements SceneOps {
         // player.sendMessage(Component.text(msg.message(), color));
     }
 
+    /** Shows every display to {@code player}, called as a spectator joins the session. */
+    void addViewer(Player player) {
+        for (var display : displaysBySlot.values()) display.addViewer(player);
+    }
+
+    void removeViewer(Player player) {
+        for (var display : displaysBySlot.values()) display.removeViewer(player);
+    }
+
+    @Override
+    public void flush() {
+        if (dirty.isEmpty()) return;
+
+        // Everyone who sees a changed display gets the whole frame between two
+        // bundle delimiters, which the client applies as one update
+        final Set<Player> viewers = new HashSet<>();
+        for (var display : dirty) display.collectViewers(viewers);
+
+        PacketSendingUtils.sendGroupedPacket(viewers, BUNDLE_DELIMITER);
+        int inBundle = 0;
+        for (var display : dirty) {
+            if (!display.isDirty()) continue;
+            if (inBundle == DISPLAYS_PER_BUNDLE) {
+                PacketSendingUtils.sendGroupedPacket(viewers, BUNDLE_DELIMITER);
+                PacketSendingUtils.sendGroupedPacket(viewers, BUNDLE_DELIMITER);
+                inBundle = 0;
+            }
+            display.flush();
+            inBundle++;
+        }
+        PacketSendingUtils.sendGroupedPacket(viewers, BUNDLE_DELIMITER);
+        dirty.clear();
+    }
+
     private BlockDisplay createDisplay(Pos spawnPos) {
         // Assumption: BlockDisplay is your wrapper and can be constructed this way.
         // If not, adapt this factory.
@@ -155,6 +321,10 @@ public final class VisualizationScene implements SceneOps {
     // Internals
     // -------------------------
 
+    private static Pos toPos(Point point) {
+        return new Pos(point.x(), point.y(), point.z());
+    }
+
     private BlockDisplay requireDisplay(int slot) {
         var display = displaysBySlot.get(slot);
         if (display == null) {
@@ -4,7 +4,9 @@ import io.github.mcalgovisualizations.visualization.algorithms.events.AlgorithmE
 import io.github.mcalgovisualizations.visualization.renderer.RenderContext;
 import io.github.mcalgovisualizations.visualization.renderer.handlers.AnimationHandler;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -28,6 +30,22 @@ public final class Dispatcher {
         return invokeUnchecked(handler, event, ctx);
     }
 
+    /**
+     * Plans that undo {@code events} on the scene, in the order they have to run:
+     * the last event's inverse first. Used to animate a step backwards from the
+     * scene as it is, without a stored snapshot.
+     */
+    public List<AnimationPlan> dispatchInverse(List<AlgorithmEvent> events, RenderContext ctx) {
+        Objects.requireNonNull(events, "events");
+
+        final var inverse = AlgorithmEvent.inverseOf(events);
+        final var plans = new ArrayList<AnimationPlan>(inverse.size());
+        for (var e : inverse) {
+            plans.add(dispatch(e, ctx));
+        }
+        return plans;
+    }
+
     @SuppressWarnings("unchecked")
     private static <E extends AlgorithmEvent> AnimationPlan invokeUnchecked(
             AnimationHandler<?> raw,
@@ -4,10 +4,32 @@ import io.github.mcalgovisualizations.visualization.algorithms.events.Compare;
 import io.github.mcalgovisualizations.visualization.renderer.RenderContext;
 import io.github.mcalgovisualizations.visualization.renderer.dispatch.AnimationPlan;
 
+/**
+ * Lifts and slightly enlarges the two compared displays, then lets them settle
+ * back while the next step already plays.
+ */
 public final class CompareHandler implements AnimationHandler<Compare> {
 
     @Override
     public AnimationPlan handle(Compare event, RenderContext ctx) {
-        return null;
+        final int x = event.x();
+        final int y = event.y();
+        final int t = Motion.PHASE_TICKS;
+        if (t == 0 || x == y) return null;
+
+        return AnimationPlan.builder()
+                .step(t, sceneOps -> {
+                    sceneOps.animateSlotTo(x, x, Motion.COMPARE_LIFT, t);
+                    sceneOps.animateSlotTo(y, y, Motion.COMPARE_LIFT, t);
+                    sceneOps.scaleSlot(x, Motion.COMPARE_SCALE, t);
+                    sceneOps.scaleSlot(y, Motion.COMPARE_SCALE, t);
+                })
+                .step(0, sceneOps -> {
+                    sceneOps.animateSlotTo(x, x, 0, t);
+                    sceneOps.animateSlotTo(y, y, 0, t);
+                    sceneOps.scaleSlot(x, 1.0, t);
+                    sceneOps.scaleSlot(y, 1.0, t);
+                })
+                .build();
     }
 }
@@ -0,0 +1,21 @@
+package io.github.mcalgovisualizations.visualization.renderer.handlers;
+
+/**
+ * Timing and sizes shared by the handlers that animate displays through the
+ * client-interpolated {@code SceneOps} primitives.
+ */
+final class Motion {
+    private Motion() {}
+
+    /**
+     * Client ticks of each keyframe, and executor ticks waited before the
+     * next; 0 turns the motion off and moves displays straight to their slots.
+     */
+    static final int PHASE_TICKS = Integer.getInteger("visualization.animation.phaseTicks", 2);
+
+    /** Blocks the display passing over rises, the other rises half as far. */
+    static final double SWAP_LIFT = 5.0;
+
+    static final double COMPARE_LIFT = 1.0;
+    static final double COMPARE_SCALE = 1.15;
+}
@@ -0,0 +1,13 @@
+package io.github.mcalgovisualizations.visualization.renderer.handlers;
+
+import io.github.mcalgovisualizations.visualization.algorithms.events.Permute;
+import io.github.mcalgovisualizations.visualization.renderer.RenderContext;
+import io.github.mcalgovisualizations.visualization.renderer.dispatch.AnimationPlan;
+
+public class PermuteHandler implements AnimationHandler<Permute> {
+
+    @Override
+    public AnimationPlan handle(Permute event, RenderContext ctx) {
+        return AnimationPlan.instant(scene -> scene.permute(event.sources()));
+    }
+}
@@ -4,17 +4,49 @@ import io.github.mcalgovisualizations.visualization.algorithms.events.Swap;
 import io.github.mcalgovisualizations.visualization.renderer.RenderContext;
 import io.github.mcalgovisualizations.visualization.renderer.dispatch.AnimationPlan;
 
-import java.time.Duration;
-
+/**
+ * Swaps two displays along an arc: both rise, {@code x} above {@code y} so they
+ * pass each other, cross over and land. Each keyframe is one metadata packet per
+ * display that the client interpolates, so the arc costs three packets each.
+ */
 public final class SwapHandler implements AnimationHandler<Swap> {
     @Override
     public AnimationPlan handle(Swap event, RenderContext ctx) {
-        return AnimationPlan.instant(sceneOps -> {
-            sceneOps.setHighlighted(event.x(), true);
-            sceneOps.setHighlighted(event.y(), true);
-            sceneOps.swapSlots(event.x(), event.y());
-            sceneOps.setHighlighted(event.x(), false);
-            sceneOps.setHighlighted(event.y(), false);
-        });
+        final int x = event.x();
+        final int y = event.y();
+        final int t = Motion.PHASE_TICKS;
+
+        if (t == 0) {
+            return AnimationPlan.instant(sceneOps -> {
+                sceneOps.setHighlighted(x, true);
+                sceneOps.setHighlighted(y, true);
+                sceneOps.swapSlots(x, y);
+                sceneOps.setHighlighted(x, false);
+                sceneOps.setHighlighted(y, false);
+            });
+        }
+
+        return AnimationPlan.builder()
+                .step(t, sceneOps -> {
+                    sceneOps.setHighlighted(x, true);
+                    sceneOps.setHighlighted(y, true);
+                    sceneOps.animateSlotTo(x, x, Motion.SWAP_LIFT, t);
+                    sceneOps.animateSlotTo(y, y, Motion.SWAP_LIFT / 2, t);
+                })
+                .step(t, sceneOps -> {
+                    sceneOps.animateSlotTo(x, y, Motion.SWAP_LIFT, t);
+                    sceneOps.animateSlotTo(y, x, Motion.SWAP_LIFT / 2, t);
+                })
+                .step(t, sceneOps -> {
+                    sceneOps.animateSlotTo(x, y, 0, t);
+                    sceneOps.animateSlotTo(y, x, 0, t);
+                })
+                // The displays already stand in each other's slots, this only re-maps them
+                .step(0, sceneOps -> {
+                    sceneOps.swapSlots(x, y);
+                    sceneOps.setHighlighted(x, false);
+                    sceneOps.setHighlighted(y, false);
+                })
+                .build();
     }
 }
@@ -0,0 +1,13 @@
+package io.github.mcalgovisualizations.visualization.renderer.handlers;
+
+import io.github.mcalgovisualizations.visualization.algorithms.events.Unhighlight;
+import io.github.mcalgovisualizations.visualization.renderer.RenderContext;
+import io.github.mcalgovisualizations.visualization.renderer.dispatch.AnimationPlan;
+
+public class UnhighlightHandler implements AnimationHandler<Unhighlight> {
+
+    @Override
+    public AnimationPlan handle(Unhighlight event, RenderContext ctx) {
+        return AnimationPlan.instant(scene -> scene.setHighlighted(event.x(), false));
+    }
+}
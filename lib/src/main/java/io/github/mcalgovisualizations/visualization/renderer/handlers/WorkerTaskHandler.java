@@ -0,0 +1,20 @@
+package io.github.mcalgovisualizations.visualization.renderer.handlers;
+
+import io.github.mcalgovisualizations.visualization.algorithms.events.WorkerTask;
+import io.github.mcalgovisualizations.visualization.renderer.RenderContext;
+import io.github.mcalgovisualizations.visualization.renderer.dispatch.AnimationPlan;
+
+/**
+ * Highlights the run a worker thread handled, so parallel work shows where it happened.
+ */
+public class WorkerTaskHandler implements AnimationHandler<WorkerTask> {
+
+    @Override
+    public AnimationPlan handle(WorkerTask event, RenderContext ctx) {
+        return AnimationPlan.instant(scene -> {
+            for (int slot = event.from(); slot < event.to(); slot++) {
+                scene.setHighlighted(slot, true);
+            }
+        });
+    }
+}
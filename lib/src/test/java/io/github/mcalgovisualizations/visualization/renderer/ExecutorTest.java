@@ -0,0 +1,156 @@
+package io.github.mcalgovisualizations.visualization.renderer;
+
+import io.github.mcalgovisualizations.visualization.engine.TickBudget;
+import io.github.mcalgovisualizations.visualization.engine.TimingWheel;
+import io.github.mcalgovisualizations.visualization.layouts.LayoutResult;
+import io.github.mcalgovisualizations.visualization.renderer.dispatch.AnimationPlan;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.minestom.server.coordinate.Pos;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExecutorTest {
+
+    private static final long TICK = 50_000_000L;
+    private static final long MILLI = 1_000_000L;
+
+    /** Counts flushes; the plans record their own steps. */
+    private static final class CountingScene implements SceneOps {
+        int flushes = 0;
+
+        @Override public void onStart(LayoutResult[] model) {}
+        @Override public void cleanUp() {}
+        @Override public void setValue(int slot, int value) {}
+        @Override public void setHighlighted(int slot, boolean highlighted) {}
+        @Override public void clearHighlights() {}
+        @Override public void moveSlotTo(int slot, Pos position) {}
+        @Override public void swapSlots(int a, int b) {}
+        @Override public void permute(int[] sources) {}
+        @Override public void arrange(LayoutResult[] layout) {}
+        @Override public void animateSlotTo(int slot, int targetSlot, double lift, int ticks) {}
+        @Override public void scaleSlot(int slot, double factor, int ticks) {}
+        @Override public void playEffect(int slot, String effectId) {}
+        @Override public void sendMessage(String message, NamedTextColor color) {}
+        @Override public void flush() { flushes++; }
+    }
+
+    // The wheel's clock, moved a tick at a time, and the clock the budget
+    // measures steps with, moved by the steps themselves
+    private long wheelNow = 0;
+    private long workNow = 0;
+    private final TimingWheel wheel = new TimingWheel(TICK, 10, () -> wheelNow);
+
+    private void run(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            wheelNow += TICK;
+            wheel.advance();
+        }
+    }
+
+    /** {@code steps} steps that each take {@code costNanos} and wait {@code wait} ticks after. */
+    private AnimationPlan plan(List<String> log, String name, int steps, int wait, long costNanos) {
+        final var builder = AnimationPlan.builder();
+        for (int i = 0; i < steps; i++) {
+            final var label = name + i;
+            builder.step(wait, scene -> {
+                log.add(label);
+                workNow += costNanos;
+            });
+        }
+        return builder.build();
+    }
+
+    @Test
+    void stepsThatDoNotWaitDrainInOneTick() {
+        wheel.advance();
+        var scene = new CountingScene();
+        var executor = new Executor(scene, wheel, new TickBudget(5 * MILLI, () -> workNow));
+        var log = new ArrayList<String>();
+        executor.add(AnimationPlan.builder()
+                .step(0, s -> log.add("a"))
+                .step(0, s -> log.add("b"))
+                .step(2, s -> log.add("c"))
+                .step(0, s -> log.add("d"))
+                .build());
+        executor.startIfIdle();
+
+        run(1);
+        assertEquals(List.of("a", "b", "c"), log);
+        assertEquals(1, scene.flushes);
+
+        // c waits two ticks before d runs
+        run(2);
+        assertEquals(List.of("a", "b", "c"), log);
+        run(1);
+        assertEquals(List.of("a", "b", "c", "d"), log);
+
+        run(1);
+        assertTrue(executor.isIdle());
+    }
+
+    @Test
+    void finishingPendingPlansSkipsTheirWaits() {
+        wheel.advance();
+        var scene = new CountingScene();
+        var executor = new Executor(scene, wheel, new TickBudget(5 * MILLI, () -> workNow));
+        var log = new ArrayList<String>();
+        executor.add(plan(log, "a", 3, 4, 0));
+        executor.add(plan(log, "b", 2, 4, 0));
+        executor.startIfIdle();
+
+        run(1);
+        assertEquals(List.of("a0"), log);
+
+        // The next step arrives while a0 is still waiting
+        executor.finishPending();
+        assertEquals(List.of("a0", "a1", "a2", "b0", "b1"), log);
+
+        executor.add(plan(log, "c", 1, 0, 0));
+        executor.startIfIdle();
+        run(1);
+        assertEquals(List.of("a0", "a1", "a2", "b0", "b1", "c0"), log);
+        run(1);
+        assertTrue(executor.isIdle());
+    }
+
+    @Test
+    void sessionsShareOneBudgetPerTick() {
+        wheel.advance();
+        var budget = new TickBudget(3 * MILLI, () -> workNow);
+        var log = new ArrayList<String>();
+        var first = new Executor(new CountingScene(), wheel, budget);
+        var second = new Executor(new CountingScene(), wheel, budget);
+        first.add(plan(log, "a", 10, 0, MILLI));
+        second.add(plan(log, "b", 10, 0, MILLI));
+        first.startIfIdle();
+        second.startIfIdle();
+
+        // The first session spends the tick's budget, the second still gets one step
+        run(1);
+        assertEquals(List.of("a0", "a1", "a2", "b0"), log);
+
+        run(1);
+        assertEquals(List.of("a0", "a1", "a2", "b0", "a3", "a4", "a5", "b1"), log);
+    }
+
+    @Test
+    void missedTicksAreNotReplayedAfterALag() {
+        wheel.advance();
+        var log = new ArrayList<String>();
+        // Every step uses up the budget, so one runs per tick
+        var executor = new Executor(new CountingScene(), wheel, new TickBudget(MILLI, () -> workNow));
+        executor.add(plan(log, "a", 20, 0, MILLI));
+        executor.startIfIdle();
+
+        run(1);
+        assertEquals(1, log.size());
+
+        wheelNow += 10 * TICK;
+        wheel.advance();
+        assertEquals(2, log.size());
+    }
+}
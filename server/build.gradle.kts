@@ -43,6 +43,8 @@ tasks.shadowJar {
     }
     archiveBaseName.set("minecraft-server")
     archiveClassifier.set("all")
+    // Keeps every module's AlgorithmProvider entries in the one jar
+    mergeServiceFiles()
 }
 
 tasks.build {
@@ -1,11 +1,17 @@
 package io.github.mcalgovisualizations;
 
+import io.github.mcalgovisualizations.commands.Forward;
 import io.github.mcalgovisualizations.commands.Gamemode;
+import io.github.mcalgovisualizations.commands.Race;
 import io.github.mcalgovisualizations.commands.Greet;
+import io.github.mcalgovisualizations.commands.Invite;
+import io.github.mcalgovisualizations.commands.Seek;
 import io.github.mcalgovisualizations.commands.Spawn;
+import io.github.mcalgovisualizations.commands.Stats;
 import io.github.mcalgovisualizations.commands.Teleport;
 import io.github.mcalgovisualizations.gui.AlgorithmSelectorGUI;
 import io.github.mcalgovisualizations.items.VisualizationItems;
+import io.github.mcalgovisualizations.visualization.engine.RaceController;
 import io.github.mcalgovisualizations.visualization.engine.VisualizationController;
 import io.github.mcalgovisualizations.visualization.VisualizationManager;
 import net.kyori.adventure.text.Component;
@@ -42,6 +48,9 @@ public final class Main {
 
         visualizationControls(instance); // to be moved?
 
+        // Keep active sessions across restarts, restored on rejoin
+        MinecraftServer.getSchedulerManager().buildShutdownTask(VisualizationManager::saveSessions);
+
         server.start("0.0.0.0", 25565);
     }
 
@@ -71,11 +80,15 @@ public final class Main {
             // Send welcome message
             player.sendMessage(Component.text("Welcome to Algorithm Visualizations!", NamedTextColor.GREEN));
             player.sendMessage(Component.text("Right-click the Nether Star to select an algorithm to visualize!", NamedTextColor.YELLOW));
+
+            if (VisualizationManager.restoreVisualization(player, instance)) {
+                player.sendMessage(Component.text("Restored your visualization from before the restart.", NamedTextColor.AQUA));
+            }
         });
 
         // Cleanup visualization when player disconnects
         globalEventHandler.addListener(PlayerDisconnectEvent.class, event -> {
-            VisualizationManager.removeVisualization(event.getPlayer());
+            VisualizationManager.onDisconnect(event.getPlayer());
         });
 
     }
@@ -100,6 +113,27 @@ public final class Main {
                 return;
             }
 
+            // A race takes the same controls, for all of its lanes at once
+            RaceController race = VisualizationManager.getRace(player);
+            if (race != null) {
+                if (material == Material.ENDER_PEARL) {
+                    event.setCancelled(true); // Prevent teleportation
+                    race.randomize();
+                    player.sendMessage(Component.text("New race on shuffled values!", NamedTextColor.AQUA));
+                } else if (material == Material.LIME_DYE) {
+                    race.start(player);
+                    player.sendMessage(Component.text("Race started!", NamedTextColor.GREEN));
+                } else if (material == Material.RED_DYE) {
+                    race.stop();
+                    player.sendMessage(Component.text("Race stopped!", NamedTextColor.RED));
+                } else if (material == Material.ARROW) {
+                    race.step();
+                } else if (material == Material.SPECTRAL_ARROW) {
+                    player.sendMessage(Component.text("A race can only move forward", NamedTextColor.GOLD));
+                }
+                return;
+            }
+
             // All other items require an active visualization
             VisualizationController vis = VisualizationManager.getVisualization(player);
             if (vis == null) {
@@ -132,5 +166,10 @@ public final class Main {
         cm.register(new Teleport());
         cm.register(new Gamemode());
         cm.register(new Spawn());
+        cm.register(new Seek());
+        cm.register(new Forward());
+        cm.register(new Stats());
+        cm.register(new Race());
+        cm.register(new Invite());
     }
 }
\ No newline at end of file
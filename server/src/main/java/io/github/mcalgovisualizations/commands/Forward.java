@@ -0,0 +1,63 @@
+package io.github.mcalgovisualizations.commands;
+
+import io.github.mcalgovisualizations.visualization.VisualizationManager;
+import net.minestom.server.command.builder.Command;
+import net.minestom.server.command.builder.arguments.ArgumentType;
+import net.minestom.server.entity.Player;
+
+/**
+ * Skips the player's visualization ahead, rendering only the net change.
+ */
+public class Forward extends Command {
+
+    public Forward() {
+        super("forward");
+
+        setDefaultExecutor((sender, _) -> {
+            sender.sendMessage("Usage: /forward <steps> or /forward auto <stepsPerTick>");
+        });
+
+        registerSkip();
+        registerFastForward();
+    }
+
+    /**
+     * Command to skip a number of steps at once.
+     */
+    private void registerSkip() {
+        var steps = ArgumentType.Integer("steps").min(1);
+
+        addSyntax((sender, context) -> {
+            if (!(sender instanceof Player player)) return;
+
+            var vis = VisualizationManager.getVisualization(player);
+            if (vis == null) {
+                sender.sendMessage("No visualization assigned! Use the Algorithm Selector first.");
+                return;
+            }
+
+            vis.skip(context.get(steps));
+            sender.sendMessage("Skipped to step " + vis.position());
+        }, steps);
+    }
+
+    /**
+     * Command to keep playing a batch of steps every tick.
+     */
+    private void registerFastForward() {
+        var stepsPerTick = ArgumentType.Integer("stepsPerTick").min(1);
+
+        addSyntax((sender, context) -> {
+            if (!(sender instanceof Player player)) return;
+
+            var vis = VisualizationManager.getVisualization(player);
+            if (vis == null) {
+                sender.sendMessage("No visualization assigned! Use the Algorithm Selector first.");
+                return;
+            }
+
+            vis.fastForward(player, context.get(stepsPerTick));
+            sender.sendMessage("Fast-forwarding " + context.get(stepsPerTick) + " steps per tick");
+        }, ArgumentType.Literal("auto"), stepsPerTick);
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.mcalgovisualizations.commands;
+
+import io.github.mcalgovisualizations.visualization.VisualizationManager;
+import net.minestom.server.command.builder.Command;
+import net.minestom.server.command.builder.arguments.minecraft.ArgumentEntity;
+import net.minestom.server.entity.Player;
+import net.minestom.server.utils.entity.EntityFinder;
+
+/**
+ * Lets another player watch your visualizations, or stops them watching if
+ * they already do. Everyone else never receives your display entities.
+ */
+public class Invite extends Command {
+
+    public Invite() {
+        super("invite");
+
+        setDefaultExecutor((sender, _) -> {
+            sender.sendMessage("Usage: /invite <player>");
+        });
+
+        var targetArg = new ArgumentEntity("player").onlyPlayers(true).singleEntity(true);
+
+        targetArg.setCallback((sender, exception) -> {
+            sender.sendMessage("The player " + exception.getInput() + " is invalid!");
+        });
+
+        addSyntax((sender, context) -> {
+            if (!(sender instanceof Player owner)) return;
+
+            EntityFinder finder = context.get(targetArg);
+            Player target = finder.findFirstPlayer(sender);
+            if (target == null) {
+                sender.sendMessage("That player is not online.");
+                return;
+            }
+            if (target == owner) {
+                sender.sendMessage("You always see your own visualizations.");
+                return;
+            }
+
+            var viewers = VisualizationManager.viewersOf(owner);
+            if (viewers.addSpectator(target)) {
+                sender.sendMessage(target.getUsername() + " can now watch your visualizations. /invite them again to stop.");
+                target.sendMessage(owner.getUsername() + " invited you to watch their visualizations.");
+            } else {
+                viewers.removeSpectator(target);
+                sender.sendMessage(target.getUsername() + " no longer watches your visualizations.");
+                target.sendMessage("You stopped watching " + owner.getUsername() + "'s visualizations.");
+            }
+        }, targetArg);
+    }
+}
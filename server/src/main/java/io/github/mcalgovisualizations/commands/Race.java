@@ -0,0 +1,48 @@
+package io.github.mcalgovisualizations.commands;
+
+import io.github.mcalgovisualizations.items.VisualizationItems;
+import io.github.mcalgovisualizations.visualization.VisualizationManager;
+import net.minestom.server.command.builder.Command;
+import net.minestom.server.command.builder.arguments.ArgumentType;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.InstanceContainer;
+
+import java.util.Arrays;
+
+/**
+ * Races two to four sorting algorithms side by side on the same values.
+ */
+public class Race extends Command {
+
+    public Race() {
+        super("race");
+
+        setDefaultExecutor((sender, _) -> {
+            sender.sendMessage("Usage: /race <algorithm> <algorithm> [algorithm] [algorithm]");
+        });
+
+        var algorithms = ArgumentType.StringArray("algorithms");
+
+        addSyntax((sender, context) -> {
+            if (!(sender instanceof Player player)) return;
+            if (!(player.getInstance() instanceof InstanceContainer instance)) return;
+
+            var keys = Arrays.stream(context.get(algorithms)).map(String::toLowerCase).toList();
+            try {
+                VisualizationManager.assignRace(player, keys, instance);
+            } catch (IllegalArgumentException e) {
+                sender.sendMessage(e.getMessage());
+                return;
+            }
+
+            player.getInventory().clear();
+            player.getInventory().setItemStack(0, VisualizationItems.randomizeItem());
+            player.getInventory().setItemStack(1, VisualizationItems.startItem());
+            player.getInventory().setItemStack(2, VisualizationItems.stopItem());
+            player.getInventory().setItemStack(3, VisualizationItems.stepForwardItem());
+            player.getInventory().setItemStack(7, VisualizationItems.algorithmSelectorItem());
+            player.getInventory().setItemStack(8, VisualizationItems.spawnItem());
+            sender.sendMessage("Racing " + String.join(", ", keys) + ". Press start!");
+        }, algorithms);
+    }
+}
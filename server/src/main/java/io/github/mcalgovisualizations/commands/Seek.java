@@ -0,0 +1,66 @@
+package io.github.mcalgovisualizations.commands;
+
+import io.github.mcalgovisualizations.visualization.VisualizationManager;
+import net.minestom.server.command.builder.Command;
+import net.minestom.server.command.builder.arguments.ArgumentType;
+import net.minestom.server.entity.Player;
+
+/**
+ * Jumps the player's visualization to a step or to a percentage of the run.
+ */
+public class Seek extends Command {
+
+    public Seek() {
+        super("seek");
+
+        setDefaultExecutor((sender, _) -> {
+            sender.sendMessage("Usage: /seek <step> or /seek percent <0-100>");
+        });
+
+        registerSeekToStep();
+        registerSeekToPercent();
+    }
+
+    /**
+     * Command to jump to an absolute step index.
+     */
+    private void registerSeekToStep() {
+        var step = ArgumentType.Integer("step").min(0);
+
+        addSyntax((sender, context) -> {
+            if (!(sender instanceof Player player)) return;
+
+            var vis = VisualizationManager.getVisualization(player);
+            if (vis == null) {
+                sender.sendMessage("No visualization assigned! Use the Algorithm Selector first.");
+                return;
+            }
+
+            vis.seek(context.get(step));
+            sender.sendMessage("Jumped to step " + vis.position());
+        }, step);
+    }
+
+    /**
+     * Command to jump to a percentage of the whole run.
+     */
+    private void registerSeekToPercent() {
+        var percent = ArgumentType.Double("percent").between(0.0, 100.0);
+
+        addSyntax((sender, context) -> {
+            if (!(sender instanceof Player player)) return;
+
+            var vis = VisualizationManager.getVisualization(player);
+            if (vis == null) {
+                sender.sendMessage("No visualization assigned! Use the Algorithm Selector first.");
+                return;
+            }
+
+            if (!vis.seekPercent(context.get(percent))) {
+                sender.sendMessage("The length of the run is not known yet. Seek to a step, or try again once it has been computed.");
+                return;
+            }
+            sender.sendMessage("Jumped to step " + vis.position());
+        }, ArgumentType.Literal("percent"), percent);
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.mcalgovisualizations.commands;
+
+import io.github.mcalgovisualizations.visualization.VisualizationManager;
+import io.github.mcalgovisualizations.visualization.engine.VisualizationScheduler;
+import io.github.mcalgovisualizations.visualization.renderer.DisplayPool;
+import net.minestom.server.command.builder.Command;
+import net.minestom.server.entity.Player;
+
+/**
+ * Shows how many operations the player's algorithm has done up to the current step,
+ * how closely the visualization scheduler is keeping time and how often
+ * display entities are reused.
+ */
+public class Stats extends Command {
+
+    public Stats() {
+        super("stats");
+
+        setDefaultExecutor((sender, _) -> {
+            if (!(sender instanceof Player player)) return;
+
+            var vis = VisualizationManager.getVisualization(player);
+            if (vis == null) {
+                sender.sendMessage("No visualization assigned! Use the Algorithm Selector first.");
+                return;
+            }
+
+            var snapshot = vis.currentSnapshot();
+            if (snapshot == null) {
+                sender.sendMessage("The visualization has not started yet.");
+                return;
+            }
+
+            sender.sendMessage("Step " + vis.position() + ": " + snapshot.counts().summary());
+            sender.sendMessage("Scheduler: " + VisualizationScheduler.stats().summary());
+            sender.sendMessage("Display pool: " + DisplayPool.stats().summary());
+        });
+    }
+}
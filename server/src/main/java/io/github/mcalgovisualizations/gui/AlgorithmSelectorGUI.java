@@ -2,6 +2,8 @@ package io.github.mcalgovisualizations.gui;
 
 import io.github.mcalgovisualizations.items.VisualizationItems;
 import io.github.mcalgovisualizations.visualization.VisualizationManager;
+import io.github.mcalgovisualizations.visualization.algorithms.AlgorithmCatalog;
+import io.github.mcalgovisualizations.visualization.algorithms.AlgorithmDescriptor;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
@@ -15,47 +17,124 @@ import net.minestom.server.item.ItemStack;
 import net.minestom.server.item.Material;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * GUI for selecting which algorithm visualization to view.
- * Displays available algorithms in a chest inventory interface.
+ * Displays available algorithms in a chest inventory interface, a page of
+ * three rows at a time with the controls in the bottom row.
  */
 public class AlgorithmSelectorGUI {
-    private static final Map<String, AlgorithmInfo> ALGORITHMS = new HashMap<>();
+    /** Entries per page: the top three rows. */
+    private static final int PAGE_SIZE = 27;
+    private static final int PREVIOUS_SLOT = 27;
+    private static final int CLEAR_SLOT = 31;
+    private static final int NEXT_SLOT = 35;
+
+    /**
+     * Entries that are not algorithms of the catalog, shown after them.
+     * Algorithms themselves are listed from {@link AlgorithmCatalog}.
+     */
+    private static final Map<String, AlgorithmInfo> EXTRAS = new LinkedHashMap<>();
 
     static {
-        // Register available algorithms with their display information
-        ALGORITHMS.put("insertionsort", new AlgorithmInfo(
-                "Insertion Sort",
-                Material.IRON_SWORD,
-                "A simple sorting algorithm that builds",
-                "the final sorted array one item at a time.",
-                "Time: O(n²) | Space: O(1)"
+        EXTRAS.put("race", new AlgorithmInfo(
+                "Sorting Race",
+                Material.CLOCK,
+                "Four sorts side by side on the same",
+                "values. Pick others with /race.",
+                "Fewest steps wins"
         ));
 
-        ALGORITHMS.put("bfs", new AlgorithmInfo(
+        EXTRAS.put("bfs", new AlgorithmInfo(
                 "bfs",
                 Material.WIND_CHARGE,
                 "",
                 "",
                 ""
         ));
+    }
 
-        // Future algorithms can be added here
-        // ALGORITHMS.put("bubblesort", new AlgorithmInfo(...));
-        // ALGORITHMS.put("quicksort", new AlgorithmInfo(...));
-        // ALGORITHMS.put("bfs", new AlgorithmInfo(...));
+    /** Everything the selector offers: the catalog's algorithms, then the extras. */
+    private static Map<String, AlgorithmInfo> entries() {
+        final Map<String, AlgorithmInfo> entries = new LinkedHashMap<>();
+        for (AlgorithmDescriptor algorithm : AlgorithmCatalog.all()) {
+            Material icon = Material.fromKey(algorithm.icon());
+            entries.put(algorithm.key(), new AlgorithmInfo(
+                    algorithm.displayName(),
+                    icon != null ? icon : Material.PAPER,
+                    algorithm.description().isEmpty() ? "" : algorithm.description().get(0),
+                    algorithm.description().size() < 2 ? "" : algorithm.description().get(1),
+                    algorithm.complexity()
+            ));
+        }
+        entries.putAll(EXTRAS);
+        return entries;
     }
 
     /**
      * Opens the algorithm selector GUI for a player.
      */
     public static void openSelector(Player player, InstanceContainer instance) {
-        Inventory inventory = new Inventory(InventoryType.CHEST_3_ROW, Component.text("Select Algorithm", NamedTextColor.DARK_PURPLE));
+        Inventory inventory = new Inventory(InventoryType.CHEST_4_ROW, Component.text("Select Algorithm", NamedTextColor.DARK_PURPLE));
+
+        List<Map.Entry<String, AlgorithmInfo>> entries = List.copyOf(entries().entrySet());
+        int pages = Math.max(1, (entries.size() + PAGE_SIZE - 1) / PAGE_SIZE);
+        Map<Integer, String> keysBySlot = new HashMap<>();
+        int[] page = {0};
+        showPage(inventory, entries, page[0], pages, keysBySlot);
+
+        // Handle clicks using global event listener
+        MinecraftServer.getGlobalEventHandler().addListener(InventoryPreClickEvent.class, event -> {
+            if (event.getPlayer() != player) return;
+            if (event.getInventory() != inventory) return;
+
+            event.setCancelled(true); // Prevent taking items
+
+            ItemStack clickedItem = event.getClickedItem();
+            if (clickedItem.isAir()) return;
 
-        int slot = 10; // Start at centered position
-        for (Map.Entry<String, AlgorithmInfo> entry : ALGORITHMS.entrySet()) {
+            // Handle clear option
+            if (event.getSlot() == CLEAR_SLOT) {
+                clearPlayerVisualization(player);
+                player.closeInventory();
+                player.sendMessage(Component.text("Visualization cleared!", NamedTextColor.YELLOW));
+                return;
+            }
+
+            // Turn the page; the arrows are only there when there is a page to turn to
+            if (event.getSlot() == PREVIOUS_SLOT || event.getSlot() == NEXT_SLOT) {
+                page[0] += event.getSlot() == NEXT_SLOT ? 1 : -1;
+                showPage(inventory, entries, page[0], pages, keysBySlot);
+                return;
+            }
+
+            // Find which algorithm was clicked
+            String key = keysBySlot.get(event.getSlot());
+            if (key != null) {
+                selectAlgorithm(player, key, instance);
+                player.closeInventory();
+            }
+        });
+
+        player.openInventory(inventory);
+    }
+
+    /**
+     * Fills {@code inventory} with page {@code page} of {@code entries} and
+     * the controls, recording which key each slot selects.
+     */
+    private static void showPage(Inventory inventory, List<Map.Entry<String, AlgorithmInfo>> entries,
+                                 int page, int pages, Map<Integer, String> keysBySlot) {
+        inventory.clear();
+        keysBySlot.clear();
+
+        int first = page * PAGE_SIZE;
+        int last = Math.min(entries.size(), first + PAGE_SIZE);
+        for (int i = first; i < last; i++) {
+            Map.Entry<String, AlgorithmInfo> entry = entries.get(i);
             AlgorithmInfo info = entry.getValue();
 
             ItemStack item = ItemStack.builder(info.material())
@@ -75,10 +154,14 @@ public class AlgorithmSelectorGUI {
                     )
                     .build();
 
+            int slot = i - first;
             inventory.setItemStack(slot, item);
-            slot += 2; // Skip one slot for spacing
+            keysBySlot.put(slot, entry.getKey());
         }
 
+        if (page > 0) inventory.setItemStack(PREVIOUS_SLOT, pageItem("Previous Page", page, pages));
+        if (page < pages - 1) inventory.setItemStack(NEXT_SLOT, pageItem("Next Page", page + 2, pages));
+
         // Add a "Clear" option to remove current visualization
         ItemStack clearItem = ItemStack.builder(Material.BARRIER)
                 .customName(Component.text("Clear Visualization", NamedTextColor.RED)
@@ -90,37 +173,17 @@ public class AlgorithmSelectorGUI {
                                 .decoration(TextDecoration.ITALIC, false)
                 )
                 .build();
-        inventory.setItemStack(22, clearItem);
-
-        // Handle clicks using global event listener
-        MinecraftServer.getGlobalEventHandler().addListener(InventoryPreClickEvent.class, event -> {
-            if (event.getPlayer() != player) return;
-            if (event.getInventory() != inventory) return;
-
-            event.setCancelled(true); // Prevent taking items
-
-            ItemStack clickedItem = event.getClickedItem();
-            if (clickedItem.isAir()) return;
-
-            // Handle clear option
-            if (clickedItem.material() == Material.BARRIER) {
-                clearPlayerVisualization(player);
-                player.closeInventory();
-                player.sendMessage(Component.text("Visualization cleared!", NamedTextColor.YELLOW));
-                return;
-            }
-
-            // Find which algorithm was clicked
-            for (Map.Entry<String, AlgorithmInfo> entry : ALGORITHMS.entrySet()) {
-                if (clickedItem.material() == entry.getValue().material()) {
-                    selectAlgorithm(player, entry.getKey(), instance);
-                    player.closeInventory();
-                    return;
-                }
-            }
-        });
+        inventory.setItemStack(CLEAR_SLOT, clearItem);
+    }
 
-        player.openInventory(inventory);
+    /** An arrow leading to page {@code target} (counted from 1) of {@code pages}. */
+    private static ItemStack pageItem(String name, int target, int pages) {
+        return ItemStack.builder(Material.ARROW)
+                .customName(Component.text(name, NamedTextColor.AQUA)
+                        .decoration(TextDecoration.ITALIC, false))
+                .lore(Component.text("Page " + target + " of " + pages, NamedTextColor.GRAY)
+                        .decoration(TextDecoration.ITALIC, false))
+                .build();
     }
 
     /**
@@ -140,7 +203,7 @@ public class AlgorithmSelectorGUI {
         player.getInventory().setItemStack(7, VisualizationItems.algorithmSelectorItem());
         player.getInventory().setItemStack(8, VisualizationItems.spawnItem());
 
-        AlgorithmInfo info = ALGORITHMS.get(algorithmKey);
+        AlgorithmInfo info = entries().get(algorithmKey);
         player.sendMessage(Component.text("Selected: ", NamedTextColor.GREEN)
                 .append(Component.text(info.displayName(), NamedTextColor.GOLD)));
         player.sendMessage(Component.text("Use the items in your hotbar to control the visualization!", NamedTextColor.YELLOW));
@@ -157,11 +220,12 @@ public class AlgorithmSelectorGUI {
     }
 
     /**
-     * Registers a new algorithm to the selector.
+     * Registers a selector entry that is not an algorithm of the catalog.
+     * Algorithms are added through an {@code AlgorithmProvider} instead.
      */
-    public static void registerAlgorithm(String key, String displayName, Material icon,
-                                        String desc1, String desc2, String complexity) {
-        ALGORITHMS.put(key.toLowerCase(), new AlgorithmInfo(displayName, icon, desc1, desc2, complexity));
+    public static void registerExtra(String key, String displayName, Material icon,
+                                     String desc1, String desc2, String complexity) {
+        EXTRAS.put(key.toLowerCase(), new AlgorithmInfo(displayName, icon, desc1, desc2, complexity));
     }
 
     /**
@@ -11,6 +11,7 @@ plugins {
 }
 
 rootProject.name = "Visualising Data Structures"
+include("core")
 include("lib")
 
 include("server")
\ No newline at end of file